@@ -0,0 +1,102 @@
+package com.example.cosmocats.cache;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.domain.event.ProductChangeType;
+import com.example.cosmocats.domain.event.ProductChangedEvent;
+import com.example.cosmocats.repository.ProductRepository;
+import com.example.cosmocats.service.ProductService;
+import com.example.cosmocats.service.generator.SyntheticCatalogGenerator;
+import com.example.cosmocats.service.mapper.ProductMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Many threads reading the same hot product, as during a launch. "independent" is the previous
+// read path: every request looks the product up, maps it and serializes it. "coalesced" goes
+// through ProductResponseCache keyed by product id and version, as the controller now does.
+// writeEvery bumps the product version every that many reads (0 = never) to show the cost of
+// invalidation under a steady trickle of admin edits.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ProductLookupCoalescingBenchmark {
+
+  private static final int CATALOG_SIZE = 10_000;
+
+  @Param({"0", "1000", "100"})
+  private int writeEvery;
+
+  private ProductRepository productRepository;
+  private ProductService productService;
+  private ProductResponseCache productResponseCache;
+  private ObjectMapper objectMapper;
+  private Product hotProduct;
+  private final AtomicLong reads = new AtomicLong();
+
+  @Setup
+  public void setUp() {
+    LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    loggerContext.getLogger(ProductService.class).setLevel(Level.WARN);
+
+    productRepository = new ProductRepository();
+    List<Product> catalog = new SyntheticCatalogGenerator(42L).generateCatalog(CATALOG_SIZE);
+    productRepository.saveAll(catalog);
+    hotProduct = catalog.get(0);
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    productResponseCache = new ProductResponseCache(objectMapper);
+    productService = new ProductService(productRepository, Mappers.getMapper(ProductMapper.class));
+  }
+
+  @Benchmark
+  public byte[] independent() throws JsonProcessingException {
+    maybeWrite();
+    UUID id = hotProduct.getProductId();
+    productRepository.findVersionById(id);
+    return objectMapper.writeValueAsBytes(productService.getProductById(id));
+  }
+
+  @Benchmark
+  public byte[] coalesced() {
+    maybeWrite();
+    UUID id = hotProduct.getProductId();
+    long version = productRepository.findVersionById(id).orElseThrow();
+    return productResponseCache.getOrSerialize(
+        ProductResponseCache.productKey(id), version, () -> productService.getProductById(id));
+  }
+
+  private void maybeWrite() {
+    if (writeEvery > 0 && reads.incrementAndGet() % writeEvery == 0) {
+      productRepository.save(hotProduct);
+      productResponseCache.onProductChanged(
+          ProductChangedEvent.builder()
+              .type(ProductChangeType.UPDATED)
+              .productId(hotProduct.getProductId())
+              .product(hotProduct)
+              .build());
+    }
+  }
+}
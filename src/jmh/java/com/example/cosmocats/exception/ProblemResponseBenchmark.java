@@ -0,0 +1,95 @@
+package com.example.cosmocats.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// A lookup miss end to end, minus the servlet container: the exception is thrown from stackDepth
+// frames down, as it would be from the repository under a request, caught at the top and turned
+// into a response body. "legacy" is the previous behaviour: a full stack trace plus a
+// ProblemDetail serialized by Jackson.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProblemResponseBenchmark {
+
+  private static final ProblemResponseTemplate PRODUCT_NOT_FOUND =
+      ProblemResponseTemplate.of(HttpStatus.NOT_FOUND, "Product Not Found");
+
+  @Param({"16", "128"})
+  private int stackDepth;
+
+  private final UUID productId = UUID.fromString("550e8400-e29b-41d4-a716-446655440099");
+  private final String path = "/api/v1/products/" + productId;
+  private ObjectMapper objectMapper;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  }
+
+  @Benchmark
+  public byte[] legacy() throws JsonProcessingException {
+    RuntimeException ex =
+        missAt(stackDepth, id -> new RuntimeException("Product not found with id: " + id));
+    return objectMapper.writeValueAsBytes(problemDetail(ex));
+  }
+
+  @Benchmark
+  public byte[] stacklessProblemDetail() throws JsonProcessingException {
+    RuntimeException ex = missAt(stackDepth, ProductNotFoundException::new);
+    return objectMapper.writeValueAsBytes(problemDetail(ex));
+  }
+
+  @Benchmark
+  public byte[] stacklessTemplate() {
+    RuntimeException ex = missAt(stackDepth, ProductNotFoundException::new);
+    return PRODUCT_NOT_FOUND.render(ex.getMessage(), path);
+  }
+
+  private ProblemDetail problemDetail(RuntimeException ex) {
+    ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
+    problemDetail.setTitle("Product Not Found");
+    problemDetail.setDetail(ex.getMessage());
+    problemDetail.setInstance(URI.create(path));
+    problemDetail.setProperty("timestamp", LocalDateTime.now());
+    return problemDetail;
+  }
+
+  private RuntimeException missAt(int depth, Function<UUID, RuntimeException> exception) {
+    try {
+      throwAt(depth, exception);
+      return null;
+    } catch (RuntimeException ex) {
+      return ex;
+    }
+  }
+
+  private void throwAt(int depth, Function<UUID, RuntimeException> exception) {
+    if (depth == 0) {
+      throw exception.apply(productId);
+    }
+    throwAt(depth - 1, exception);
+  }
+}
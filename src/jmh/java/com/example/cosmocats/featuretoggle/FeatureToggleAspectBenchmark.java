@@ -0,0 +1,58 @@
+package com.example.cosmocats.featuretoggle;
+
+import com.example.cosmocats.featuretoggle.annotation.FeatureToggle;
+import com.example.cosmocats.featuretoggle.aspect.FeatureToggleAspect;
+import com.example.cosmocats.featuretoggle.config.FeatureToggleProperties;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeatureToggleAspectBenchmark {
+
+  private GuardedService direct;
+  private GuardedService guarded;
+
+  @Setup
+  public void setUp() {
+    FeatureToggleProperties properties = new FeatureToggleProperties();
+    properties.setToggles(Map.of(FeatureToggles.COSMO_CATS.getFeatureName(), true));
+
+    direct = new GuardedService();
+    AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new GuardedService());
+    proxyFactory.addAspect(new FeatureToggleAspect(new FeatureToggleService(properties)));
+    guarded = proxyFactory.getProxy();
+  }
+
+  @Benchmark
+  public String directInvocation() {
+    return direct.getCosmoCats();
+  }
+
+  @Benchmark
+  public String toggleGuardedInvocation() {
+    return guarded.getCosmoCats();
+  }
+
+  public static class GuardedService {
+    @FeatureToggle(FeatureToggles.COSMO_CATS)
+    public String getCosmoCats() {
+      return "cosmo cats";
+    }
+  }
+}
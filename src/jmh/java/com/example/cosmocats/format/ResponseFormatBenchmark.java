@@ -0,0 +1,87 @@
+package com.example.cosmocats.format;
+
+import com.example.cosmocats.dto.product.ProductDto;
+import com.example.cosmocats.dto.product.ProductListDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Encoding and decoding a product list as JSON and as CBOR through the same ObjectMapper, the way
+// the response cache and the message converters do. ResponseFormatTest checks that CBOR is the
+// smaller payload.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+  @Param({"100", "1000"})
+  private int listSize;
+
+  private ObjectMapper objectMapper;
+  private ProductListDto products;
+  private byte[] json;
+  private byte[] cbor;
+
+  @Setup
+  public void setUp() throws IOException {
+    objectMapper = JsonMapper.builder().addModule(new ParameterNamesModule()).build();
+    products =
+        ProductListDto.builder()
+            .products(
+                IntStream.range(0, listSize)
+                    .mapToObj(
+                        i ->
+                            ProductDto.builder()
+                                .productId(UUID.randomUUID())
+                                .category("Electronics")
+                                .name("Galaxy Phone " + i)
+                                .description("Advanced smartphone with cosmic design")
+                                .price(10f + i * 0.25f)
+                                .build())
+                    .toList())
+            .build();
+    json = encodeJson();
+    cbor = encodeCbor();
+  }
+
+  @Benchmark
+  public byte[] encodeJson() throws IOException {
+    return ResponseFormat.JSON.write(objectMapper, products);
+  }
+
+  @Benchmark
+  public byte[] encodeCbor() throws IOException {
+    return ResponseFormat.CBOR.write(objectMapper, products);
+  }
+
+  @Benchmark
+  public ProductListDto decodeJson() throws IOException {
+    return objectMapper.readValue(json, ProductListDto.class);
+  }
+
+  @Benchmark
+  public ProductListDto decodeCbor() throws IOException {
+    TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+    CborDecoder.decode(cbor, tokens);
+    return objectMapper.readValue(tokens.asParser(objectMapper), ProductListDto.class);
+  }
+}
@@ -0,0 +1,135 @@
+package com.example.cosmocats.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.dto.product.ProductDto;
+import com.example.cosmocats.repository.ProductRepository;
+import com.example.cosmocats.service.ProductService;
+import com.example.cosmocats.service.generator.SyntheticCatalogGenerator;
+import com.example.cosmocats.service.mapper.ProductMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+// Compares ProductService.getProductById throughput under the default synchronous text logging
+// with the async-logging profile: structured events through the async appender, with and without
+// the hot-path rate limiter. Logs go to a temp file so that the console is not the bottleneck.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductServiceLoggingBenchmark {
+
+  private static final int CATALOG_SIZE = 10_000;
+
+  @Param({"sync", "async", "async-sampled"})
+  private String mode;
+
+  private ProductService productService;
+  private UUID[] productIds;
+  private LoggerContext loggerContext;
+  private Path logFile;
+
+  @Setup
+  public void setUp() throws IOException {
+    ProductRepository productRepository = new ProductRepository();
+    List<Product> catalog = new SyntheticCatalogGenerator(42L).generateCatalog(CATALOG_SIZE);
+    productRepository.saveAll(catalog);
+    productIds = catalog.stream().map(Product::getProductId).toArray(UUID[]::new);
+    productService = new ProductService(productRepository, Mappers.getMapper(ProductMapper.class));
+
+    logFile = Files.createTempFile("cosmocats-logging-benchmark", ".log");
+    loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    loggerContext.reset();
+    loggerContext.putObject(Environment.class.getName(), new StandardEnvironment());
+    configure();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    loggerContext.stop();
+    Files.deleteIfExists(logFile);
+  }
+
+  @Benchmark
+  public ProductDto getProductById() {
+    return productService.getProductById(
+        productIds[ThreadLocalRandom.current().nextInt(CATALOG_SIZE)]);
+  }
+
+  private void configure() {
+    Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+    root.setLevel(Level.INFO);
+    if (mode.equals("sync")) {
+      PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+      encoder.setContext(loggerContext);
+      encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%t] %-40.40logger{39} : %m%n");
+      encoder.start();
+      root.addAppender(fileAppender(encoder));
+      return;
+    }
+
+    StructuredLogEncoder encoder = new StructuredLogEncoder();
+    encoder.setContext(loggerContext);
+    encoder.setFormat("ecs");
+    encoder.start();
+
+    AsyncAppender async = new AsyncAppender();
+    async.setContext(loggerContext);
+    async.setQueueSize(8192);
+    async.setNeverBlock(false);
+    async.setIncludeCallerData(false);
+    async.addAppender(fileAppender(encoder));
+    async.start();
+    root.addAppender(async);
+
+    if (mode.equals("async-sampled")) {
+      HotPathLogRateLimiter rateLimiter = new HotPathLogRateLimiter();
+      rateLimiter.setContext(loggerContext);
+      rateLimiter.addLoggerName(ProductService.class.getName());
+      rateLimiter.setPermitsPerSecond(10);
+      rateLimiter.start();
+      loggerContext.addTurboFilter(rateLimiter);
+    }
+  }
+
+  private Appender<ILoggingEvent> fileAppender(Encoder<ILoggingEvent> encoder) {
+    FileAppender<ILoggingEvent> appender = new FileAppender<>();
+    appender.setContext(loggerContext);
+    appender.setFile(logFile.toString());
+    appender.setEncoder(encoder);
+    appender.start();
+    return appender;
+  }
+}
@@ -0,0 +1,77 @@
+package com.example.cosmocats.metrics;
+
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.metrics.aspect.OperationMetricsAspect;
+import com.example.cosmocats.repository.ProductRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationMetricsAspectBenchmark {
+
+  private static final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+  private ProductRepository direct;
+  private ProductRepository proxied;
+  private ProductRepository monitored;
+  private Timer timer;
+
+  @Setup
+  public void setUp() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    direct = new ProductRepository();
+
+    AspectJProxyFactory plainProxyFactory = new AspectJProxyFactory(new ProductRepository());
+    plainProxyFactory.setProxyTargetClass(true);
+    proxied = plainProxyFactory.getProxy();
+
+    AspectJProxyFactory monitoredProxyFactory = new AspectJProxyFactory(new ProductRepository());
+    monitoredProxyFactory.setProxyTargetClass(true);
+    monitoredProxyFactory.addAspect(new OperationMetricsAspect(meterRegistry));
+    monitored = monitoredProxyFactory.getProxy();
+
+    timer = Timer.builder("benchmark.timer").register(meterRegistry);
+  }
+
+  @Benchmark
+  public Optional<Product> directInvocation() {
+    return direct.findById(PRODUCT_ID);
+  }
+
+  @Benchmark
+  public Optional<Product> proxiedInvocation() {
+    return proxied.findById(PRODUCT_ID);
+  }
+
+  @Benchmark
+  public Optional<Product> monitoredInvocation() {
+    return monitored.findById(PRODUCT_ID);
+  }
+
+  @Benchmark
+  public Optional<Product> manualTimerInvocation() {
+    long start = System.nanoTime();
+    Optional<Product> product = direct.findById(PRODUCT_ID);
+    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return product;
+  }
+}
@@ -0,0 +1,74 @@
+package com.example.cosmocats.projection;
+
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.service.mapper.ProductMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Serializing a product list in full (map to DTOs, then let Jackson introspect them) against
+// writing a sparse fieldset straight from the domain products. ProductProjectionTest checks that
+// the sparse payloads are the smaller ones.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductProjectionBenchmark {
+
+  @Param({"100", "1000"})
+  private int listSize;
+
+  @Param({"productId,name,price", "productId"})
+  private String fields;
+
+  private ObjectMapper objectMapper;
+  private ProductMapper productMapper;
+  private ProductProjection projection;
+  private List<Product> products;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new ObjectMapper();
+    productMapper = Mappers.getMapper(ProductMapper.class);
+    projection = ProductProjection.of(fields);
+    products =
+        IntStream.range(0, listSize)
+            .mapToObj(
+                i ->
+                    Product.builder()
+                        .productId(UUID.randomUUID())
+                        .category("Electronics")
+                        .name("Galaxy Phone " + i)
+                        .description("Advanced smartphone with cosmic design and a quantum core")
+                        .price(999.99f)
+                        .build())
+            .toList();
+  }
+
+  @Benchmark
+  public byte[] fullList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(productMapper.toProductListDto(products));
+  }
+
+  @Benchmark
+  public byte[] projectedList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(projection.project(products));
+  }
+}
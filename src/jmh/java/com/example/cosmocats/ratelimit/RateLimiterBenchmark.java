@@ -0,0 +1,47 @@
+package com.example.cosmocats.ratelimit;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Checks per second for one hot client and for checks spread over many clients. Limits are high
+// enough that every check is admitted, so the numbers are the cost of the bucket update itself.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+  @Param({"1", "10000", "100000"})
+  private int clients;
+
+  private RateLimiter rateLimiter;
+  private String[] clientIds;
+
+  @Setup
+  public void setUp() {
+    rateLimiter = new RateLimiter("reads", RateLimiter.MAX_CAPACITY, 1_000_000, 1_000_000);
+    clientIds = new String[clients];
+    for (int i = 0; i < clients; i++) {
+      clientIds[i] = "10.0." + (i >> 8) + "." + (i & 0xFF);
+      rateLimiter.tryAcquire(clientIds[i]);
+    }
+  }
+
+  @Benchmark
+  public long tryAcquire() {
+    return rateLimiter.tryAcquire(clientIds[ThreadLocalRandom.current().nextInt(clients)]);
+  }
+}
@@ -0,0 +1,87 @@
+package com.example.cosmocats.repository;
+
+import com.example.cosmocats.domain.PriceBucket;
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.domain.ProductFilter;
+import com.example.cosmocats.domain.ProductFilterResult;
+import com.example.cosmocats.service.generator.SyntheticCatalogGenerator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// A three-way storefront filter (category, price bucket and a name term) returning the match count
+// and the first page. "scan" evaluates the same predicate over every product, which is what
+// chaining per-attribute filters in the service amounts to; "bitmap" resolves it on the indexes.
+// The 10M catalog needs a heap of roughly 12g.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx12g"})
+public class ProductFilterBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+  private static final ProductFilter FILTER =
+      ProductFilter.builder()
+          .category("Toys")
+          .priceBucket(PriceBucket.FROM_10_TO_25)
+          .term("wireless")
+          .build();
+  private static final Predicate<Product> PREDICATE =
+      product ->
+          "toys".equalsIgnoreCase(product.getCategory())
+              && product.getPrice() != null
+              && PriceBucket.of(product.getPrice()) == PriceBucket.FROM_10_TO_25
+              && product.getName().toLowerCase(Locale.ROOT).contains("wireless");
+
+  @Param({"1000000", "10000000"})
+  private int catalogSize;
+
+  private ProductRepository productRepository;
+  private List<Collection<Product>> segments;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    productRepository = new ProductRepository();
+    productRepository.saveAll(new SyntheticCatalogGenerator(42L).generateCatalog(catalogSize));
+    segments = productRepository.segments();
+  }
+
+  @Benchmark
+  public ProductFilterResult bitmap() {
+    return productRepository.findAllByFilter(FILTER, PAGE_SIZE);
+  }
+
+  @Benchmark
+  public ProductFilterResult scan() {
+    long total = 0;
+    List<Product> page = new ArrayList<>(PAGE_SIZE);
+    for (Collection<Product> segment : segments) {
+      for (Product product : segment) {
+        if (PREDICATE.test(product)) {
+          total++;
+          if (page.size() < PAGE_SIZE) {
+            page.add(product);
+          }
+        }
+      }
+    }
+    return ProductFilterResult.builder().total(total).products(page).build();
+  }
+}
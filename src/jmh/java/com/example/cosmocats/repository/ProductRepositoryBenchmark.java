@@ -0,0 +1,69 @@
+package com.example.cosmocats.repository;
+
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.service.generator.SyntheticCatalogGenerator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class ProductRepositoryBenchmark {
+
+  @Param({"1000", "10000", "100000", "1000000", "10000000"})
+  private int catalogSize;
+
+  private ProductRepository productRepository;
+  private UUID[] productIds;
+  private Product[] products;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    productRepository = new ProductRepository();
+    List<Product> catalog = new SyntheticCatalogGenerator(42L).generateCatalog(catalogSize);
+    productRepository.saveAll(catalog);
+    products = catalog.toArray(Product[]::new);
+    productIds = catalog.stream().map(Product::getProductId).toArray(UUID[]::new);
+  }
+
+  @Benchmark
+  public Object findById() {
+    return productRepository.findById(productIds[nextIndex()]);
+  }
+
+  @Benchmark
+  public Product saveExisting() {
+    return productRepository.save(products[nextIndex()]);
+  }
+
+  @Benchmark
+  public boolean existsByNameHit() {
+    return productRepository.existsByName(products[nextIndex()].getName());
+  }
+
+  @Benchmark
+  public boolean existsByNameMiss() {
+    return productRepository.existsByName("Missing Nebula Product");
+  }
+
+  private int nextIndex() {
+    return ThreadLocalRandom.current().nextInt(catalogSize);
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.cosmocats.repository;
+
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.service.generator.SyntheticCatalogGenerator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Write throughput as writer threads are added. One shard is the old single-map layout, where every
+// save merges into the same category version entries; run once per thread count to get the scaling
+// curve, e.g. -t 1, -t 8, -t 64 (or -PjmhThreads=N through Gradle).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class ProductRepositoryWriteBenchmark {
+
+  @Param({"1", "16", "64"})
+  private int shards;
+
+  @Param({"100000"})
+  private int catalogSize;
+
+  private ProductRepository productRepository;
+  private Product[] products;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    productRepository = new ProductRepository(shards);
+    List<Product> catalog = new SyntheticCatalogGenerator(42L).generateCatalog(catalogSize);
+    productRepository.saveAll(catalog);
+    products = catalog.toArray(Product[]::new);
+  }
+
+  @Benchmark
+  public Product saveExisting() {
+    return productRepository.save(products[ThreadLocalRandom.current().nextInt(products.length)]);
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.cosmocats.repository;
+
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.service.generator.SyntheticCatalogGenerator;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Where forking an unindexed description search starts to pay off: the same top-20 substring
+// query forced sequential and forced parallel over growing catalogs. The crossover catalog size
+// is what ProductRepository.PARALLEL_SCAN_THRESHOLD should be set to on the target hardware.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class ProductScanCrossoverBenchmark {
+
+  private static final Comparator<Product> BY_NAME =
+      Comparator.comparing(Product::getName).thenComparing(Product::getProductId);
+  private static final Predicate<Product> DESCRIPTION_MATCH =
+      product -> product.getDescription() != null && product.getDescription().contains("night");
+
+  @Param({"1000", "3000", "10000", "30000", "100000", "1000000"})
+  private int catalogSize;
+
+  private List<Collection<Product>> segments;
+  private ProductScanExecutor sequential;
+  private ProductScanExecutor parallel;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    ProductRepository productRepository = new ProductRepository();
+    productRepository.saveAll(new SyntheticCatalogGenerator(42L).generateCatalog(catalogSize));
+    segments = productRepository.segments();
+    sequential = new ProductScanExecutor(Long.MAX_VALUE);
+    parallel = new ProductScanExecutor(0);
+  }
+
+  @Benchmark
+  public List<Product> sequential() {
+    return sequential.execute(segments, DESCRIPTION_MATCH, BY_NAME, 20);
+  }
+
+  @Benchmark
+  public List<Product> parallel() {
+    return parallel.execute(segments, DESCRIPTION_MATCH, BY_NAME, 20);
+  }
+}
@@ -0,0 +1,65 @@
+package com.example.cosmocats.service.mapper;
+
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.dto.product.ProductDto;
+import com.example.cosmocats.dto.product.ProductListDto;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMapperBenchmark {
+
+  @Param({"10", "1000"})
+  private int listSize;
+
+  private ProductMapper productMapper;
+  private Product product;
+  private List<Product> products;
+
+  @Setup
+  public void setUp() {
+    productMapper = Mappers.getMapper(ProductMapper.class);
+    products =
+        IntStream.range(0, listSize)
+            .mapToObj(
+                i ->
+                    Product.builder()
+                        .productId(UUID.randomUUID())
+                        .category("Electronics")
+                        .name("Galaxy Phone " + i)
+                        .description("Advanced smartphone with cosmic design")
+                        .price(999.99f)
+                        .build())
+            .toList();
+    product = products.get(0);
+  }
+
+  @Benchmark
+  public ProductDto toProductDto() {
+    return productMapper.toProductDto(product);
+  }
+
+  @Benchmark
+  public ProductListDto toProductListDto() {
+    return productMapper.toProductListDto(products);
+  }
+}
@@ -0,0 +1,46 @@
+package com.example.cosmocats.validation;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.annotation.AnnotationUtils;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CosmicWordValidatorBenchmark {
+
+  @Param({"Galaxy Phone", "Ultra Slim Kitchen Blender Deluxe Edition"})
+  private String name;
+
+  private CosmicWordValidator validator;
+
+  @CosmicWordCheck
+  private String annotatedField;
+
+  @Setup
+  public void setUp() throws NoSuchFieldException {
+    validator = new CosmicWordValidator();
+    validator.initialize(
+        AnnotationUtils.findAnnotation(
+            CosmicWordValidatorBenchmark.class.getDeclaredField("annotatedField"),
+            CosmicWordCheck.class));
+  }
+
+  @Benchmark
+  public boolean isValid() {
+    return validator.isValid(name, null);
+  }
+}
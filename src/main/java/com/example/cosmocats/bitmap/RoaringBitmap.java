@@ -0,0 +1,521 @@
+package com.example.cosmocats.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+// Compressed set of non-negative ints in the Roaring layout: values are grouped by their high 16
+// bits, and each group's low 16 bits live in a sorted char array while the group holds at most
+// 4096 values and in a 65536-bit bitmap once it holds more, so both sparse and dense sets stay
+// small and set operations work a container at a time. Run containers are not implemented; dense
+// ordinal ranges are covered well enough by bitmap containers.
+//
+// Not thread-safe: callers guard a bitmap together with whatever it indexes.
+public final class RoaringBitmap {
+
+  static final int ARRAY_MAX = 4096;
+
+  private char[] keys;
+  private Container[] containers;
+  private int size;
+
+  public RoaringBitmap() {
+    this(new char[4], new Container[4], 0);
+  }
+
+  private RoaringBitmap(char[] keys, Container[] containers, int size) {
+    this.keys = keys;
+    this.containers = containers;
+    this.size = size;
+  }
+
+  public static RoaringBitmap of(int... values) {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    for (int value : values) {
+      bitmap.add(value);
+    }
+    return bitmap;
+  }
+
+  public boolean add(int value) {
+    char high = high(value);
+    int index = find(high);
+    if (index < 0) {
+      index = -index - 1;
+      insert(index, high, new ArrayContainer());
+    }
+    Container container = containers[index];
+    long before = container.cardinality();
+    containers[index] = container.add(low(value));
+    return containers[index].cardinality() > before;
+  }
+
+  public boolean remove(int value) {
+    int index = find(high(value));
+    if (index < 0) {
+      return false;
+    }
+    Container container = containers[index];
+    long before = container.cardinality();
+    Container updated = container.remove(low(value));
+    if (updated.cardinality() == 0) {
+      delete(index);
+    } else {
+      containers[index] = updated;
+    }
+    return updated.cardinality() < before;
+  }
+
+  public boolean contains(int value) {
+    int index = find(high(value));
+    return index >= 0 && containers[index].contains(low(value));
+  }
+
+  public long cardinality() {
+    long cardinality = 0;
+    for (int i = 0; i < size; i++) {
+      cardinality += containers[i].cardinality();
+    }
+    return cardinality;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public RoaringBitmap copy() {
+    Container[] copied = new Container[Math.max(size, 1)];
+    for (int i = 0; i < size; i++) {
+      copied[i] = containers[i].copy();
+    }
+    return new RoaringBitmap(Arrays.copyOf(keys, copied.length), copied, size);
+  }
+
+  // In-place intersection; only keys present in both bitmaps are visited.
+  public void and(RoaringBitmap other) {
+    int kept = 0;
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      } else if (keys[i] > other.keys[j]) {
+        j++;
+      } else {
+        Container result = containers[i].and(other.containers[j]);
+        if (result.cardinality() > 0) {
+          keys[kept] = keys[i];
+          containers[kept++] = result;
+        }
+        i++;
+        j++;
+      }
+    }
+    truncate(kept);
+  }
+
+  // In-place union; containers taken from the other bitmap are copied so the two never share one.
+  public void or(RoaringBitmap other) {
+    int capacity = size + other.size;
+    char[] mergedKeys = new char[Math.max(capacity, 1)];
+    Container[] merged = new Container[mergedKeys.length];
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < size || j < other.size) {
+      if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+        mergedKeys[count] = keys[i];
+        merged[count++] = containers[i++];
+      } else if (i == size || keys[i] > other.keys[j]) {
+        mergedKeys[count] = other.keys[j];
+        merged[count++] = other.containers[j++].copy();
+      } else {
+        mergedKeys[count] = keys[i];
+        merged[count++] = containers[i++].or(other.containers[j++]);
+      }
+    }
+    keys = mergedKeys;
+    containers = merged;
+    size = count;
+  }
+
+  // In-place difference: removes every value the other bitmap holds.
+  public void andNot(RoaringBitmap other) {
+    int kept = 0;
+    int j = 0;
+    for (int i = 0; i < size; i++) {
+      while (j < other.size && other.keys[j] < keys[i]) {
+        j++;
+      }
+      Container result =
+          j < other.size && other.keys[j] == keys[i]
+              ? containers[i].andNot(other.containers[j])
+              : containers[i];
+      if (result.cardinality() > 0) {
+        keys[kept] = keys[i];
+        containers[kept++] = result;
+      }
+    }
+    truncate(kept);
+  }
+
+  // Visits values in ascending order until the consumer returns false.
+  public void forEach(IntPredicate consumer) {
+    for (int i = 0; i < size; i++) {
+      if (!containers[i].forEach(keys[i] << 16, consumer)) {
+        return;
+      }
+    }
+  }
+
+  private int find(char high) {
+    return Arrays.binarySearch(keys, 0, size, high);
+  }
+
+  private void insert(int index, char high, Container container) {
+    if (size == keys.length) {
+      int capacity = Math.max(4, size * 2);
+      keys = Arrays.copyOf(keys, capacity);
+      containers = Arrays.copyOf(containers, capacity);
+    }
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(containers, index, containers, index + 1, size - index);
+    keys[index] = high;
+    containers[index] = container;
+    size++;
+  }
+
+  private void delete(int index) {
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+    containers[--size] = null;
+  }
+
+  private void truncate(int newSize) {
+    Arrays.fill(containers, newSize, size, null);
+    size = newSize;
+  }
+
+  private static char high(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Bitmap values must not be negative, got " + value);
+    }
+    return (char) (value >>> 16);
+  }
+
+  private static char low(int value) {
+    return (char) value;
+  }
+
+  private abstract static sealed class Container permits ArrayContainer, BitmapContainer {
+
+    abstract Container add(char value);
+
+    abstract Container remove(char value);
+
+    abstract boolean contains(char value);
+
+    abstract int cardinality();
+
+    abstract Container copy();
+
+    abstract Container and(Container other);
+
+    abstract Container or(Container other);
+
+    abstract Container andNot(Container other);
+
+    abstract boolean forEach(int base, IntPredicate consumer);
+  }
+
+  private static final class ArrayContainer extends Container {
+
+    private char[] values;
+    private int cardinality;
+
+    private ArrayContainer() {
+      this(new char[4], 0);
+    }
+
+    private ArrayContainer(char[] values, int cardinality) {
+      this.values = values;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(char value) {
+      int index = Arrays.binarySearch(values, 0, cardinality, value);
+      if (index >= 0) {
+        return this;
+      }
+      if (cardinality == ARRAY_MAX) {
+        return toBitmap().add(value);
+      }
+      index = -index - 1;
+      if (cardinality == values.length) {
+        values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+      }
+      System.arraycopy(values, index, values, index + 1, cardinality - index);
+      values[index] = value;
+      cardinality++;
+      return this;
+    }
+
+    @Override
+    Container remove(char value) {
+      int index = Arrays.binarySearch(values, 0, cardinality, value);
+      if (index >= 0) {
+        System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+        cardinality--;
+      }
+      return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    Container copy() {
+      return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+    }
+
+    @Override
+    Container and(Container other) {
+      char[] result = new char[cardinality];
+      int count = 0;
+      if (other instanceof ArrayContainer array) {
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < array.cardinality) {
+          if (values[i] < array.values[j]) {
+            i++;
+          } else if (values[i] > array.values[j]) {
+            j++;
+          } else {
+            result[count++] = values[i++];
+            j++;
+          }
+        }
+      } else {
+        for (int i = 0; i < cardinality; i++) {
+          if (other.contains(values[i])) {
+            result[count++] = values[i];
+          }
+        }
+      }
+      return new ArrayContainer(result, count);
+    }
+
+    @Override
+    Container or(Container other) {
+      if (other instanceof BitmapContainer bitmap) {
+        return bitmap.or(this);
+      }
+      ArrayContainer array = (ArrayContainer) other;
+      char[] result = new char[cardinality + array.cardinality];
+      int count = 0;
+      int i = 0;
+      int j = 0;
+      while (i < cardinality || j < array.cardinality) {
+        if (j == array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+          result[count++] = values[i++];
+        } else if (i == cardinality || values[i] > array.values[j]) {
+          result[count++] = array.values[j++];
+        } else {
+          result[count++] = values[i++];
+          j++;
+        }
+      }
+      ArrayContainer merged = new ArrayContainer(result, count);
+      return count > ARRAY_MAX ? merged.toBitmap() : merged;
+    }
+
+    @Override
+    Container andNot(Container other) {
+      char[] result = new char[cardinality];
+      int count = 0;
+      for (int i = 0; i < cardinality; i++) {
+        if (!other.contains(values[i])) {
+          result[count++] = values[i];
+        }
+      }
+      return new ArrayContainer(result, count);
+    }
+
+    @Override
+    boolean forEach(int base, IntPredicate consumer) {
+      for (int i = 0; i < cardinality; i++) {
+        if (!consumer.test(base | values[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private BitmapContainer toBitmap() {
+      BitmapContainer bitmap = new BitmapContainer();
+      for (int i = 0; i < cardinality; i++) {
+        bitmap.set(values[i]);
+      }
+      return bitmap;
+    }
+  }
+
+  private static final class BitmapContainer extends Container {
+
+    private static final int WORDS = 1024;
+
+    private final long[] words;
+    private int cardinality;
+
+    private BitmapContainer() {
+      this(new long[WORDS], 0);
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(char value) {
+      set(value);
+      return this;
+    }
+
+    @Override
+    Container remove(char value) {
+      long word = words[value >>> 6];
+      long cleared = word & ~(1L << value);
+      if (cleared != word) {
+        words[value >>> 6] = cleared;
+        cardinality--;
+      }
+      return cardinality <= ARRAY_MAX ? toArray() : this;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    Container copy() {
+      return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    Container and(Container other) {
+      if (other instanceof ArrayContainer array) {
+        return array.and(this);
+      }
+      long[] otherWords = ((BitmapContainer) other).words;
+      long[] result = new long[WORDS];
+      int count = 0;
+      for (int i = 0; i < WORDS; i++) {
+        result[i] = words[i] & otherWords[i];
+        count += Long.bitCount(result[i]);
+      }
+      return normalize(result, count);
+    }
+
+    @Override
+    Container or(Container other) {
+      long[] result = words.clone();
+      int count = cardinality;
+      if (other instanceof ArrayContainer array) {
+        for (int i = 0; i < array.cardinality; i++) {
+          char value = array.values[i];
+          long bit = 1L << value;
+          if ((result[value >>> 6] & bit) == 0) {
+            result[value >>> 6] |= bit;
+            count++;
+          }
+        }
+      } else {
+        long[] otherWords = ((BitmapContainer) other).words;
+        count = 0;
+        for (int i = 0; i < WORDS; i++) {
+          result[i] |= otherWords[i];
+          count += Long.bitCount(result[i]);
+        }
+      }
+      return new BitmapContainer(result, count);
+    }
+
+    @Override
+    Container andNot(Container other) {
+      long[] result = words.clone();
+      int count = cardinality;
+      if (other instanceof ArrayContainer array) {
+        for (int i = 0; i < array.cardinality; i++) {
+          char value = array.values[i];
+          long bit = 1L << value;
+          if ((result[value >>> 6] & bit) != 0) {
+            result[value >>> 6] &= ~bit;
+            count--;
+          }
+        }
+      } else {
+        long[] otherWords = ((BitmapContainer) other).words;
+        count = 0;
+        for (int i = 0; i < WORDS; i++) {
+          result[i] &= ~otherWords[i];
+          count += Long.bitCount(result[i]);
+        }
+      }
+      return normalize(result, count);
+    }
+
+    @Override
+    boolean forEach(int base, IntPredicate consumer) {
+      for (int i = 0; i < WORDS; i++) {
+        long word = words[i];
+        while (word != 0) {
+          if (!consumer.test(base | (i << 6) + Long.numberOfTrailingZeros(word))) {
+            return false;
+          }
+          word &= word - 1;
+        }
+      }
+      return true;
+    }
+
+    private void set(char value) {
+      long word = words[value >>> 6];
+      long updated = word | (1L << value);
+      if (updated != word) {
+        words[value >>> 6] = updated;
+        cardinality++;
+      }
+    }
+
+    private ArrayContainer toArray() {
+      char[] values = new char[Math.max(cardinality, 1)];
+      int[] count = {0};
+      forEach(
+          0,
+          value -> {
+            values[count[0]++] = (char) value;
+            return true;
+          });
+      return new ArrayContainer(values, cardinality);
+    }
+
+    private static Container normalize(long[] words, int cardinality) {
+      BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+      return cardinality <= ARRAY_MAX ? bitmap.toArray() : bitmap;
+    }
+  }
+}
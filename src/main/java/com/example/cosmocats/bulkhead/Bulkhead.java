@@ -0,0 +1,62 @@
+package com.example.cosmocats.bulkhead;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Caps how many servlet threads one group of endpoints can hold: maxConcurrent running plus at
+// most maxQueued waiting up to maxWait for a permit. Anything beyond that is refused at once, so
+// a stalled group can never take the threads another group needs.
+public class Bulkhead {
+
+  private final String name;
+  private final int maxConcurrent;
+  private final int maxQueued;
+  private final long maxWaitNanos;
+  private final Semaphore permits;
+  private final AtomicInteger queued = new AtomicInteger();
+
+  public Bulkhead(String name, int maxConcurrent, int maxQueued, Duration maxWait) {
+    if (maxConcurrent < 1 || maxQueued < 0) {
+      throw new IllegalArgumentException(
+          "Bulkhead '" + name + "' needs at least one permit and a non-negative queue");
+    }
+    this.name = name;
+    this.maxConcurrent = maxConcurrent;
+    this.maxQueued = maxQueued;
+    this.maxWaitNanos = maxWait.toNanos();
+    this.permits = new Semaphore(maxConcurrent, true);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getActive() {
+    return maxConcurrent - permits.availablePermits();
+  }
+
+  public int getQueued() {
+    return queued.get();
+  }
+
+  public boolean tryEnter() throws InterruptedException {
+    if (permits.tryAcquire()) {
+      return true;
+    }
+    if (queued.incrementAndGet() > maxQueued) {
+      queued.decrementAndGet();
+      return false;
+    }
+    try {
+      return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+    } finally {
+      queued.decrementAndGet();
+    }
+  }
+
+  public void exit() {
+    permits.release();
+  }
+}
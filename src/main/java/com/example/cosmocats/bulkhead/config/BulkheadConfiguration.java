@@ -0,0 +1,52 @@
+package com.example.cosmocats.bulkhead.config;
+
+import com.example.cosmocats.bulkhead.Bulkhead;
+import com.example.cosmocats.bulkhead.web.BulkheadFilter;
+import com.example.cosmocats.bulkhead.web.BulkheadFilter.Compartment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "application.bulkhead", name = "enabled", havingValue = "true")
+public class BulkheadConfiguration {
+
+  @Bean
+  public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(
+      BulkheadProperties properties, MeterRegistry meterRegistry) {
+    List<Compartment> compartments = new ArrayList<>();
+    properties
+        .getGroups()
+        .forEach(
+            (name, group) -> {
+              Bulkhead bulkhead =
+                  new Bulkhead(
+                      name, group.getMaxConcurrent(), group.getMaxQueued(), group.getMaxWait());
+              Gauge.builder("cosmocats.bulkhead.active", bulkhead, Bulkhead::getActive)
+                  .tag("group", name)
+                  .register(meterRegistry);
+              Gauge.builder("cosmocats.bulkhead.queued", bulkhead, Bulkhead::getQueued)
+                  .tag("group", name)
+                  .register(meterRegistry);
+              Counter rejected =
+                  Counter.builder("cosmocats.bulkhead.rejected")
+                      .tag("group", name)
+                      .register(meterRegistry);
+              compartments.add(Compartment.of(group.getPathPatterns(), bulkhead, rejected));
+            });
+
+    FilterRegistrationBean<BulkheadFilter> registration =
+        new FilterRegistrationBean<>(new BulkheadFilter(List.copyOf(compartments)));
+    registration.addUrlPatterns("/api/*");
+    // Behind the concurrency limit, so shed requests never queue for a bulkhead permit.
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+    return registration;
+  }
+}
@@ -0,0 +1,33 @@
+package com.example.cosmocats.bulkhead.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "application.bulkhead")
+public class BulkheadProperties {
+
+  boolean enabled;
+  // Keep the sum of max-concurrent and max-queued over all groups below server.tomcat.threads.max,
+  // otherwise the groups can still exhaust the pool between them.
+  Map<String, Group> groups = new LinkedHashMap<>();
+
+  @Data
+  @NoArgsConstructor
+  public static class Group {
+
+    List<String> pathPatterns = new ArrayList<>();
+    int maxConcurrent = 10;
+    int maxQueued = 10;
+    Duration maxWait = Duration.ofMillis(500);
+  }
+}
@@ -0,0 +1,95 @@
+package com.example.cosmocats.bulkhead.web;
+
+import com.example.cosmocats.bulkhead.Bulkhead;
+import com.example.cosmocats.exception.ProblemResponseTemplate;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+// Sends each request through the bulkhead of the first group whose paths match it. Requests
+// outside every group, and the long-lived event stream, are not limited.
+public class BulkheadFilter extends OncePerRequestFilter {
+
+  private static final String EVENT_STREAM_SUFFIX = "/events";
+  private static final ProblemResponseTemplate BULKHEAD_FULL =
+      ProblemResponseTemplate.of(HttpStatus.SERVICE_UNAVAILABLE, "Bulkhead Full");
+
+  private final List<Compartment> compartments;
+
+  public BulkheadFilter(List<Compartment> compartments) {
+    this.compartments = compartments;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return request.getRequestURI().endsWith(EVENT_STREAM_SUFFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Compartment compartment = compartment(request);
+    if (compartment == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    Bulkhead bulkhead = compartment.bulkhead();
+    if (!enter(bulkhead)) {
+      compartment.rejected().increment();
+      response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+      BULKHEAD_FULL.write(
+          response,
+          "Too many concurrent requests for " + bulkhead.getName(),
+          request.getRequestURI());
+      return;
+    }
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      bulkhead.exit();
+    }
+  }
+
+  private Compartment compartment(HttpServletRequest request) {
+    PathContainer path = PathContainer.parsePath(request.getRequestURI());
+    for (Compartment compartment : compartments) {
+      for (PathPattern pattern : compartment.pathPatterns()) {
+        if (pattern.matches(path)) {
+          return compartment;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean enter(Bulkhead bulkhead) {
+    try {
+      return bulkhead.tryEnter();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  public record Compartment(List<PathPattern> pathPatterns, Bulkhead bulkhead, Counter rejected) {
+
+    public static Compartment of(List<String> pathPatterns, Bulkhead bulkhead, Counter rejected) {
+      return new Compartment(
+          pathPatterns.stream().map(PathPatternParser.defaultInstance::parse).toList(),
+          bulkhead,
+          rejected);
+    }
+  }
+}
@@ -0,0 +1,219 @@
+package com.example.cosmocats.cache;
+
+import com.example.cosmocats.domain.ProductSort;
+import com.example.cosmocats.domain.event.ProductChangedEvent;
+import com.example.cosmocats.format.ResponseFormat;
+import com.example.cosmocats.projection.ProductProjection;
+import com.example.cosmocats.timing.RequestTimings;
+import com.example.cosmocats.timing.ServerTimingPhase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Serialized response bodies keyed by resource and version. Loading is single-flight: the first
+// request for a key and version installs a pending entry and builds the body, and concurrent
+// requests for the same key and version wait for that body instead of loading and serializing
+// their own copy. A launch-day burst on one product therefore costs one lookup, one mapping and
+// one serialization per product version. Each wire format is cached as its own entry under the
+// same version, so JSON and CBOR clients never evict or re-encode each other's bodies.
+//
+// New keys are always admitted. Past MAX_ENTRIES, a sweep on the calling thread drops the least
+// recently used entries down to SWEEP_TARGET, so a burst of one-off keys ages out instead of
+// locking hot keys out of the cache.
+@Component
+@RequiredArgsConstructor
+public class ProductResponseCache {
+
+  static final int MAX_ENTRIES = 1024;
+  static final int SWEEP_TARGET = MAX_ENTRIES * 7 / 8;
+
+  private static final String ALL_PRODUCTS_KEY = "products";
+  private static final String CATEGORY_KEY_PREFIX = "products:category:";
+  private static final String PRODUCT_KEY_PREFIX = "products:id:";
+
+  private final ObjectMapper objectMapper;
+  private final ConcurrentMap<String, CachedResponse> responses = new ConcurrentHashMap<>();
+  // Ticks once per installed entry; hits stamp their entry with the current tick.
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicBoolean sweeping = new AtomicBoolean();
+
+  public static String allProductsKey() {
+    return ALL_PRODUCTS_KEY;
+  }
+
+  public static String categoryKey(String category) {
+    return CATEGORY_KEY_PREFIX + category.toLowerCase(Locale.ROOT);
+  }
+
+  public static String productKey(UUID productId) {
+    return PRODUCT_KEY_PREFIX + productId;
+  }
+
+  // One sorted page of a list; it shares the list's version, so any change to the list moves on
+  // every page at once.
+  public static String pageKey(String listKey, ProductSort sort, int page, int size) {
+    return listKey + ":sort:" + sort.getParameter() + ":" + page + ":" + size;
+  }
+
+  // A sparse fieldset of a response; it shares the full response's version.
+  public static String projectionKey(String key, ProductProjection projection) {
+    return projection == null ? key : key + ":fields:" + projection.getKey();
+  }
+
+  // The version has to be read before the body is loaded, so a concurrent write can only make an
+  // entry look older than its data and never the other way round.
+  public byte[] getOrSerialize(String key, long version, Supplier<?> bodySupplier) {
+    return getOrSerialize(key, version, ResponseFormat.JSON, bodySupplier);
+  }
+
+  public byte[] getOrSerialize(
+      String key, long version, ResponseFormat format, Supplier<?> bodySupplier) {
+    String formatKey = format.key(key);
+    while (true) {
+      CachedResponse cached = responses.get(formatKey);
+      if (cached != null && cached.version() == version) {
+        cached.touch(clock.get());
+        byte[] body = await(cached);
+        if (body != null) {
+          return body;
+        }
+        continue;
+      }
+      if (cached != null && cached.version() > version) {
+        // This request read its version before a newer one was cached; serve it uncached.
+        return load(format, bodySupplier);
+      }
+
+      CachedResponse pending =
+          new CachedResponse(version, new CompletableFuture<>(), clock.incrementAndGet());
+      boolean installed =
+          cached == null
+              ? responses.putIfAbsent(formatKey, pending) == null
+              : responses.replace(formatKey, cached, pending);
+      if (installed) {
+        if (cached == null && responses.size() > MAX_ENTRIES) {
+          evictLeastRecentlyUsed();
+        }
+        return fill(formatKey, pending, format, bodySupplier);
+      }
+    }
+  }
+
+  // For responses that are not worth keeping, such as lists of a category that does not exist;
+  // nothing is looked up or stored.
+  public byte[] serialize(ResponseFormat format, Supplier<?> bodySupplier) {
+    return load(format, bodySupplier);
+  }
+
+  // Writes bump the product version, so later lookups would miss anyway; dropping the entries right
+  // away also releases the stale bodies and makes room for other products. Every variant of a
+  // product's key, whatever its fields and format, starts with the product key, and ids have a
+  // fixed length, so the prefix matches no other product.
+  @EventListener
+  public void onProductChanged(ProductChangedEvent event) {
+    String key = productKey(event.getProductId());
+    responses.keySet().removeIf(cached -> cached.startsWith(key));
+  }
+
+  public void clear() {
+    responses.clear();
+  }
+
+  // Errors are caught as well, so no failure can leave waiters blocked on a pending entry.
+  private byte[] fill(
+      String key, CachedResponse pending, ResponseFormat format, Supplier<?> bodySupplier) {
+    byte[] body;
+    try {
+      body = load(format, bodySupplier);
+    } catch (Throwable e) {
+      responses.remove(key, pending);
+      pending.body().completeExceptionally(e);
+      throw e;
+    }
+    pending.body().complete(body);
+    return body;
+  }
+
+  // One sweep at a time; requests that find a sweep running go on without waiting for it.
+  private void evictLeastRecentlyUsed() {
+    if (!sweeping.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      long[] stamps =
+          responses.values().stream().mapToLong(CachedResponse::lastUsed).sorted().toArray();
+      int excess = stamps.length - SWEEP_TARGET;
+      if (excess > 0) {
+        long cutoff = stamps[excess - 1];
+        responses.values().removeIf(entry -> entry.lastUsed() <= cutoff);
+      }
+    } finally {
+      sweeping.set(false);
+    }
+  }
+
+  private byte[] load(ResponseFormat format, Supplier<?> bodySupplier) {
+    Object value = bodySupplier.get();
+    return RequestTimings.time(ServerTimingPhase.SERIALIZATION, () -> encode(format, value));
+  }
+
+  // Returns null when the load this request waited for failed and the caller should retry, so a
+  // failure is reported by the request that hit it rather than by everyone who piled up behind it.
+  private static byte[] await(CachedResponse cached) {
+    try {
+      return cached.body().join();
+    } catch (CompletionException e) {
+      return null;
+    }
+  }
+
+  private byte[] encode(ResponseFormat format, Object body) {
+    try {
+      return format.write(objectMapper, body);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to serialize response body", e);
+    }
+  }
+
+  private static final class CachedResponse {
+    private final long version;
+    private final CompletableFuture<byte[]> body;
+    private volatile long lastUsed;
+
+    private CachedResponse(long version, CompletableFuture<byte[]> body, long lastUsed) {
+      this.version = version;
+      this.body = body;
+      this.lastUsed = lastUsed;
+    }
+
+    private long version() {
+      return version;
+    }
+
+    private CompletableFuture<byte[]> body() {
+      return body;
+    }
+
+    private long lastUsed() {
+      return lastUsed;
+    }
+
+    // Hot entries are hit many times per tick; only the first hit of a tick writes the field.
+    private void touch(long now) {
+      if (lastUsed != now) {
+        lastUsed = now;
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.example.cosmocats.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// Gradient concurrency limit: once per window the mean latency of the window is compared with a
+// slowly moving long-term average. While they agree the limit grows by about sqrt(limit); when the
+// window gets slower than tolerance allows, or slower than the latency target, the limit shrinks
+// in proportion straight away, so queues are cut back before every request is slow.
+//
+// Low priority requests may only use a share of the limit, so they are the first to be refused
+// as the limit comes down, and high priority requests keep the rest.
+public class AdaptiveConcurrencyLimiter {
+
+  private static final int MIN_WINDOW_SAMPLES = 10;
+  private static final double LIMIT_SMOOTHING = 0.2;
+  private static final double LONG_RTT_SMOOTHING = 0.05;
+  private static final double MIN_GRADIENT = 0.5;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long targetLatencyNanos;
+  private final double tolerance;
+  private final double lowPriorityShare;
+  private final long windowNanos;
+  private final LongSupplier nanoClock;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger peakInFlight = new AtomicInteger();
+  private final LongAdder windowLatencyNanos = new LongAdder();
+  private final LongAdder windowSamples = new LongAdder();
+  private final AtomicLong windowStart;
+  private volatile int limit;
+  private volatile double longLatencyNanos;
+
+  public AdaptiveConcurrencyLimiter(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      long targetLatencyNanos,
+      double tolerance,
+      double lowPriorityShare,
+      long windowNanos) {
+    this(
+        initialLimit,
+        minLimit,
+        maxLimit,
+        targetLatencyNanos,
+        tolerance,
+        lowPriorityShare,
+        windowNanos,
+        System::nanoTime);
+  }
+
+  AdaptiveConcurrencyLimiter(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      long targetLatencyNanos,
+      double tolerance,
+      double lowPriorityShare,
+      long windowNanos,
+      LongSupplier nanoClock) {
+    if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+      throw new IllegalArgumentException(
+          "Concurrency limits must satisfy 1 <= min <= initial <= max");
+    }
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.targetLatencyNanos = targetLatencyNanos;
+    this.tolerance = tolerance;
+    this.lowPriorityShare = lowPriorityShare;
+    this.windowNanos = windowNanos;
+    this.nanoClock = nanoClock;
+    this.windowStart = new AtomicLong(nanoClock.getAsLong());
+  }
+
+  public boolean tryAcquire(RequestPriority priority) {
+    int allowed =
+        priority == RequestPriority.HIGH ? limit : Math.max(1, (int) (limit * lowPriorityShare));
+    while (true) {
+      int current = inFlight.get();
+      if (current >= allowed) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        if (current + 1 > peakInFlight.get()) {
+          peakInFlight.accumulateAndGet(current + 1, Math::max);
+        }
+        return true;
+      }
+    }
+  }
+
+  public void release(long latencyNanos) {
+    inFlight.decrementAndGet();
+    windowLatencyNanos.add(latencyNanos);
+    windowSamples.increment();
+
+    long now = nanoClock.getAsLong();
+    long start = windowStart.get();
+    if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+      long samples = windowSamples.sumThenReset();
+      long latency = windowLatencyNanos.sumThenReset();
+      int peak = peakInFlight.getAndSet(inFlight.get());
+      if (samples >= MIN_WINDOW_SAMPLES) {
+        updateLimit((double) latency / samples, peak);
+      }
+    }
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  // Only the thread that closed the window gets here, so the fields are never updated concurrently.
+  private void updateLimit(double shortLatencyNanos, int peak) {
+    double longLatency = longLatencyNanos;
+    longLatency =
+        longLatency == 0
+            ? shortLatencyNanos
+            : longLatency * (1 - LONG_RTT_SMOOTHING) + shortLatencyNanos * LONG_RTT_SMOOTHING;
+    // After a burst the long-term average lags behind; pull it down so the limit can recover.
+    if (longLatency > shortLatencyNanos * 2) {
+      longLatency *= 0.95;
+    }
+    longLatencyNanos = longLatency;
+
+    double gradient = tolerance * longLatency / shortLatencyNanos;
+    if (shortLatencyNanos > targetLatencyNanos) {
+      gradient = Math.min(gradient, targetLatencyNanos / shortLatencyNanos);
+    }
+    gradient = Math.max(MIN_GRADIENT, Math.min(1.0, gradient));
+
+    int current = limit;
+    double target = current * gradient + Math.sqrt(current);
+    // Do not grow a limit the traffic never reached; it would only admit a burst later.
+    if (target > current && peak < current / 2) {
+      return;
+    }
+    // Growth is smoothed so one fast window does not open the gates; cuts apply at once.
+    long next =
+        target > current
+            ? (long) Math.ceil(current * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING)
+            : (long) Math.floor(target);
+    limit = (int) Math.max(minLimit, Math.min(maxLimit, next));
+  }
+}
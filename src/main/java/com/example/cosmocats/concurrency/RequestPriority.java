@@ -0,0 +1,6 @@
+package com.example.cosmocats.concurrency;
+
+public enum RequestPriority {
+  HIGH,
+  LOW
+}
@@ -0,0 +1,52 @@
+package com.example.cosmocats.concurrency.config;
+
+import com.example.cosmocats.concurrency.AdaptiveConcurrencyLimiter;
+import com.example.cosmocats.concurrency.web.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(
+    prefix = "application.concurrency-limit",
+    name = "enabled",
+    havingValue = "true")
+public class ConcurrencyLimitConfiguration {
+
+  @Bean
+  public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+      ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(
+            properties.getInitialLimit(),
+            properties.getMinLimit(),
+            properties.getMaxLimit(),
+            properties.getTargetLatency().toNanos(),
+            properties.getTolerance(),
+            properties.getLowPriorityShare(),
+            properties.getWindow().toNanos());
+    Gauge.builder("cosmocats.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+        .register(meterRegistry);
+    Gauge.builder(
+            "cosmocats.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+        .register(meterRegistry);
+    return limiter;
+  }
+
+  @Bean
+  public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+      AdaptiveConcurrencyLimiter limiter,
+      ConcurrencyLimitProperties properties,
+      MeterRegistry meterRegistry) {
+    FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+        new FilterRegistrationBean<>(
+            new ConcurrencyLimitFilter(limiter, properties.getLowPriorityPaths(), meterRegistry));
+    registration.addUrlPatterns("/api/*");
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+}
@@ -0,0 +1,30 @@
+package com.example.cosmocats.concurrency.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "application.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+  boolean enabled;
+  int initialLimit = 20;
+  int minLimit = 4;
+  int maxLimit = 200;
+  // Mean window latency above which the limit is cut. Uncontended reads take 1-2 ms, so 5 ms
+  // reacts to queueing early; looser targets barely moved p99 at twice capacity.
+  Duration targetLatency = Duration.ofMillis(5);
+  double tolerance = 1.5;
+  Duration window = Duration.ofMillis(100);
+  // Fraction of the current limit that low priority requests may occupy.
+  double lowPriorityShare = 0.5;
+  // Everything else under /api is high priority.
+  List<String> lowPriorityPaths = new ArrayList<>();
+}
@@ -0,0 +1,92 @@
+package com.example.cosmocats.concurrency.web;
+
+import com.example.cosmocats.concurrency.AdaptiveConcurrencyLimiter;
+import com.example.cosmocats.concurrency.RequestPriority;
+import com.example.cosmocats.exception.ProblemResponseTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+// Runs ahead of everything else so a shed request costs a path match and one atomic read. The
+// event stream is left out because its connection stays open for as long as the client likes
+// and would hold a slot and skew the latency the limit is derived from.
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  static final String SHED_COUNTER = "cosmocats.concurrency.shed";
+
+  private static final String EVENT_STREAM_SUFFIX = "/events";
+  private static final ProblemResponseTemplate OVERLOADED =
+      ProblemResponseTemplate.of(HttpStatus.SERVICE_UNAVAILABLE, "Service Overloaded");
+
+  private final AdaptiveConcurrencyLimiter limiter;
+  private final List<PathPattern> lowPriorityPaths;
+  private final Map<RequestPriority, Counter> shed = new EnumMap<>(RequestPriority.class);
+
+  public ConcurrencyLimitFilter(
+      AdaptiveConcurrencyLimiter limiter, List<String> lowPriorityPaths, MeterRegistry registry) {
+    this.limiter = limiter;
+    this.lowPriorityPaths =
+        lowPriorityPaths.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    for (RequestPriority priority : RequestPriority.values()) {
+      shed.put(
+          priority,
+          Counter.builder(SHED_COUNTER)
+              .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+              .register(registry));
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return request.getRequestURI().endsWith(EVENT_STREAM_SUFFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RequestPriority priority = priority(request);
+    if (!limiter.tryAcquire(priority)) {
+      shed.get(priority).increment();
+      response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+      OVERLOADED.write(
+          response,
+          "Server is over capacity, shedding "
+              + priority.name().toLowerCase(Locale.ROOT)
+              + " priority requests",
+          request.getRequestURI());
+      return;
+    }
+
+    long start = System.nanoTime();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      limiter.release(System.nanoTime() - start);
+    }
+  }
+
+  private RequestPriority priority(HttpServletRequest request) {
+    PathContainer path = PathContainer.parsePath(request.getRequestURI());
+    for (PathPattern pattern : lowPriorityPaths) {
+      if (pattern.matches(path)) {
+        return RequestPriority.LOW;
+      }
+    }
+    return RequestPriority.HIGH;
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.cosmocats.config;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "application.catalog.synthetic")
+public class SyntheticCatalogProperties {
+
+  int size;
+  long seed = 42;
+}
@@ -0,0 +1,28 @@
+package com.example.cosmocats.controller;
+
+import com.example.cosmocats.dto.diagnostics.HotKeysDto;
+import com.example.cosmocats.hotkey.HotKeyTracker;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/hot-keys")
+@RequiredArgsConstructor
+public class AdminHotKeyController {
+
+  static final int MAX_LIMIT = 64;
+
+  private final HotKeyTracker hotKeyTracker;
+
+  @GetMapping
+  public ResponseEntity<HotKeysDto> getHotKeys(
+      @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_LIMIT) int limit) {
+    return ResponseEntity.ok(hotKeyTracker.getHotKeys(limit));
+  }
+}
@@ -2,8 +2,12 @@ package com.example.cosmocats.controller;
 
 import com.example.cosmocats.dto.product.ProductDto;
 import com.example.cosmocats.dto.product.ProductUpdateDto;
+import com.example.cosmocats.dto.product.SyntheticCatalogDto;
 import com.example.cosmocats.service.ProductService;
+import com.example.cosmocats.service.SyntheticCatalogService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -15,7 +19,12 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AdminProductController {
 
+  // Loads run on the request thread, so this keeps one to well under a second; bigger catalogs
+  // are loaded at startup through application.catalog.synthetic.size.
+  static final int MAX_SYNTHETIC_CATALOG_SIZE = 100_000;
+
   private final ProductService productService;
+  private final SyntheticCatalogService syntheticCatalogService;
 
   @PostMapping
   public ResponseEntity<ProductDto> createProduct(@Valid @RequestBody ProductUpdateDto createDto) {
@@ -35,4 +44,12 @@ public class AdminProductController {
     productService.deleteProduct(id);
     return ResponseEntity.noContent().build();
   }
+
+  @PostMapping("/synthetic")
+  public ResponseEntity<SyntheticCatalogDto> loadSyntheticCatalog(
+      @RequestParam @Min(1) @Max(MAX_SYNTHETIC_CATALOG_SIZE) int size,
+      @RequestParam(required = false) Long seed) {
+    SyntheticCatalogDto catalog = syntheticCatalogService.loadCatalog(size, seed);
+    return ResponseEntity.status(HttpStatus.CREATED).body(catalog);
+  }
 }
@@ -0,0 +1,59 @@
+package com.example.cosmocats.controller;
+
+import com.example.cosmocats.dto.diagnostics.RecordingDto;
+import com.example.cosmocats.service.JfrRecordingService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/recordings")
+@RequiredArgsConstructor
+public class AdminRecordingController {
+
+  static final int MAX_DURATION_SECONDS = 600;
+  static final int MAX_SIZE_MEGABYTES = 64;
+
+  private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+  private final JfrRecordingService jfrRecordingService;
+
+  @PostMapping
+  public ResponseEntity<RecordingDto> startRecording(
+      @RequestParam(defaultValue = "60") @Min(1) @Max(MAX_DURATION_SECONDS) int durationSeconds,
+      @RequestParam(defaultValue = "32") @Min(1) @Max(MAX_SIZE_MEGABYTES) int maxSizeMb) {
+    RecordingDto recording =
+        jfrRecordingService.startRecording(
+            Duration.ofSeconds(durationSeconds), maxSizeMb * BYTES_PER_MEGABYTE);
+    return ResponseEntity.status(HttpStatus.CREATED).body(recording);
+  }
+
+  @GetMapping
+  public ResponseEntity<RecordingDto> getRecording() {
+    return ResponseEntity.ok(jfrRecordingService.getRecording());
+  }
+
+  @GetMapping("/dump")
+  public ResponseEntity<byte[]> dumpRecording() {
+    byte[] recording = jfrRecordingService.dumpRecording();
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("cosmocats.jfr").build().toString())
+        .body(recording);
+  }
+
+  @DeleteMapping
+  public ResponseEntity<Void> stopRecording() {
+    jfrRecordingService.stopRecording();
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -1,38 +1,283 @@
 package com.example.cosmocats.controller;
 
+import com.example.cosmocats.cache.ProductResponseCache;
+import com.example.cosmocats.domain.PriceBucket;
+import com.example.cosmocats.domain.ProductFilter;
+import com.example.cosmocats.domain.ProductSort;
+import com.example.cosmocats.dto.product.ProductBatchDto;
+import com.example.cosmocats.dto.product.ProductChangesDto;
 import com.example.cosmocats.dto.product.ProductDto;
 import com.example.cosmocats.dto.product.ProductListDto;
+import com.example.cosmocats.dto.product.ProductQueryResultDto;
+import com.example.cosmocats.format.ResponseFormat;
+import com.example.cosmocats.hotkey.HotKeyTracker;
+import com.example.cosmocats.projection.ProductProjection;
 import com.example.cosmocats.service.ProductService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/products")
 @RequiredArgsConstructor
 public class ProductController {
 
+  static final int MAX_BATCH_SIZE = 100;
+  // Pages are read by walking the sorted views from the start, so deep pages are capped; at the
+  // default size this reaches the first 10,000 products of a list.
+  static final int MAX_PAGE = 500;
+  static final int MAX_PAGE_SIZE = 100;
+  static final int MAX_SEARCH_LIMIT = 100;
+  static final int MAX_SEARCH_TERM_LENGTH = 100;
+  // Versions live in memory and restart from zero, so ETags carry an id of this boot; a validator
+  // from before a restart never matches the same version number after it.
+  static final String ETAG_EPOCH = Long.toString(new SecureRandom().nextLong() >>> 1, 36);
+
   private final ProductService productService;
+  private final ProductResponseCache productResponseCache;
+  private final HotKeyTracker hotKeyTracker;
 
+  // Without a sort the whole catalog is returned as before; with one, a page is read from the
+  // repository's sorted views. With fields, only those properties of each product are written.
+  // Pages past the end are served uncached, so they cannot fill the cache with empty bodies.
   @GetMapping
-  public ResponseEntity<ProductListDto> getAllProducts() {
-    ProductListDto products = productService.getAllProducts();
-    return ResponseEntity.ok(products);
+  public ResponseEntity<byte[]> getAllProducts(
+      @RequestParam(required = false) @Pattern(regexp = ProductSort.PARAMETER_PATTERN) String sort,
+      @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_PAGE) int page,
+      @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+      @RequestParam(required = false) @Pattern(regexp = ProductProjection.FIELDS_PATTERN)
+          String fields,
+      WebRequest webRequest) {
+    long version = productService.getCatalogVersion();
+    ResponseFormat format = ResponseFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+    if (notModified(webRequest, version, format)) {
+      return null;
+    }
+
+    ProductProjection projection = ProductProjection.of(fields);
+    byte[] products;
+    if (sort == null) {
+      products =
+          productResponseCache.getOrSerialize(
+              ProductResponseCache.projectionKey(ProductResponseCache.allProductsKey(), projection),
+              version,
+              format,
+              projection == null
+                  ? productService::getAllProducts
+                  : () -> productService.getAllProducts(projection));
+    } else {
+      ProductSort order = ProductSort.fromParameter(sort);
+      Supplier<?> body =
+          projection == null
+              ? () -> productService.getProductsPage(order, page, size)
+              : () -> productService.getProductsPage(order, page, size, projection);
+      products =
+          (long) page * size < productService.countProducts()
+              ? productResponseCache.getOrSerialize(
+                  ProductResponseCache.projectionKey(
+                      ProductResponseCache.pageKey(
+                          ProductResponseCache.allProductsKey(), order, page, size),
+                      projection),
+                  version,
+                  format,
+                  body)
+              : productResponseCache.serialize(format, body);
+    }
+    return ResponseEntity.ok()
+        .contentType(format.getMediaType())
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(products);
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<ProductDto> getProductById(@PathVariable UUID id) {
-    ProductDto product = productService.getProductById(id);
-    return ResponseEntity.ok(product);
+  public ResponseEntity<?> getProductById(
+      @PathVariable UUID id,
+      @RequestParam(required = false) @Pattern(regexp = ProductProjection.FIELDS_PATTERN)
+          String fields,
+      WebRequest webRequest) {
+    Optional<Long> version = productService.findProductVersion(id);
+    if (version.isEmpty()) {
+      // Unknown ids are not coalesced; the lookup reports the miss without serializing anything.
+      ProductDto product = productService.getProductById(id);
+      return ResponseEntity.ok(product);
+    }
+    // Only products that exist are counted, so probing random ids cannot crowd out real hot keys.
+    hotKeyTracker.recordProduct(id);
+    ResponseFormat format = ResponseFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+    if (notModified(webRequest, version.get(), format)) {
+      return null;
+    }
+
+    ProductProjection projection = ProductProjection.of(fields);
+    byte[] product =
+        productResponseCache.getOrSerialize(
+            ProductResponseCache.projectionKey(ProductResponseCache.productKey(id), projection),
+            version.get(),
+            format,
+            projection == null
+                ? () -> productService.getProductById(id)
+                : () -> productService.getProductById(id, projection));
+    return ResponseEntity.ok()
+        .contentType(format.getMediaType())
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(product);
+  }
+
+  @GetMapping("/batch")
+  public ResponseEntity<ProductBatchDto> getProductsByIds(
+      @RequestParam @NotEmpty @Size(max = MAX_BATCH_SIZE) List<UUID> ids) {
+    ProductBatchDto products = productService.getProductsByIds(ids);
+    products.getProducts().forEach(product -> hotKeyTracker.recordProduct(product.getProductId()));
+    return ResponseEntity.ok(products);
   }
 
   @GetMapping("/category/{category}")
-  public ResponseEntity<ProductListDto> getProductsByCategory(@PathVariable String category) {
-    ProductListDto products = productService.getProductsByCategory(category);
+  public ResponseEntity<byte[]> getProductsByCategory(
+      @PathVariable String category,
+      @RequestParam(required = false) @Pattern(regexp = ProductSort.PARAMETER_PATTERN) String sort,
+      @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_PAGE) int page,
+      @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+      @RequestParam(required = false) @Pattern(regexp = ProductProjection.FIELDS_PATTERN)
+          String fields,
+      WebRequest webRequest) {
+    long categorySize = productService.countProductsByCategory(category);
+    // As with products, only categories that have products are counted.
+    if (categorySize > 0) {
+      hotKeyTracker.recordCategory(category);
+    }
+    long version = productService.getCategoryVersion(category);
+    ResponseFormat format = ResponseFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+    if (notModified(webRequest, version, format)) {
+      return null;
+    }
+
+    ProductProjection projection = ProductProjection.of(fields);
+    String key;
+    Supplier<?> body;
+    long offset = 0;
+    if (sort == null) {
+      key =
+          ProductResponseCache.projectionKey(
+              ProductResponseCache.categoryKey(category), projection);
+      body =
+          projection == null
+              ? () -> productService.getProductsByCategory(category)
+              : () -> productService.getProductsByCategory(category, projection);
+    } else {
+      ProductSort order = ProductSort.fromParameter(sort);
+      offset = (long) page * size;
+      key =
+          ProductResponseCache.projectionKey(
+              ProductResponseCache.pageKey(
+                  ProductResponseCache.categoryKey(category), order, page, size),
+              projection);
+      body =
+          projection == null
+              ? () -> productService.getProductsByCategoryPage(category, order, page, size)
+              : () ->
+                  productService.getProductsByCategoryPage(
+                      category, order, page, size, projection);
+    }
+    // Any path is a category, so empty ones, like pages past the end, are served uncached rather
+    // than filling the cache with one entry per made-up name or page.
+    byte[] products =
+        offset < categorySize
+            ? productResponseCache.getOrSerialize(key, version, format, body)
+            : productResponseCache.serialize(format, body);
+    return ResponseEntity.ok()
+        .contentType(format.getMediaType())
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(products);
+  }
+
+  // Substring search over names and descriptions; no index covers it, so it is never cached.
+  @GetMapping("/search")
+  public ResponseEntity<?> searchProducts(
+      @RequestParam @NotBlank @Size(max = MAX_SEARCH_TERM_LENGTH) String q,
+      @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_SEARCH_LIMIT) int limit,
+      @RequestParam(required = false) @Pattern(regexp = ProductProjection.FIELDS_PATTERN)
+          String fields) {
+    ProductProjection projection = ProductProjection.of(fields);
+    if (projection != null) {
+      return ResponseEntity.ok(productService.searchProducts(q, limit, projection));
+    }
+    ProductListDto products = productService.searchProducts(q, limit);
     return ResponseEntity.ok(products);
   }
+
+  // Combined attribute filters answered from the bitmap indexes. Repeated values of one parameter
+  // are alternatives; different parameters must all match.
+  @GetMapping("/query")
+  public ResponseEntity<?> queryProducts(
+      @RequestParam(name = "category", required = false) Set<String> categories,
+      @RequestParam(name = "excludeCategory", required = false) Set<String> excludedCategories,
+      @RequestParam(name = "priceBucket", required = false) Set<PriceBucket> priceBuckets,
+      @RequestParam(required = false) Boolean hasDescription,
+      @RequestParam(name = "term", required = false)
+          Set<@Pattern(regexp = ProductFilter.TERM_PATTERN) String> terms,
+      @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_SEARCH_LIMIT) int limit,
+      @RequestParam(required = false) @Pattern(regexp = ProductProjection.FIELDS_PATTERN)
+          String fields) {
+    ProductFilter filter =
+        ProductFilter.builder()
+            .categories(orEmpty(categories))
+            .excludedCategories(orEmpty(excludedCategories))
+            .priceBuckets(orEmpty(priceBuckets))
+            .hasDescription(hasDescription)
+            .terms(orEmpty(terms))
+            .build();
+    ProductProjection projection = ProductProjection.of(fields);
+    if (projection != null) {
+      return ResponseEntity.ok(productService.queryProducts(filter, limit, projection));
+    }
+    ProductQueryResultDto products = productService.queryProducts(filter, limit);
+    return ResponseEntity.ok(products);
+  }
+
+  @GetMapping("/changes")
+  public ResponseEntity<ProductChangesDto> getProductChanges(@RequestParam long since) {
+    ProductChangesDto changes = productService.getProductChanges(since);
+    return ResponseEntity.ok(changes);
+  }
+
+  private static <T> Set<T> orEmpty(Set<T> values) {
+    return values != null ? values : Set.of();
+  }
+
+  // A 304 stands in for the 200 it revalidates, so it carries the same Vary: Accept; without it a
+  // shared cache could refresh a CBOR entry from a JSON client's revalidation.
+  private static boolean notModified(WebRequest webRequest, long version, ResponseFormat format) {
+    if (!webRequest.checkNotModified(eTag(version, format))) {
+      return false;
+    }
+    if (webRequest instanceof ServletWebRequest servletRequest
+        && servletRequest.getResponse() != null) {
+      servletRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+    return true;
+  }
+
+  // Formats differ byte for byte, so each gets its own validator for the same version.
+  private static String eTag(long version, ResponseFormat format) {
+    return "\"" + ETAG_EPOCH + "-" + format.key(Long.toString(version)) + "\"";
+  }
 }
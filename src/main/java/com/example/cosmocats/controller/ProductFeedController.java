@@ -0,0 +1,24 @@
+package com.example.cosmocats.controller;
+
+import com.example.cosmocats.feed.ProductChangeFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/products")
+@RequiredArgsConstructor
+public class ProductFeedController {
+
+  private final ProductChangeFeed productChangeFeed;
+
+  @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamProductChanges(
+      @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+    return productChangeFeed.subscribe(lastEventId);
+  }
+}
@@ -0,0 +1,40 @@
+package com.example.cosmocats.domain;
+
+// Fixed price bands used by storefront filters; each product falls into exactly one, from the lower
+// bound inclusive to the upper bound exclusive.
+public enum PriceBucket {
+  UNDER_10(0f, 10f),
+  FROM_10_TO_25(10f, 25f),
+  FROM_25_TO_50(25f, 50f),
+  FROM_50_TO_100(50f, 100f),
+  FROM_100_TO_250(100f, 250f),
+  FROM_250_TO_1000(250f, 1000f),
+  OVER_1000(1000f, Float.POSITIVE_INFINITY);
+
+  private static final PriceBucket[] BUCKETS = values();
+
+  private final float lowerBound;
+  private final float upperBound;
+
+  PriceBucket(float lowerBound, float upperBound) {
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+  }
+
+  public float getLowerBound() {
+    return lowerBound;
+  }
+
+  public float getUpperBound() {
+    return upperBound;
+  }
+
+  public static PriceBucket of(float price) {
+    for (PriceBucket bucket : BUCKETS) {
+      if (price < bucket.upperBound) {
+        return bucket;
+      }
+    }
+    return OVER_1000;
+  }
+}
@@ -0,0 +1,15 @@
+package com.example.cosmocats.domain;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ProductChangeSet {
+  long version;
+  boolean resyncRequired;
+  List<Product> products;
+  List<UUID> deletedIds;
+}
@@ -0,0 +1,21 @@
+package com.example.cosmocats.domain;
+
+import java.util.Set;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+// A combined storefront filter. Values of one attribute are alternatives, attributes must all hold,
+// and excluded categories are taken out of the result. Empty attributes do not restrict anything.
+@Value
+@Builder
+public class ProductFilter {
+  // Terms are matched as runs of letters and digits, so a term needs at least one of them.
+  public static final String TERM_PATTERN = "(?s).*[\\p{L}\\p{Nd}].*";
+
+  @Singular Set<String> categories;
+  @Singular Set<String> excludedCategories;
+  @Singular Set<PriceBucket> priceBuckets;
+  Boolean hasDescription;
+  @Singular Set<String> terms;
+}
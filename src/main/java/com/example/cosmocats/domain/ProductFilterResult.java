@@ -0,0 +1,12 @@
+package com.example.cosmocats.domain;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ProductFilterResult {
+  long total;
+  List<Product> products;
+}
@@ -0,0 +1,52 @@
+package com.example.cosmocats.domain;
+
+import java.util.Comparator;
+
+// Orders the repository keeps sorted views for. Ties are broken by product id so every order is
+// total and pages never overlap or skip a product.
+public enum ProductSort {
+  PRICE("price"),
+  PRICE_DESC("-price"),
+  NAME("name"),
+  NAME_DESC("-name");
+
+  public static final String PARAMETER_PATTERN = "-?(price|name)";
+
+  private static final Comparator<Product> PRICE_ORDER =
+      Comparator.comparing(Product::getPrice, Comparator.nullsLast(Comparator.naturalOrder()))
+          .thenComparing(Product::getProductId);
+  // Case-insensitive comparison folds characters as it goes instead of lowercasing whole names.
+  private static final Comparator<Product> NAME_ORDER =
+      Comparator.comparing(Product::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+          .thenComparing(Product::getProductId);
+  private static final Comparator<Product> PRICE_DESC_ORDER = PRICE_ORDER.reversed();
+  private static final Comparator<Product> NAME_DESC_ORDER = NAME_ORDER.reversed();
+
+  private final String parameter;
+
+  ProductSort(String parameter) {
+    this.parameter = parameter;
+  }
+
+  public String getParameter() {
+    return parameter;
+  }
+
+  public Comparator<Product> comparator() {
+    return switch (this) {
+      case PRICE -> PRICE_ORDER;
+      case PRICE_DESC -> PRICE_DESC_ORDER;
+      case NAME -> NAME_ORDER;
+      case NAME_DESC -> NAME_DESC_ORDER;
+    };
+  }
+
+  public static ProductSort fromParameter(String parameter) {
+    for (ProductSort sort : values()) {
+      if (sort.parameter.equals(parameter)) {
+        return sort;
+      }
+    }
+    throw new IllegalArgumentException("Unknown sort: " + parameter);
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.cosmocats.domain.event;
+
+public enum ProductChangeType {
+  CREATED,
+  UPDATED,
+  DELETED,
+  RESYNC
+}
@@ -0,0 +1,16 @@
+package com.example.cosmocats.domain.event;
+
+import com.example.cosmocats.domain.Product;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ProductChangedEvent {
+  ProductChangeType type;
+  UUID productId;
+  Product product;
+  // Change log version of the write; for RESYNC, the catalog version after the bulk change.
+  long version;
+}
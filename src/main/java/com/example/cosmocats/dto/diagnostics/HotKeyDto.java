@@ -0,0 +1,11 @@
+package com.example.cosmocats.dto.diagnostics;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class HotKeyDto {
+  String key;
+  long count;
+}
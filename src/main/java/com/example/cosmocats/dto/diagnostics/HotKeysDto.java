@@ -0,0 +1,18 @@
+package com.example.cosmocats.dto.diagnostics;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class HotKeysDto {
+  long windowSeconds;
+  // Decayed read totals; counts may overshoot the true value by up to the error bound.
+  long productReads;
+  long productErrorBound;
+  List<HotKeyDto> products;
+  long categoryReads;
+  long categoryErrorBound;
+  List<HotKeyDto> categories;
+}
@@ -0,0 +1,17 @@
+package com.example.cosmocats.dto.diagnostics;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class RecordingDto {
+  long id;
+  String name;
+  String state;
+  Instant startTime;
+  long durationSeconds;
+  long maxSizeBytes;
+  long recordedBytes;
+}
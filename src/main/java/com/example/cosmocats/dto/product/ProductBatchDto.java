@@ -0,0 +1,13 @@
+package com.example.cosmocats.dto.product;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ProductBatchDto {
+  List<ProductDto> products;
+  List<UUID> missingIds;
+}
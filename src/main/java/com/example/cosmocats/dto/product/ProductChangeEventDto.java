@@ -0,0 +1,17 @@
+package com.example.cosmocats.dto.product;
+
+import com.example.cosmocats.domain.event.ProductChangeType;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ProductChangeEventDto {
+  long eventId;
+  // Catalog version of the change, as /changes reports it; absent on a subscriber's own RESYNC.
+  Long version;
+  ProductChangeType type;
+  UUID productId;
+  ProductDto product;
+}
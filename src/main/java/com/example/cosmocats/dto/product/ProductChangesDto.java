@@ -0,0 +1,15 @@
+package com.example.cosmocats.dto.product;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ProductChangesDto {
+  long version;
+  boolean resyncRequired;
+  List<ProductDto> products;
+  List<UUID> deletedIds;
+}
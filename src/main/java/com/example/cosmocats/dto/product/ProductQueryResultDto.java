@@ -0,0 +1,12 @@
+package com.example.cosmocats.dto.product;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ProductQueryResultDto {
+  long total;
+  List<ProductDto> products;
+}
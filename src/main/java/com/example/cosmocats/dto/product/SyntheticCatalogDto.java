@@ -0,0 +1,14 @@
+package com.example.cosmocats.dto.product;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class SyntheticCatalogDto {
+  int generatedProducts;
+  long seed;
+  long totalProducts;
+  long catalogVersion;
+  long durationMillis;
+}
@@ -1,18 +1,36 @@
 package com.example.cosmocats.exception;
 
 import com.example.cosmocats.featuretoggle.exception.FeatureNotAvailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+  private static final ProblemResponseTemplate PRODUCT_NOT_FOUND =
+      ProblemResponseTemplate.of(HttpStatus.NOT_FOUND, "Product Not Found");
+  private static final ProblemResponseTemplate PRODUCT_ALREADY_EXISTS =
+      ProblemResponseTemplate.of(HttpStatus.CONFLICT, "Product Already Exists");
+  private static final ProblemResponseTemplate RECORDING_NOT_FOUND =
+      ProblemResponseTemplate.of(HttpStatus.NOT_FOUND, "Recording Not Found");
+  private static final ProblemResponseTemplate FEATURE_NOT_AVAILABLE =
+      ProblemResponseTemplate.of(HttpStatus.SERVICE_UNAVAILABLE, "Feature Not Available");
+  private static final ProblemResponseTemplate RATE_LIMIT_EXCEEDED =
+      ProblemResponseTemplate.of(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests");
+  private static final ProblemResponseTemplate PAYLOAD_TOO_LARGE =
+      ProblemResponseTemplate.of(HttpStatus.PAYLOAD_TOO_LARGE, "Payload Too Large");
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ProblemDetail handleValidationExceptions(MethodArgumentNotValidException ex) {
     ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
@@ -23,26 +41,54 @@ public class GlobalExceptionHandler {
     return problemDetail;
   }
 
-  @ExceptionHandler(ProductNotFoundException.class)
-  public ProblemDetail handleProductNotFound(ProductNotFoundException ex) {
-    ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.NOT_FOUND);
-    problemDetail.setTitle("Product Not Found");
-    problemDetail.setDetail(ex.getMessage());
+  @ExceptionHandler(HandlerMethodValidationException.class)
+  public ProblemDetail handleMethodValidationExceptions(HandlerMethodValidationException ex) {
+    ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+    problemDetail.setTitle("Validation Error");
     problemDetail.setProperty("timestamp", LocalDateTime.now());
 
-    log.info("Product not found: {}", ex.getMessage());
+    log.warn("Validation error: {}", ex.getMessage());
     return problemDetail;
   }
 
-  @ExceptionHandler(ProductAlreadyExistsException.class)
-  public ProblemDetail handleProductAlreadyExists(ProductAlreadyExistsException ex) {
-    ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.CONFLICT);
-    problemDetail.setTitle("Product Already Exists");
-    problemDetail.setDetail(ex.getMessage());
-    problemDetail.setProperty("timestamp", LocalDateTime.now());
+  @ExceptionHandler(ProductNotFoundException.class)
+  public void handleProductNotFound(
+      ProductNotFoundException ex, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    log.info("Product not found: {}", ex.getMessage());
+    PRODUCT_NOT_FOUND.write(response, ex.getMessage(), request.getRequestURI());
+  }
 
+  @ExceptionHandler(ProductAlreadyExistsException.class)
+  public void handleProductAlreadyExists(
+      ProductAlreadyExistsException ex, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
     log.info("Product already exists: {}", ex.getMessage());
-    return problemDetail;
+    PRODUCT_ALREADY_EXISTS.write(response, ex.getMessage(), request.getRequestURI());
+  }
+
+  @ExceptionHandler(RecordingNotFoundException.class)
+  public void handleRecordingNotFound(
+      RecordingNotFoundException ex, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    log.info("Recording not found: {}", ex.getMessage());
+    RECORDING_NOT_FOUND.write(response, ex.getMessage(), request.getRequestURI());
+  }
+
+  @ExceptionHandler(RateLimitExceededException.class)
+  public void handleRateLimitExceeded(
+      RateLimitExceededException ex, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()));
+    RATE_LIMIT_EXCEEDED.write(response, ex.getMessage(), request.getRequestURI());
+  }
+
+  @ExceptionHandler(RequestBodyTooLargeException.class)
+  public void handleRequestBodyTooLarge(
+      RequestBodyTooLargeException ex, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    log.info("Request body too large: {}", ex.getMessage());
+    PAYLOAD_TOO_LARGE.write(response, ex.getMessage(), request.getRequestURI());
   }
 
   @ExceptionHandler(Exception.class)
@@ -56,13 +102,10 @@ public class GlobalExceptionHandler {
   }
 
   @ExceptionHandler(FeatureNotAvailableException.class)
-  public ProblemDetail handleFeatureNotAvailable(FeatureNotAvailableException ex) {
-    ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
-    problemDetail.setTitle("Feature Not Available");
-    problemDetail.setDetail(ex.getMessage());
-    problemDetail.setProperty("timestamp", LocalDateTime.now());
-
+  public void handleFeatureNotAvailable(
+      FeatureNotAvailableException ex, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
     log.info("Feature not available: {}", ex.getMessage());
-    return problemDetail;
+    FEATURE_NOT_AVAILABLE.write(response, ex.getMessage(), request.getRequestURI());
   }
 }
@@ -0,0 +1,98 @@
+package com.example.cosmocats.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+// Pre-rendered problem+json body for one status and title, with the same members Spring writes for
+// a ProblemDetail. Only the detail, instance and timestamp are filled in per response, so a burst
+// of misses costs a few array copies instead of building and serializing a ProblemDetail each time.
+public final class ProblemResponseTemplate {
+
+  private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+  private static final byte[] INSTANCE = bytes("\",\"instance\":\"");
+  private static final byte[] TIMESTAMP = bytes("\",\"timestamp\":\"");
+  private static final byte[] END = bytes("\"}");
+
+  private static volatile Timestamp lastTimestamp = new Timestamp(Long.MIN_VALUE, new byte[0]);
+
+  private final HttpStatus status;
+  private final byte[] prefix;
+
+  private ProblemResponseTemplate(HttpStatus status, byte[] prefix) {
+    this.status = status;
+    this.prefix = prefix;
+  }
+
+  public static ProblemResponseTemplate of(HttpStatus status, String title) {
+    String prefix =
+        "{\"type\":\"about:blank\",\"title\":\""
+            + new String(ENCODER.quoteAsString(title))
+            + "\",\"status\":"
+            + status.value()
+            + ",\"detail\":\"";
+    return new ProblemResponseTemplate(status, bytes(prefix));
+  }
+
+  // Writes straight to the response rather than returning a byte[] body, because the converter
+  // list Spring Data REST installs for exception handlers puts Jackson ahead of the byte array
+  // converter, which would write the body out as a base64 string.
+  public void write(HttpServletResponse response, String detail, String instance)
+      throws IOException {
+    byte[] body = render(detail, instance);
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  byte[] render(String detail, String instance) {
+    byte[] encodedDetail = ENCODER.quoteAsUTF8(detail);
+    byte[] encodedInstance = ENCODER.quoteAsUTF8(instance);
+    byte[] timestamp = timestamp();
+
+    ByteArrayOutputStream body =
+        new ByteArrayOutputStream(
+            prefix.length
+                + encodedDetail.length
+                + INSTANCE.length
+                + encodedInstance.length
+                + TIMESTAMP.length
+                + timestamp.length
+                + END.length);
+    body.writeBytes(prefix);
+    body.writeBytes(encodedDetail);
+    body.writeBytes(INSTANCE);
+    body.writeBytes(encodedInstance);
+    body.writeBytes(TIMESTAMP);
+    body.writeBytes(timestamp);
+    body.writeBytes(END);
+    return body.toByteArray();
+  }
+
+  // Formatting the local time is the most expensive part left, and a storm produces many
+  // responses per millisecond, so the formatted value is reused until the clock moves on.
+  private static byte[] timestamp() {
+    long now = System.currentTimeMillis();
+    Timestamp timestamp = lastTimestamp;
+    if (timestamp.millis() != now) {
+      LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
+      timestamp = new Timestamp(now, bytes(time.toString()));
+      lastTimestamp = timestamp;
+    }
+    return timestamp.formatted();
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private record Timestamp(long millis, byte[] formatted) {}
+}
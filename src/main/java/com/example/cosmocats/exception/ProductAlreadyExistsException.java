@@ -2,6 +2,6 @@ package com.example.cosmocats.exception;
 
 public class ProductAlreadyExistsException extends RuntimeException {
   public ProductAlreadyExistsException(String productName) {
-    super("Product already exists with name: " + productName);
+    super("Product already exists with name: " + productName, null, false, false);
   }
 }
@@ -2,8 +2,9 @@ package com.example.cosmocats.exception;
 
 import java.util.UUID;
 
+// Thrown on every lookup miss, so it skips the stack trace that nothing ever reads.
 public class ProductNotFoundException extends RuntimeException {
   public ProductNotFoundException(UUID productId) {
-    super("Product not found with id: " + productId);
+    super("Product not found with id: " + productId, null, false, false);
   }
 }
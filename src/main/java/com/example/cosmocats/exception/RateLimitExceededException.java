@@ -0,0 +1,18 @@
+package com.example.cosmocats.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+  private final long retryAfterSeconds;
+
+  public RateLimitExceededException(String policy, long retryAfterSeconds) {
+    super(
+        "Rate limit '" + policy + "' exceeded, retry in " + retryAfterSeconds + "s",
+        null,
+        false,
+        false);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
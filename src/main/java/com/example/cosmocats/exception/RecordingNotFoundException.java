@@ -0,0 +1,7 @@
+package com.example.cosmocats.exception;
+
+public class RecordingNotFoundException extends RuntimeException {
+  public RecordingNotFoundException() {
+    super("No flight recording has been started", null, false, false);
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.cosmocats.exception;
+
+public class RequestBodyTooLargeException extends RuntimeException {
+  public RequestBodyTooLargeException(long maxBytes) {
+    super("Request body exceeds " + maxBytes + " bytes", null, false, false);
+  }
+}
@@ -1,6 +1,7 @@
 package com.example.cosmocats.featuretoggle;
 
 import com.example.cosmocats.featuretoggle.config.FeatureToggleProperties;
+import com.example.cosmocats.jfr.FeatureToggleCheckEvent;
 import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.stereotype.Service;
 
@@ -14,7 +15,11 @@ public class FeatureToggleService {
   }
 
   public boolean check(String featureName) {
-    return featureToggles.getOrDefault(featureName, false);
+    FeatureToggleCheckEvent event = new FeatureToggleCheckEvent();
+    event.begin();
+    boolean enabled = featureToggles.getOrDefault(featureName, false);
+    FeatureToggleCheckEvent.commit(event, featureName, enabled);
+    return enabled;
   }
 
   public void enable(String featureName) {
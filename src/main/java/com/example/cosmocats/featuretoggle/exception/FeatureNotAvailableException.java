@@ -9,6 +9,6 @@ public class FeatureNotAvailableException extends RuntimeException {
   private static final String FEATURE_NOT_AVAILABLE = "Feature '%s' is not available";
 
   public FeatureNotAvailableException(String featureName) {
-    super(String.format(FEATURE_NOT_AVAILABLE, featureName));
+    super(String.format(FEATURE_NOT_AVAILABLE, featureName), null, false, false);
   }
 }
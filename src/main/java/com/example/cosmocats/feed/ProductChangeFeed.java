@@ -0,0 +1,126 @@
+package com.example.cosmocats.feed;
+
+import com.example.cosmocats.domain.event.ProductChangedEvent;
+import com.example.cosmocats.dto.product.ProductChangeEventDto;
+import com.example.cosmocats.service.mapper.ProductMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductChangeFeed {
+
+  static final int SUBSCRIBER_BUFFER_SIZE = 256;
+  static final int REPLAY_BUFFER_SIZE = 1024;
+
+  private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
+  private final ProductMapper productMapper;
+  private final Set<ProductChangeSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+  private final ProductChangeEventDto[] replay = new ProductChangeEventDto[REPLAY_BUFFER_SIZE];
+  private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+  // Publishing runs on the request thread of every product write, so it must not hold an object
+  // monitor: a virtual thread that blocks while holding one pins its carrier thread.
+  private final ReentrantLock lock = new ReentrantLock();
+  private long lastEventId;
+
+  public SseEmitter subscribe(Long resumeAfter) {
+    SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+    ProductChangeSubscriber subscriber = subscribe(new SseProductChangeSink(emitter), resumeAfter);
+
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(() -> unsubscribe(subscriber));
+    emitter.onError(error -> unsubscribe(subscriber));
+    return emitter;
+  }
+
+  @EventListener
+  public void onProductChanged(ProductChangedEvent event) {
+    lock.lock();
+    try {
+      long eventId = ++lastEventId;
+      ProductChangeEventDto changeEvent =
+          ProductChangeEventDto.builder()
+              .eventId(eventId)
+              .version(event.getVersion())
+              .type(event.getType())
+              .productId(event.getProductId())
+              .product(productMapper.toProductDto(event.getProduct()))
+              .build();
+
+      replay[replayIndex(eventId)] = changeEvent;
+      subscribers.forEach(subscriber -> subscriber.offer(changeEvent));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getSubscriberCount() {
+    return subscribers.size();
+  }
+
+  long getLastEventId() {
+    lock.lock();
+    try {
+      return lastEventId;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Registration and publishing share the feed lock, so replayed events always precede live ones.
+  ProductChangeSubscriber subscribe(ProductChangeSink sink, Long resumeAfter) {
+    lock.lock();
+    try {
+      ProductChangeSubscriber subscriber =
+          new ProductChangeSubscriber(SUBSCRIBER_BUFFER_SIZE, sink, dispatcher, this::unsubscribe);
+      if (resumeAfter != null) {
+        replaySince(subscriber, resumeAfter);
+      }
+      subscribers.add(subscriber);
+      log.debug("Product change subscriber registered, {} active", subscribers.size());
+      return subscriber;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void unsubscribe(ProductChangeSubscriber subscriber) {
+    if (subscribers.remove(subscriber)) {
+      log.debug("Product change subscriber removed, {} active", subscribers.size());
+    }
+    subscriber.close();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    subscribers.forEach(this::unsubscribe);
+    dispatcher.shutdownNow();
+  }
+
+  private void replaySince(ProductChangeSubscriber subscriber, long resumeAfter) {
+    long oldestRetained = Math.max(1, lastEventId - REPLAY_BUFFER_SIZE + 1);
+    if (resumeAfter > lastEventId || resumeAfter + 1 < oldestRetained) {
+      subscriber.offer(ProductChangeSubscriber.resync(lastEventId));
+      return;
+    }
+    for (long eventId = resumeAfter + 1; eventId <= lastEventId; eventId++) {
+      subscriber.offer(replay[replayIndex(eventId)]);
+    }
+  }
+
+  private static int replayIndex(long eventId) {
+    return (int) (eventId % REPLAY_BUFFER_SIZE);
+  }
+}
@@ -0,0 +1,12 @@
+package com.example.cosmocats.feed;
+
+import com.example.cosmocats.dto.product.ProductChangeEventDto;
+import java.io.IOException;
+
+@FunctionalInterface
+interface ProductChangeSink {
+
+  void send(ProductChangeEventDto event) throws IOException;
+
+  default void complete() {}
+}
@@ -0,0 +1,113 @@
+package com.example.cosmocats.feed;
+
+import com.example.cosmocats.domain.event.ProductChangeType;
+import com.example.cosmocats.dto.product.ProductChangeEventDto;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+class ProductChangeSubscriber {
+
+  private final int capacity;
+  private final ArrayDeque<ProductChangeEventDto> buffer = new ArrayDeque<>();
+  private final ReentrantLock bufferLock = new ReentrantLock();
+  private final ProductChangeSink sink;
+  private final Executor dispatcher;
+  private final Consumer<ProductChangeSubscriber> onFailure;
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private volatile boolean closed;
+
+  ProductChangeSubscriber(
+      int capacity,
+      ProductChangeSink sink,
+      Executor dispatcher,
+      Consumer<ProductChangeSubscriber> onFailure) {
+    this.capacity = capacity;
+    this.sink = sink;
+    this.dispatcher = dispatcher;
+    this.onFailure = onFailure;
+  }
+
+  // A full buffer means the consumer fell behind: everything queued is dropped and replaced by a
+  // single RESYNC marker telling the client to refetch the catalog and resume after its id.
+  void offer(ProductChangeEventDto event) {
+    if (closed) {
+      return;
+    }
+    bufferLock.lock();
+    try {
+      if (buffer.size() >= capacity) {
+        buffer.clear();
+        buffer.add(resync(event.getEventId()));
+      } else {
+        buffer.add(event);
+      }
+    } finally {
+      bufferLock.unlock();
+    }
+    scheduleDrain();
+  }
+
+  int bufferedEvents() {
+    bufferLock.lock();
+    try {
+      return buffer.size();
+    } finally {
+      bufferLock.unlock();
+    }
+  }
+
+  boolean isClosed() {
+    return closed;
+  }
+
+  void close() {
+    if (!closed) {
+      closed = true;
+      bufferLock.lock();
+      try {
+        buffer.clear();
+      } finally {
+        bufferLock.unlock();
+      }
+      sink.complete();
+    }
+  }
+
+  static ProductChangeEventDto resync(long eventId) {
+    return ProductChangeEventDto.builder().eventId(eventId).type(ProductChangeType.RESYNC).build();
+  }
+
+  private void scheduleDrain() {
+    if (draining.compareAndSet(false, true)) {
+      dispatcher.execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    try {
+      ProductChangeEventDto event;
+      while (!closed && (event = poll()) != null) {
+        sink.send(event);
+      }
+    } catch (Exception e) {
+      onFailure.accept(this);
+    } finally {
+      draining.set(false);
+    }
+    if (!closed && bufferedEvents() > 0) {
+      scheduleDrain();
+    }
+  }
+
+  private ProductChangeEventDto poll() {
+    bufferLock.lock();
+    try {
+      return buffer.poll();
+    } finally {
+      bufferLock.unlock();
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.example.cosmocats.feed;
+
+import com.example.cosmocats.dto.product.ProductChangeEventDto;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RequiredArgsConstructor
+class SseProductChangeSink implements ProductChangeSink {
+
+  private final SseEmitter emitter;
+
+  @Override
+  public void send(ProductChangeEventDto event) throws IOException {
+    emitter.send(
+        SseEmitter.event()
+            .id(String.valueOf(event.getEventId()))
+            .name(event.getType().name())
+            .data(event, MediaType.APPLICATION_JSON));
+  }
+
+  @Override
+  public void complete() {
+    emitter.complete();
+  }
+}
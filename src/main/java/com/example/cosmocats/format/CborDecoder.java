@@ -0,0 +1,272 @@
+package com.example.cosmocats.format;
+
+import static com.example.cosmocats.format.CborEncoder.BREAK;
+import static com.example.cosmocats.format.CborEncoder.DOUBLE_FLOAT;
+import static com.example.cosmocats.format.CborEncoder.FALSE;
+import static com.example.cosmocats.format.CborEncoder.HALF_FLOAT;
+import static com.example.cosmocats.format.CborEncoder.MAJOR_ARRAY;
+import static com.example.cosmocats.format.CborEncoder.MAJOR_BYTES;
+import static com.example.cosmocats.format.CborEncoder.MAJOR_MAP;
+import static com.example.cosmocats.format.CborEncoder.MAJOR_NEGATIVE;
+import static com.example.cosmocats.format.CborEncoder.MAJOR_TAG;
+import static com.example.cosmocats.format.CborEncoder.MAJOR_TEXT;
+import static com.example.cosmocats.format.CborEncoder.MAJOR_UNSIGNED;
+import static com.example.cosmocats.format.CborEncoder.NULL;
+import static com.example.cosmocats.format.CborEncoder.SINGLE_FLOAT;
+import static com.example.cosmocats.format.CborEncoder.TAG_DECIMAL_FRACTION;
+import static com.example.cosmocats.format.CborEncoder.TAG_NEGATIVE_BIGNUM;
+import static com.example.cosmocats.format.CborEncoder.TAG_POSITIVE_BIGNUM;
+import static com.example.cosmocats.format.CborEncoder.TRUE;
+import static com.example.cosmocats.format.CborEncoder.UNDEFINED;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+// Reads one CBOR data item and replays it as Jackson tokens, so request bodies go through the same
+// deserializers and validation as JSON ones. Map keys have to be text strings, as they are in
+// every document CborEncoder writes; tags other than bignums and decimal fractions are skipped and
+// their content read as is. Lengths are checked against the remaining input before anything is
+// allocated, and nesting is capped, so a hostile body fails fast instead of exhausting memory or
+// the stack.
+public final class CborDecoder {
+
+  static final int MAX_DEPTH = 256;
+
+  private static final int INDEFINITE = 31;
+
+  private final byte[] input;
+  private int position;
+
+  private CborDecoder(byte[] input) {
+    this.input = input;
+  }
+
+  public static void decode(byte[] input, JsonGenerator output) throws IOException {
+    CborDecoder decoder = new CborDecoder(input);
+    decoder.readItem(output, 0);
+    if (decoder.position != input.length) {
+      throw new IOException("Unexpected data after CBOR item at offset " + decoder.position);
+    }
+    output.flush();
+  }
+
+  private void readItem(JsonGenerator output, int depth) throws IOException {
+    if (depth > MAX_DEPTH) {
+      throw new IOException("CBOR nesting deeper than " + MAX_DEPTH);
+    }
+    int initial = readByte();
+    int major = initial >>> 5;
+    int info = initial & 0x1F;
+    switch (major) {
+      case MAJOR_UNSIGNED -> writeInteger(output, readArgument(info), false);
+      case MAJOR_NEGATIVE -> writeInteger(output, readArgument(info), true);
+      case MAJOR_BYTES -> output.writeBinary(readBytes(MAJOR_BYTES, info));
+      case MAJOR_TEXT -> output.writeString(readText(info));
+      case MAJOR_ARRAY -> readArray(output, info, depth);
+      case MAJOR_MAP -> readMap(output, info, depth);
+      case MAJOR_TAG -> readTagged(output, readArgument(info), depth);
+      default -> readSimple(output, initial);
+    }
+  }
+
+  private void readArray(JsonGenerator output, int info, int depth) throws IOException {
+    output.writeStartArray();
+    if (info == INDEFINITE) {
+      while (!readBreak()) {
+        readItem(output, depth + 1);
+      }
+    } else {
+      for (long remaining = readLength(info); remaining > 0; remaining--) {
+        readItem(output, depth + 1);
+      }
+    }
+    output.writeEndArray();
+  }
+
+  private void readMap(JsonGenerator output, int info, int depth) throws IOException {
+    output.writeStartObject();
+    if (info == INDEFINITE) {
+      while (!readBreak()) {
+        readEntry(output, depth);
+      }
+    } else {
+      for (long remaining = readLength(info); remaining > 0; remaining--) {
+        readEntry(output, depth);
+      }
+    }
+    output.writeEndObject();
+  }
+
+  private void readEntry(JsonGenerator output, int depth) throws IOException {
+    int initial = readByte();
+    if (initial >>> 5 != MAJOR_TEXT) {
+      throw new IOException("CBOR map key at offset " + (position - 1) + " is not a text string");
+    }
+    output.writeFieldName(readText(initial & 0x1F));
+    readItem(output, depth + 1);
+  }
+
+  private void readTagged(JsonGenerator output, long tag, int depth) throws IOException {
+    if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) {
+      output.writeNumber(readBignum(tag));
+    } else if (tag == TAG_DECIMAL_FRACTION) {
+      int initial = readByte();
+      if (initial != (MAJOR_ARRAY << 5 | 2)) {
+        throw new IOException("CBOR decimal fraction is not a two-element array");
+      }
+      int exponent = Math.toIntExact(readIntegerValue().longValueExact());
+      output.writeNumber(new BigDecimal(readIntegerValue(), -exponent));
+    } else {
+      readItem(output, depth + 1);
+    }
+  }
+
+  private BigInteger readIntegerValue() throws IOException {
+    int initial = readByte();
+    int major = initial >>> 5;
+    if (major == MAJOR_UNSIGNED || major == MAJOR_NEGATIVE) {
+      BigInteger value = unsigned(readArgument(initial & 0x1F));
+      return major == MAJOR_UNSIGNED ? value : value.not();
+    }
+    if (major == MAJOR_TAG) {
+      return readBignum(readArgument(initial & 0x1F));
+    }
+    throw new IOException("Expected a CBOR integer at offset " + (position - 1));
+  }
+
+  private BigInteger readBignum(long tag) throws IOException {
+    int initial = readByte();
+    if (initial >>> 5 != MAJOR_BYTES
+        || (tag != TAG_POSITIVE_BIGNUM && tag != TAG_NEGATIVE_BIGNUM)) {
+      throw new IOException("Malformed CBOR bignum at offset " + (position - 1));
+    }
+    BigInteger magnitude = new BigInteger(1, readBytes(MAJOR_BYTES, initial & 0x1F));
+    return tag == TAG_POSITIVE_BIGNUM ? magnitude : magnitude.not();
+  }
+
+  private void readSimple(JsonGenerator output, int initial) throws IOException {
+    switch (initial) {
+      case FALSE -> output.writeBoolean(false);
+      case TRUE -> output.writeBoolean(true);
+      case NULL, UNDEFINED -> output.writeNull();
+      case HALF_FLOAT -> output.writeNumber(Float.float16ToFloat((short) readUnsigned(2)));
+      case SINGLE_FLOAT -> output.writeNumber(Float.intBitsToFloat((int) readUnsigned(4)));
+      case DOUBLE_FLOAT -> output.writeNumber(Double.longBitsToDouble(readUnsigned(8)));
+      default ->
+          throw new IOException(
+              "Unsupported CBOR simple value 0x"
+                  + Integer.toHexString(initial)
+                  + " at offset "
+                  + (position - 1));
+    }
+  }
+
+  private static void writeInteger(JsonGenerator output, long argument, boolean negative)
+      throws IOException {
+    if (argument < 0) {
+      BigInteger value = unsigned(argument);
+      output.writeNumber(negative ? value.not() : value);
+    } else {
+      long value = negative ? -1 - argument : argument;
+      if (value == (int) value) {
+        output.writeNumber((int) value);
+      } else {
+        output.writeNumber(value);
+      }
+    }
+  }
+
+  private byte[] readBytes(int major, int info) throws IOException {
+    if (info != INDEFINITE) {
+      int length = readLength(info);
+      byte[] bytes = new byte[length];
+      System.arraycopy(input, position, bytes, 0, length);
+      position += length;
+      return bytes;
+    }
+    ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+    while (!readBreak()) {
+      int initial = readByte();
+      if (initial >>> 5 != major || (initial & 0x1F) == INDEFINITE) {
+        throw new IOException("Malformed CBOR string chunk at offset " + (position - 1));
+      }
+      int length = readLength(initial & 0x1F);
+      chunks.write(input, position, length);
+      position += length;
+    }
+    return chunks.toByteArray();
+  }
+
+  private String readText(int info) throws IOException {
+    if (info != INDEFINITE) {
+      int length = readLength(info);
+      String text = new String(input, position, length, StandardCharsets.UTF_8);
+      position += length;
+      return text;
+    }
+    return new String(readBytes(MAJOR_TEXT, info), StandardCharsets.UTF_8);
+  }
+
+  private boolean readBreak() throws IOException {
+    if (position == input.length) {
+      throw new IOException("Truncated CBOR input");
+    }
+    if ((input[position] & 0xFF) == BREAK) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  // Item counts and byte lengths; every item takes at least one byte, so a count larger than the
+  // bytes left can only come from a truncated or forged body.
+  private int readLength(int info) throws IOException {
+    long length = readArgument(info);
+    if (length < 0 || length > input.length - position) {
+      throw new IOException("CBOR length " + length + " exceeds the remaining input");
+    }
+    return (int) length;
+  }
+
+  private long readArgument(int info) throws IOException {
+    return switch (info) {
+      case 24 -> readUnsigned(1);
+      case 25 -> readUnsigned(2);
+      case 26 -> readUnsigned(4);
+      case 27 -> readUnsigned(8);
+      default -> {
+        if (info >= 24) {
+          throw new IOException("Unsupported CBOR argument at offset " + (position - 1));
+        }
+        yield info;
+      }
+    };
+  }
+
+  private long readUnsigned(int bytes) throws IOException {
+    if (bytes > input.length - position) {
+      throw new IOException("Truncated CBOR input");
+    }
+    long value = 0;
+    for (int i = 0; i < bytes; i++) {
+      value = value << 8 | (input[position++] & 0xFF);
+    }
+    return value;
+  }
+
+  private int readByte() throws IOException {
+    if (position == input.length) {
+      throw new IOException("Truncated CBOR input");
+    }
+    return input[position++] & 0xFF;
+  }
+
+  private static BigInteger unsigned(long value) {
+    BigInteger result = BigInteger.valueOf(value);
+    return value < 0 ? result.add(BigInteger.ONE.shiftLeft(Long.SIZE)) : result;
+  }
+}
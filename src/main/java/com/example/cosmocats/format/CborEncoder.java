@@ -0,0 +1,211 @@
+package com.example.cosmocats.format;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Writes a Jackson token stream as CBOR (RFC 8949), so anything the ObjectMapper can serialize,
+// DTOs and projections alike, comes out with the same property names and nesting as its JSON.
+// Objects and arrays use indefinite lengths because the stream does not say how many entries
+// follow; integers and floats use the shortest encoding that keeps their value.
+public final class CborEncoder {
+
+  static final int MAJOR_UNSIGNED = 0;
+  static final int MAJOR_NEGATIVE = 1;
+  static final int MAJOR_BYTES = 2;
+  static final int MAJOR_TEXT = 3;
+  static final int MAJOR_ARRAY = 4;
+  static final int MAJOR_MAP = 5;
+  static final int MAJOR_TAG = 6;
+
+  static final int TAG_POSITIVE_BIGNUM = 2;
+  static final int TAG_NEGATIVE_BIGNUM = 3;
+  static final int TAG_DECIMAL_FRACTION = 4;
+
+  static final int FALSE = 0xF4;
+  static final int TRUE = 0xF5;
+  static final int NULL = 0xF6;
+  static final int UNDEFINED = 0xF7;
+  static final int HALF_FLOAT = 0xF9;
+  static final int SINGLE_FLOAT = 0xFA;
+  static final int DOUBLE_FLOAT = 0xFB;
+  static final int INDEFINITE_ARRAY = 0x9F;
+  static final int INDEFINITE_MAP = 0xBF;
+  static final int BREAK = 0xFF;
+
+  private static final short HALF_NAN = 0x7E00;
+
+  private byte[] buffer = new byte[256];
+  private int size;
+
+  private CborEncoder() {}
+
+  public static byte[] encode(JsonParser tokens) throws IOException {
+    CborEncoder encoder = new CborEncoder();
+    JsonToken token;
+    while ((token = tokens.nextToken()) != null) {
+      encoder.writeToken(token, tokens);
+    }
+    return Arrays.copyOf(encoder.buffer, encoder.size);
+  }
+
+  private void writeToken(JsonToken token, JsonParser tokens) throws IOException {
+    switch (token) {
+      case START_OBJECT -> writeByte(INDEFINITE_MAP);
+      case START_ARRAY -> writeByte(INDEFINITE_ARRAY);
+      case END_OBJECT, END_ARRAY -> writeByte(BREAK);
+      case FIELD_NAME, VALUE_STRING -> writeText(tokens.getText());
+      case VALUE_NUMBER_INT -> {
+        if (tokens.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+          writeBigInteger(tokens.getBigIntegerValue());
+        } else {
+          writeLong(tokens.getLongValue());
+        }
+      }
+      case VALUE_NUMBER_FLOAT -> {
+        switch (tokens.getNumberType()) {
+          case FLOAT -> writeFloat(tokens.getFloatValue());
+          case BIG_DECIMAL -> writeBigDecimal(tokens.getDecimalValue());
+          default -> writeDouble(tokens.getDoubleValue());
+        }
+      }
+      case VALUE_TRUE -> writeByte(TRUE);
+      case VALUE_FALSE -> writeByte(FALSE);
+      case VALUE_NULL -> writeByte(NULL);
+      case VALUE_EMBEDDED_OBJECT -> writeEmbedded(tokens.getEmbeddedObject());
+      default -> throw new IOException("Cannot encode token " + token + " as CBOR");
+    }
+  }
+
+  private void writeEmbedded(Object value) throws IOException {
+    if (value == null) {
+      writeByte(NULL);
+    } else if (value instanceof byte[] bytes) {
+      writeHeader(MAJOR_BYTES, bytes.length);
+      writeBytes(bytes);
+    } else {
+      throw new IOException("Cannot encode embedded " + value.getClass().getName() + " as CBOR");
+    }
+  }
+
+  private void writeText(String text) {
+    byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+    writeHeader(MAJOR_TEXT, utf8.length);
+    writeBytes(utf8);
+  }
+
+  private void writeLong(long value) {
+    if (value >= 0) {
+      writeHeader(MAJOR_UNSIGNED, value);
+    } else {
+      writeHeader(MAJOR_NEGATIVE, -1 - value);
+    }
+  }
+
+  // Anything that fits in 64 bits after the sign is taken out is a plain integer; only wider values
+  // need the bignum tags.
+  private void writeBigInteger(BigInteger value) {
+    boolean negative = value.signum() < 0;
+    BigInteger argument = negative ? value.not() : value;
+    if (argument.bitLength() <= Long.SIZE) {
+      writeHeader(negative ? MAJOR_NEGATIVE : MAJOR_UNSIGNED, argument.longValue());
+      return;
+    }
+    writeHeader(MAJOR_TAG, negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+    byte[] magnitude = argument.toByteArray();
+    int offset = magnitude[0] == 0 ? 1 : 0;
+    writeHeader(MAJOR_BYTES, magnitude.length - offset);
+    ensureCapacity(magnitude.length - offset);
+    System.arraycopy(magnitude, offset, buffer, size, magnitude.length - offset);
+    size += magnitude.length - offset;
+  }
+
+  private void writeBigDecimal(BigDecimal value) {
+    writeHeader(MAJOR_TAG, TAG_DECIMAL_FRACTION);
+    writeHeader(MAJOR_ARRAY, 2);
+    writeLong(-value.scale());
+    writeBigInteger(value.unscaledValue());
+  }
+
+  private void writeFloat(float value) {
+    if (Float.isNaN(value)) {
+      writeByte(HALF_FLOAT);
+      writeShort(HALF_NAN);
+      return;
+    }
+    short half = Float.floatToFloat16(value);
+    if (Float.float16ToFloat(half) == value) {
+      writeByte(HALF_FLOAT);
+      writeShort(half);
+    } else {
+      writeByte(SINGLE_FLOAT);
+      writeInt(Float.floatToRawIntBits(value));
+    }
+  }
+
+  private void writeDouble(double value) {
+    if (Double.isNaN(value) || (float) value == value) {
+      writeFloat((float) value);
+    } else {
+      writeByte(DOUBLE_FLOAT);
+      writeInt((int) (Double.doubleToRawLongBits(value) >>> 32));
+      writeInt((int) Double.doubleToRawLongBits(value));
+    }
+  }
+
+  // The argument is unsigned, so the full 64-bit range of CBOR integers can be written.
+  private void writeHeader(int major, long argument) {
+    int initial = major << 5;
+    if (Long.compareUnsigned(argument, 24) < 0) {
+      writeByte(initial | (int) argument);
+    } else if (Long.compareUnsigned(argument, 0xFF) <= 0) {
+      writeByte(initial | 24);
+      writeByte((int) argument);
+    } else if (Long.compareUnsigned(argument, 0xFFFF) <= 0) {
+      writeByte(initial | 25);
+      writeShort((short) argument);
+    } else if (Long.compareUnsigned(argument, 0xFFFF_FFFFL) <= 0) {
+      writeByte(initial | 26);
+      writeInt((int) argument);
+    } else {
+      writeByte(initial | 27);
+      writeInt((int) (argument >>> 32));
+      writeInt((int) argument);
+    }
+  }
+
+  private void writeByte(int value) {
+    ensureCapacity(1);
+    buffer[size++] = (byte) value;
+  }
+
+  private void writeShort(short value) {
+    ensureCapacity(2);
+    buffer[size++] = (byte) (value >> 8);
+    buffer[size++] = (byte) value;
+  }
+
+  private void writeInt(int value) {
+    ensureCapacity(4);
+    buffer[size++] = (byte) (value >> 24);
+    buffer[size++] = (byte) (value >> 16);
+    buffer[size++] = (byte) (value >> 8);
+    buffer[size++] = (byte) value;
+  }
+
+  private void writeBytes(byte[] bytes) {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, size, bytes.length);
+    size += bytes.length;
+  }
+
+  private void ensureCapacity(int extra) {
+    if (size + extra > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.example.cosmocats.format;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+// Wire formats for product responses. Both write the same ObjectMapper output, so a ProductDto has
+// one schema whatever the format; CBOR swaps the JSON text for a binary encoding of the same tokens.
+public enum ResponseFormat {
+  JSON(MediaType.APPLICATION_JSON, "") {
+    @Override
+    public byte[] write(ObjectMapper objectMapper, Object value) throws IOException {
+      return objectMapper.writeValueAsBytes(value);
+    }
+  },
+  CBOR(MediaType.APPLICATION_CBOR, ":cbor") {
+    @Override
+    public byte[] write(ObjectMapper objectMapper, Object value) throws IOException {
+      TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+      objectMapper.writeValue(tokens, value);
+      return CborEncoder.encode(tokens.asParser(objectMapper));
+    }
+  };
+
+  private final MediaType mediaType;
+  private final String keySuffix;
+
+  ResponseFormat(MediaType mediaType, String keySuffix) {
+    this.mediaType = mediaType;
+    this.keySuffix = keySuffix;
+  }
+
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  // Cache key of this format's copy of a response; JSON keeps the plain key.
+  public String key(String key) {
+    return key + keySuffix;
+  }
+
+  public abstract byte[] write(ObjectMapper objectMapper, Object value) throws IOException;
+
+  // Most preferred format the Accept header allows, falling back to JSON for a missing, malformed
+  // or unsatisfiable header as these endpoints always did. Wildcards resolve to JSON.
+  public static ResponseFormat negotiate(String accept) {
+    if (accept == null || accept.isBlank()) {
+      return JSON;
+    }
+    List<MediaType> acceptable;
+    try {
+      acceptable = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException e) {
+      return JSON;
+    }
+    MimeTypeUtils.sortBySpecificity(acceptable);
+    for (MediaType mediaType : acceptable) {
+      if (mediaType.getQualityValue() == 0) {
+        continue;
+      }
+      for (ResponseFormat format : values()) {
+        if (mediaType.isCompatibleWith(format.mediaType)) {
+          return format;
+        }
+      }
+    }
+    return JSON;
+  }
+}
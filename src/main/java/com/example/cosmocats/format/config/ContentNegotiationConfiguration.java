@@ -0,0 +1,24 @@
+package com.example.cosmocats.format.config;
+
+import com.example.cosmocats.format.web.CborHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// The CBOR converter goes after the defaults rather than being declared as a converter bean, which
+// Spring Boot would put first: a client that accepts anything keeps getting JSON, and only an
+// explicit application/cbor Accept or Content-Type reaches it.
+@Configuration
+@RequiredArgsConstructor
+public class ContentNegotiationConfiguration implements WebMvcConfigurer {
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(new CborHttpMessageConverter(objectMapper));
+  }
+}
@@ -0,0 +1,109 @@
+package com.example.cosmocats.format.web;
+
+import com.example.cosmocats.exception.RequestBodyTooLargeException;
+import com.example.cosmocats.format.CborDecoder;
+import com.example.cosmocats.format.ResponseFormat;
+import com.example.cosmocats.timing.RequestTimings;
+import com.example.cosmocats.timing.ServerTimingPhase;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+// application/cbor bodies for any type the ObjectMapper handles. Reading replays the CBOR item as
+// Jackson tokens and writing encodes the serialized tokens, so the configured modules, mixins and
+// bean validation apply exactly as they do to JSON.
+//
+// The decoder needs the whole item in memory, so bodies are read up to MAX_BODY_BYTES and anything
+// longer is refused with 413, whether or not it announced its length.
+public class CborHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+  public static final int MAX_BODY_BYTES = 1 << 20;
+
+  private final ObjectMapper objectMapper;
+
+  public CborHttpMessageConverter(ObjectMapper objectMapper) {
+    super(MediaType.APPLICATION_CBOR);
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return true;
+  }
+
+  @Override
+  public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+      throws IOException, HttpMessageNotReadableException {
+    RequestTimings timings = RequestTimings.current();
+    if (timings == null) {
+      return readTokens(type, contextClass, inputMessage);
+    }
+    timings.begin(ServerTimingPhase.PARSE);
+    try {
+      return readTokens(type, contextClass, inputMessage);
+    } finally {
+      timings.end(ServerTimingPhase.PARSE);
+    }
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+      throws IOException, HttpMessageNotReadableException {
+    return readTokens(clazz, null, inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+      throws IOException, HttpMessageNotWritableException {
+    RequestTimings timings = RequestTimings.current();
+    if (timings != null) {
+      timings.begin(ServerTimingPhase.SERIALIZATION);
+    }
+    byte[] body;
+    try {
+      body = ResponseFormat.CBOR.write(objectMapper, object);
+    } finally {
+      if (timings != null) {
+        timings.end(ServerTimingPhase.SERIALIZATION);
+      }
+    }
+    outputMessage.getBody().write(body);
+  }
+
+  private Object readTokens(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+      throws IOException {
+    JavaType javaType =
+        objectMapper.constructType(GenericTypeResolver.resolveType(type, contextClass));
+    TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+    try {
+      CborDecoder.decode(readBody(inputMessage), tokens);
+      try (JsonParser parser = tokens.asParser(objectMapper)) {
+        return objectMapper.readValue(parser, javaType);
+      }
+    } catch (IOException e) {
+      throw new HttpMessageNotReadableException(
+          "Could not read CBOR: " + e.getMessage(), e, inputMessage);
+    }
+  }
+
+  private static byte[] readBody(HttpInputMessage inputMessage) throws IOException {
+    if (inputMessage.getHeaders().getContentLength() > MAX_BODY_BYTES) {
+      throw new RequestBodyTooLargeException(MAX_BODY_BYTES);
+    }
+    byte[] body = inputMessage.getBody().readNBytes(MAX_BODY_BYTES + 1);
+    if (body.length > MAX_BODY_BYTES) {
+      throw new RequestBodyTooLargeException(MAX_BODY_BYTES);
+    }
+    return body;
+  }
+}
@@ -0,0 +1,60 @@
+package com.example.cosmocats.hotkey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Approximate per-key counts in depth * width counters. Each row maps a key's 64-bit hash to one
+// counter; a key's estimate is the smallest of its counters, which is never below the true count
+// and exceeds it by at most e / width of the total with probability 1 - e^-depth. Updates are plain
+// atomic increments, so writers never wait on each other.
+public class CountMinSketch {
+
+  private final int depth;
+  private final int widthMask;
+  private final AtomicLongArray counters;
+
+  public CountMinSketch(int depth, int width) {
+    if (depth < 1 || width < 1 || Integer.bitCount(width) != 1) {
+      throw new IllegalArgumentException(
+          "Sketch depth must be positive and width a power of two, got " + depth + "x" + width);
+    }
+    this.depth = depth;
+    this.widthMask = width - 1;
+    this.counters = new AtomicLongArray(depth * width);
+  }
+
+  public int getWidth() {
+    return widthMask + 1;
+  }
+
+  // Returns the key's estimate including this occurrence.
+  public long add(long hash) {
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.incrementAndGet(index(row, hash)));
+    }
+    return estimate;
+  }
+
+  public long estimate(long hash) {
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.get(index(row, hash)));
+    }
+    return estimate;
+  }
+
+  // Halves every counter. Increments racing with the sweep may land before or after their cell is
+  // halved, which only shifts a few counts between windows.
+  public void decay() {
+    for (int i = 0; i < counters.length(); i++) {
+      counters.getAndUpdate(i, count -> count >>> 1);
+    }
+  }
+
+  // Double hashing from the two halves of the hash stands in for depth independent functions.
+  private int index(int row, long hash) {
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32) | 1;
+    return row * (widthMask + 1) + ((h1 + row * h2) & widthMask);
+  }
+}
@@ -0,0 +1,134 @@
+package com.example.cosmocats.hotkey;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+// Streaming top-K over an unbounded key space in fixed memory. A count-min sketch estimates every
+// key's frequency, and a space-saving table of trackedKeys slots remembers which keys are heavy:
+// a key missing from a full table takes over the slot with the smallest count once its sketch
+// estimate exceeds that count. All updates are single compare-and-set or atomic increments.
+//
+// Counts decay by half at the end of every window, so the ranking follows the last few windows of
+// traffic rather than all time. Like the rate limiter's sweep, the decay runs on whichever
+// recording thread first notices the window has ended.
+public class HeavyHitters<K> {
+
+  private final CountMinSketch sketch;
+  private final AtomicReferenceArray<Slot<K>> slots;
+  private final AtomicLong total = new AtomicLong();
+  private final long windowNanos;
+  private final LongSupplier nanoClock;
+  private final AtomicLong windowStart;
+
+  public HeavyHitters(int trackedKeys, int sketchDepth, int sketchWidth, long windowNanos) {
+    this(trackedKeys, sketchDepth, sketchWidth, windowNanos, System::nanoTime);
+  }
+
+  HeavyHitters(
+      int trackedKeys, int sketchDepth, int sketchWidth, long windowNanos, LongSupplier nanoClock) {
+    if (trackedKeys < 1) {
+      throw new IllegalArgumentException("At least one key must be tracked, got " + trackedKeys);
+    }
+    this.sketch = new CountMinSketch(sketchDepth, sketchWidth);
+    this.slots = new AtomicReferenceArray<>(trackedKeys);
+    this.windowNanos = windowNanos;
+    this.nanoClock = nanoClock;
+    this.windowStart = new AtomicLong(nanoClock.getAsLong());
+  }
+
+  public void record(K key) {
+    decayIfWindowEnded();
+    long hash = hash(key);
+    long estimate = sketch.add(hash);
+    total.incrementAndGet();
+
+    int free = -1;
+    int smallest = -1;
+    Slot<K> smallestSlot = null;
+    for (int i = 0; i < slots.length(); i++) {
+      Slot<K> slot = slots.get(i);
+      if (slot == null) {
+        if (free < 0) {
+          free = i;
+        }
+      } else if (slot.hash == hash && slot.key.equals(key)) {
+        slot.count.accumulateAndGet(estimate, Math::max);
+        return;
+      } else if (smallestSlot == null || slot.count.get() < smallestSlot.count.get()) {
+        smallest = i;
+        smallestSlot = slot;
+      }
+    }
+    // A lost race just leaves the slot to the other writer; the key is retried on its next hit.
+    if (free >= 0) {
+      slots.compareAndSet(free, null, new Slot<>(key, hash, estimate));
+    } else if (estimate > smallestSlot.count.get()) {
+      slots.compareAndSet(smallest, smallestSlot, new Slot<>(key, hash, estimate));
+    }
+  }
+
+  // Two writers can admit the same new key into different slots at once, so duplicates are merged
+  // here rather than prevented on the hot path.
+  public List<HotKey<K>> top(int limit) {
+    Map<K, Long> counts = new HashMap<>();
+    for (int i = 0; i < slots.length(); i++) {
+      Slot<K> slot = slots.get(i);
+      if (slot != null && slot.count.get() > 0) {
+        counts.merge(slot.key, slot.count.get(), Math::max);
+      }
+    }
+    List<HotKey<K>> hotKeys = new ArrayList<>(counts.size());
+    counts.forEach((key, count) -> hotKeys.add(new HotKey<>(key, count)));
+    hotKeys.sort(Comparator.comparingLong(HotKey<K>::count).reversed());
+    return hotKeys.subList(0, Math.min(limit, hotKeys.size()));
+  }
+
+  public long getTotal() {
+    return total.get();
+  }
+
+  // Upper bound, with high probability, on how far any reported count may exceed the true one.
+  public long getErrorBound() {
+    return (long) Math.ceil(total.get() * Math.E / sketch.getWidth());
+  }
+
+  private void decayIfWindowEnded() {
+    long start = windowStart.get();
+    long now = nanoClock.getAsLong();
+    if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+      sketch.decay();
+      total.getAndUpdate(count -> count >>> 1);
+      for (int i = 0; i < slots.length(); i++) {
+        Slot<K> slot = slots.get(i);
+        if (slot != null && slot.count.updateAndGet(count -> count >>> 1) == 0) {
+          slots.compareAndSet(i, slot, null);
+        }
+      }
+    }
+  }
+
+  private static long hash(Object key) {
+    long h = key.hashCode() * 0x9E3779B97F4A7C15L;
+    h ^= h >>> 33;
+    h *= 0xFF51AFD7ED558CCDL;
+    return h ^ (h >>> 33);
+  }
+
+  private static final class Slot<K> {
+    private final K key;
+    private final long hash;
+    private final AtomicLong count;
+
+    private Slot(K key, long hash, long count) {
+      this.key = key;
+      this.hash = hash;
+      this.count = new AtomicLong(count);
+    }
+  }
+}
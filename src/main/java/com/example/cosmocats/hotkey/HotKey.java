@@ -0,0 +1,3 @@
+package com.example.cosmocats.hotkey;
+
+public record HotKey<K>(K key, long count) {}
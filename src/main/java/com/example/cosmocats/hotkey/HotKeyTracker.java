@@ -0,0 +1,58 @@
+package com.example.cosmocats.hotkey;
+
+import com.example.cosmocats.dto.diagnostics.HotKeyDto;
+import com.example.cosmocats.dto.diagnostics.HotKeysDto;
+import com.example.cosmocats.hotkey.config.HotKeyProperties;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+// Which product ids and categories dominate reads, fed from the ProductController read paths.
+@Component
+public class HotKeyTracker {
+
+  private final HeavyHitters<UUID> products;
+  private final HeavyHitters<String> categories;
+  private final long windowSeconds;
+
+  public HotKeyTracker(HotKeyProperties properties) {
+    this.products = heavyHitters(properties);
+    this.categories = heavyHitters(properties);
+    this.windowSeconds = properties.getWindow().toSeconds();
+  }
+
+  public void recordProduct(UUID productId) {
+    products.record(productId);
+  }
+
+  public void recordCategory(String category) {
+    categories.record(category.toLowerCase(Locale.ROOT));
+  }
+
+  public HotKeysDto getHotKeys(int limit) {
+    return HotKeysDto.builder()
+        .windowSeconds(windowSeconds)
+        .productReads(products.getTotal())
+        .productErrorBound(products.getErrorBound())
+        .products(toHotKeyDtos(products.top(limit)))
+        .categoryReads(categories.getTotal())
+        .categoryErrorBound(categories.getErrorBound())
+        .categories(toHotKeyDtos(categories.top(limit)))
+        .build();
+  }
+
+  private static <K> HeavyHitters<K> heavyHitters(HotKeyProperties properties) {
+    return new HeavyHitters<>(
+        properties.getTrackedKeys(),
+        properties.getSketchDepth(),
+        properties.getSketchWidth(),
+        properties.getWindow().toNanos());
+  }
+
+  private static List<HotKeyDto> toHotKeyDtos(List<? extends HotKey<?>> hotKeys) {
+    return hotKeys.stream()
+        .map(hotKey -> HotKeyDto.builder().key(hotKey.key().toString()).count(hotKey.count()).build())
+        .toList();
+  }
+}
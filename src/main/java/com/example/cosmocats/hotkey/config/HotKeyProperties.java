@@ -0,0 +1,22 @@
+package com.example.cosmocats.hotkey.config;
+
+import java.time.Duration;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "application.hot-keys")
+public class HotKeyProperties {
+
+  // Space-saving slots per dimension; only keys holding a slot can be reported.
+  int trackedKeys = 64;
+  int sketchDepth = 4;
+  // Must be a power of two.
+  int sketchWidth = 2048;
+  // Counts halve at the end of each window.
+  Duration window = Duration.ofMinutes(1);
+}
@@ -0,0 +1,38 @@
+package com.example.cosmocats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.example.cosmocats.CosmicWordValidation")
+@Label("Cosmic Word Validation")
+@Category({"Cosmo Cats", "Validation"})
+@Description("CosmicWordValidator run that took longer than the threshold")
+@Threshold("500 us")
+@StackTrace(false)
+public class CosmicWordValidationEvent extends Event {
+
+  @Label("Value Length")
+  int valueLength;
+
+  @Label("Cosmic Words")
+  long cosmicWords;
+
+  @Label("Valid")
+  boolean valid;
+
+  public static void commit(
+      CosmicWordValidationEvent event, int valueLength, long cosmicWords, boolean valid) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.valueLength = valueLength;
+      event.cosmicWords = cosmicWords;
+      event.valid = valid;
+      event.commit();
+    }
+  }
+}
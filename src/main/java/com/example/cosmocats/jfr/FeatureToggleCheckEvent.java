@@ -0,0 +1,33 @@
+package com.example.cosmocats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.example.cosmocats.FeatureToggleCheck")
+@Label("Feature Toggle Check")
+@Category({"Cosmo Cats", "Feature Toggles"})
+@Description("FeatureToggleService check that took longer than the threshold")
+@Threshold("100 us")
+@StackTrace(false)
+public class FeatureToggleCheckEvent extends Event {
+
+  @Label("Feature")
+  String feature;
+
+  @Label("Enabled")
+  boolean enabled;
+
+  public static void commit(FeatureToggleCheckEvent event, String feature, boolean enabled) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.feature = feature;
+      event.enabled = enabled;
+      event.commit();
+    }
+  }
+}
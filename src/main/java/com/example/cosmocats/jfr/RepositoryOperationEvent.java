@@ -0,0 +1,42 @@
+package com.example.cosmocats.jfr;
+
+import java.util.UUID;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.example.cosmocats.RepositoryOperation")
+@Label("Repository Operation")
+@Category({"Cosmo Cats", "Repository"})
+@Description("Read or write against the product repository that took longer than the threshold")
+@Threshold("1 ms")
+@StackTrace(false)
+public class RepositoryOperationEvent extends Event {
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Product Id")
+  String productId;
+
+  @Label("Products")
+  @Description("Products read or written, or scanned for catalog-wide lookups")
+  int productCount;
+
+  // Fields are only filled in once the event is known to be recorded, so a fast or disabled
+  // event never pays for UUID formatting.
+  public static void commit(
+      RepositoryOperationEvent event, String operation, UUID productId, int productCount) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.operation = operation;
+      event.productId = productId != null ? productId.toString() : null;
+      event.productCount = productCount;
+      event.commit();
+    }
+  }
+}
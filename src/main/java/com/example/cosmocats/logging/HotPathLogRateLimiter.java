@@ -0,0 +1,111 @@
+package com.example.cosmocats.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.slf4j.Marker;
+
+// Caps how many INFO-and-below events each log statement of the configured loggers may emit per
+// second. A statement is identified by its message template, which for the service hot paths is
+// one template per operation step. Runs as a turbo filter, so rejected events are dropped before
+// their arguments are formatted or an event object is allocated. WARN and ERROR always pass.
+public class HotPathLogRateLimiter extends TurboFilter {
+
+  static final int MAX_TRACKED_TEMPLATES = 1024;
+
+  private static final int COUNT_BITS = 24;
+  private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+  private final List<String> loggers = new ArrayList<>();
+  private final ConcurrentMap<String, AtomicLong> windows = new ConcurrentHashMap<>();
+  private final LongAdder suppressed = new LongAdder();
+  private final LongSupplier clock;
+  private int permitsPerSecond = 10;
+
+  public HotPathLogRateLimiter() {
+    this(System::currentTimeMillis);
+  }
+
+  HotPathLogRateLimiter(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  public void addLoggerName(String loggerName) {
+    loggers.add(loggerName);
+  }
+
+  public void setPermitsPerSecond(int permitsPerSecond) {
+    this.permitsPerSecond = permitsPerSecond;
+  }
+
+  public long getSuppressedCount() {
+    return suppressed.sum();
+  }
+
+  @Override
+  public void start() {
+    if (permitsPerSecond < 0 || permitsPerSecond > COUNT_MASK) {
+      addError("permitsPerSecond must be between 0 and " + COUNT_MASK);
+      return;
+    }
+    super.start();
+  }
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    if (!isStarted()
+        || format == null
+        || level.isGreaterOrEqual(Level.WARN)
+        || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+        || !isLimited(logger.getName())) {
+      return FilterReply.NEUTRAL;
+    }
+    if (tryAcquire(format)) {
+      return FilterReply.NEUTRAL;
+    }
+    suppressed.increment();
+    return FilterReply.DENY;
+  }
+
+  private boolean isLimited(String loggerName) {
+    for (String limited : loggers) {
+      if (loggerName.startsWith(limited)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Each window packs the current second and the number of events admitted in it into one long,
+  // so admitting an event is a single compare-and-set with no lock and no per-event allocation.
+  private boolean tryAcquire(String template) {
+    AtomicLong window = windows.get(template);
+    if (window == null) {
+      if (windows.size() >= MAX_TRACKED_TEMPLATES) {
+        return true;
+      }
+      window = windows.computeIfAbsent(template, key -> new AtomicLong());
+    }
+
+    long second = clock.getAsLong() / 1000;
+    while (true) {
+      long current = window.get();
+      long admitted = current >>> COUNT_BITS == second ? current & COUNT_MASK : 0;
+      if (admitted >= permitsPerSecond) {
+        return false;
+      }
+      if (window.compareAndSet(current, second << COUNT_BITS | (admitted + 1))) {
+        return true;
+      }
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.example.cosmocats.metrics.aspect;
+
+import com.example.cosmocats.featuretoggle.annotation.FeatureToggle;
+import com.example.cosmocats.featuretoggle.exception.FeatureNotAvailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Runs outside FeatureToggleAspect so a call rejected by a disabled toggle is still timed and
+// tagged toggle=disabled.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class OperationMetricsAspect {
+
+  public static final String OPERATION_TIMER = "cosmocats.operation";
+
+  private static final String NO_EXCEPTION = "none";
+  private static final String UNGUARDED = "none";
+  private static final String TOGGLE_ENABLED = "enabled";
+  private static final String TOGGLE_DISABLED = "disabled";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<Method, OperationMeters> operations = new ConcurrentHashMap<>();
+
+  // A type pattern rather than @within: it matches statically, so no pointcut test runs per call.
+  @Around(
+      "execution(public * *(..)) && within(@com.example.cosmocats.metrics.annotation.Monitored *)")
+  public Object recordOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+    OperationMeters meters =
+        operations.computeIfAbsent(
+            ((MethodSignature) joinPoint.getSignature()).getMethod(), this::createMeters);
+
+    long start = System.nanoTime();
+    try {
+      Object result = joinPoint.proceed();
+      meters.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return result;
+    } catch (Throwable error) {
+      meters.failure(error).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw error;
+    }
+  }
+
+  // Meters are registered once per method and outcome, so the hot path is a map hit and a record.
+  private OperationMeters createMeters(Method method) {
+    boolean guarded =
+        AnnotatedElementUtils.hasAnnotation(method, FeatureToggle.class)
+            || AnnotatedElementUtils.hasAnnotation(method.getDeclaringClass(), FeatureToggle.class);
+    String className = method.getDeclaringClass().getSimpleName();
+    String methodName = method.getName();
+    String toggle = guarded ? TOGGLE_ENABLED : UNGUARDED;
+    Timer success = timer(className, methodName, "success", NO_EXCEPTION, toggle);
+    return new OperationMeters(
+        success,
+        new ConcurrentHashMap<>(),
+        errorType ->
+            timer(
+                className,
+                methodName,
+                "error",
+                errorType.getSimpleName(),
+                FeatureNotAvailableException.class.isAssignableFrom(errorType)
+                    ? TOGGLE_DISABLED
+                    : toggle));
+  }
+
+  private Timer timer(
+      String className, String methodName, String outcome, String exception, String toggle) {
+    return Timer.builder(OPERATION_TIMER)
+        .description("Latency of service and repository operations")
+        .tag("class", className)
+        .tag("method", methodName)
+        .tag("outcome", outcome)
+        .tag("exception", exception)
+        .tag("toggle", toggle)
+        .register(meterRegistry);
+  }
+
+  private record OperationMeters(
+      Timer success, Map<Class<?>, Timer> failures, Function<Class<?>, Timer> failureTimer) {
+
+    Timer failure(Throwable error) {
+      return failures.computeIfAbsent(error.getClass(), failureTimer);
+    }
+  }
+}
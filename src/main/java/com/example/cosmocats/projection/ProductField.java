@@ -0,0 +1,77 @@
+package com.example.cosmocats.projection;
+
+import com.example.cosmocats.domain.Product;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+
+// ProductDto properties a client can ask for, in the order ProductDto serializes them. Each one
+// writes its value straight from the domain product, under a name encoded once up front.
+public enum ProductField {
+  PRODUCT_ID("productId") {
+    @Override
+    void writeValue(Product product, JsonGenerator generator) throws IOException {
+      if (product.getProductId() == null) {
+        generator.writeNull();
+      } else {
+        generator.writeString(product.getProductId().toString());
+      }
+    }
+  },
+  CATEGORY("category") {
+    @Override
+    void writeValue(Product product, JsonGenerator generator) throws IOException {
+      generator.writeString(product.getCategory());
+    }
+  },
+  NAME("name") {
+    @Override
+    void writeValue(Product product, JsonGenerator generator) throws IOException {
+      generator.writeString(product.getName());
+    }
+  },
+  DESCRIPTION("description") {
+    @Override
+    void writeValue(Product product, JsonGenerator generator) throws IOException {
+      generator.writeString(product.getDescription());
+    }
+  },
+  PRICE("price") {
+    @Override
+    void writeValue(Product product, JsonGenerator generator) throws IOException {
+      if (product.getPrice() == null) {
+        generator.writeNull();
+      } else {
+        generator.writeNumber(product.getPrice());
+      }
+    }
+  };
+
+  private final String property;
+  private final SerializedString serializedProperty;
+
+  ProductField(String property) {
+    this.property = property;
+    this.serializedProperty = new SerializedString(property);
+  }
+
+  public String getProperty() {
+    return property;
+  }
+
+  void write(Product product, JsonGenerator generator) throws IOException {
+    generator.writeFieldName(serializedProperty);
+    writeValue(product, generator);
+  }
+
+  abstract void writeValue(Product product, JsonGenerator generator) throws IOException;
+
+  public static ProductField fromProperty(String property) {
+    for (ProductField field : values()) {
+      if (field.property.equals(property)) {
+        return field;
+      }
+    }
+    throw new IllegalArgumentException("Unknown product field: " + property);
+  }
+}
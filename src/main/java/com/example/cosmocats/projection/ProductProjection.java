@@ -0,0 +1,84 @@
+package com.example.cosmocats.projection;
+
+import com.example.cosmocats.domain.Product;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// A sparse fieldset compiled into the list of fields to write. There are only 31 non-empty subsets
+// of the product fields, so each is compiled the first time it is requested and kept for good;
+// requests that name the same fields in another order or more than once share one projection.
+public final class ProductProjection {
+
+  public static final String FIELDS_PATTERN =
+      "(productId|category|name|description|price)(,(productId|category|name|description|price))*";
+
+  private static final ProductField[] FIELDS = ProductField.values();
+  private static final AtomicReferenceArray<ProductProjection> COMPILED =
+      new AtomicReferenceArray<>(1 << FIELDS.length);
+
+  private final ProductField[] fields;
+  private final String key;
+
+  private ProductProjection(ProductField[] fields, String key) {
+    this.fields = fields;
+    this.key = key;
+  }
+
+  // Returns null when no fields were requested, meaning the full representation.
+  public static ProductProjection of(String fields) {
+    if (fields == null || fields.isBlank()) {
+      return null;
+    }
+    int mask = 0;
+    for (String property : fields.split(",")) {
+      mask |= 1 << ProductField.fromProperty(property.strip()).ordinal();
+    }
+    ProductProjection projection = COMPILED.get(mask);
+    if (projection == null) {
+      COMPILED.compareAndSet(mask, null, compile(mask));
+      projection = COMPILED.get(mask);
+    }
+    return projection;
+  }
+
+  // Canonical field list, used to key cached responses.
+  public String getKey() {
+    return key;
+  }
+
+  public ProjectedProduct project(Product product) {
+    return new ProjectedProduct(this, product);
+  }
+
+  public ProjectedProductList project(List<Product> products) {
+    return new ProjectedProductList(this, null, products);
+  }
+
+  public ProjectedProductList project(List<Product> products, long total) {
+    return new ProjectedProductList(this, total, products);
+  }
+
+  void write(Product product, JsonGenerator generator) throws IOException {
+    generator.writeStartObject();
+    for (ProductField field : fields) {
+      field.write(product, generator);
+    }
+    generator.writeEndObject();
+  }
+
+  private static ProductProjection compile(int mask) {
+    List<ProductField> selected = new ArrayList<>(FIELDS.length);
+    StringJoiner key = new StringJoiner(",");
+    for (ProductField field : FIELDS) {
+      if ((mask & 1 << field.ordinal()) != 0) {
+        selected.add(field);
+        key.add(field.getProperty());
+      }
+    }
+    return new ProductProjection(selected.toArray(ProductField[]::new), key.toString());
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.cosmocats.projection;
+
+import com.example.cosmocats.domain.Product;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+
+// One product written with only the projected fields, by whichever ObjectMapper serializes it.
+public final class ProjectedProduct extends JsonSerializable.Base {
+
+  private final ProductProjection projection;
+  private final Product product;
+
+  ProjectedProduct(ProductProjection projection, Product product) {
+    this.projection = projection;
+    this.product = product;
+  }
+
+  @Override
+  public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+    projection.write(product, generator);
+  }
+
+  @Override
+  public void serializeWithType(
+      JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer)
+      throws IOException {
+    serialize(generator, provider);
+  }
+}
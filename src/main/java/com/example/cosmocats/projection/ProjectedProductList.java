@@ -0,0 +1,45 @@
+package com.example.cosmocats.projection;
+
+import com.example.cosmocats.domain.Product;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+import java.util.List;
+
+// The ProductListDto shape, or the ProductQueryResultDto shape when a total is given, with every
+// product written through the projection.
+public final class ProjectedProductList extends JsonSerializable.Base {
+
+  private final ProductProjection projection;
+  private final Long total;
+  private final List<Product> products;
+
+  ProjectedProductList(ProductProjection projection, Long total, List<Product> products) {
+    this.projection = projection;
+    this.total = total;
+    this.products = products;
+  }
+
+  @Override
+  public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+    generator.writeStartObject();
+    if (total != null) {
+      generator.writeNumberField("total", total);
+    }
+    generator.writeArrayFieldStart("products");
+    for (Product product : products) {
+      projection.write(product, generator);
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+  }
+
+  @Override
+  public void serializeWithType(
+      JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer)
+      throws IOException {
+    serialize(generator, provider);
+  }
+}
@@ -0,0 +1,130 @@
+package com.example.cosmocats.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Token buckets for one route policy, one per client. Each bucket is a single long: the high 42
+// bits hold the microsecond clock reading it was last refilled at and the low 22 bits the tokens
+// left, in 1/64ths of a token. A check is one read and one compare-and-set, with no lock and no
+// allocation once the client's bucket exists.
+//
+// A bucket that has refilled completely behaves exactly like a new one, so such buckets are
+// dropped by a sweep that runs on the calling thread when new clients arrive, at most once per
+// refill period.
+public class RateLimiter {
+
+  public static final int MAX_CAPACITY = 65_535;
+
+  private static final int TOKEN_BITS = 22;
+  private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+  private static final long TIME_MASK = (1L << (Long.SIZE - TOKEN_BITS)) - 1;
+  private static final long UNIT = 64;
+  private static final long MICROS_PER_SECOND = 1_000_000;
+  private static final String OVERFLOW_CLIENT = "";
+
+  private final String name;
+  private final long capacityUnits;
+  private final long unitsPerSecond;
+  private final int maxClients;
+  private final LongSupplier microsClock;
+  private final long sweepIntervalMicros;
+  private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+  private final AtomicLong lastSweep;
+
+  public RateLimiter(String name, int capacity, int refillPerSecond, int maxClients) {
+    this(name, capacity, refillPerSecond, maxClients, () -> System.nanoTime() / 1000);
+  }
+
+  RateLimiter(
+      String name, int capacity, int refillPerSecond, int maxClients, LongSupplier microsClock) {
+    if (capacity < 1 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Rate limit capacity for '" + name + "' must be between 1 and " + MAX_CAPACITY);
+    }
+    if (refillPerSecond < 1 || refillPerSecond > MICROS_PER_SECOND) {
+      throw new IllegalArgumentException(
+          "Rate limit refill for '" + name + "' must be between 1 and " + MICROS_PER_SECOND);
+    }
+    this.name = name;
+    this.capacityUnits = capacity * UNIT;
+    this.unitsPerSecond = refillPerSecond * UNIT;
+    this.maxClients = maxClients;
+    this.microsClock = microsClock;
+    this.sweepIntervalMicros =
+        Math.max(MICROS_PER_SECOND, microsToGain(capacityUnits));
+    this.lastSweep = new AtomicLong(microsClock.getAsLong());
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getBucketCount() {
+    return buckets.size();
+  }
+
+  // Returns 0 when the request may proceed, otherwise how many microseconds until a token is due.
+  public long tryAcquire(String clientId) {
+    long now = microsClock.getAsLong();
+    AtomicLong bucket = buckets.get(clientId);
+    if (bucket == null) {
+      bucket = newBucket(clientId, now);
+    }
+
+    while (true) {
+      long current = bucket.get();
+      long last = current >>> TOKEN_BITS;
+      long tokens = current & TOKEN_MASK;
+      long elapsed = (now - last) & TIME_MASK;
+
+      long missing = capacityUnits - tokens;
+      long toFull = microsToGain(missing);
+      if (elapsed >= toFull) {
+        tokens = capacityUnits;
+        last = now;
+      } else {
+        long gained = elapsed * unitsPerSecond / MICROS_PER_SECOND;
+        tokens += gained;
+        last += microsToGain(gained);
+      }
+
+      if (tokens < UNIT) {
+        return Math.max(1, microsToGain(UNIT - tokens) - ((now - last) & TIME_MASK));
+      }
+      if (bucket.compareAndSet(current, pack(last, tokens - UNIT))) {
+        return 0;
+      }
+    }
+  }
+
+  public void evictIdleBuckets() {
+    long now = microsClock.getAsLong();
+    buckets.values().removeIf(bucket -> isFull(bucket.get(), now));
+  }
+
+  private AtomicLong newBucket(String clientId, long now) {
+    long sweptAt = lastSweep.get();
+    if (((now - sweptAt) & TIME_MASK) >= sweepIntervalMicros
+        && lastSweep.compareAndSet(sweptAt, now)) {
+      evictIdleBuckets();
+    }
+    // Past the limit, unseen clients share one bucket rather than growing the map without bound.
+    String key = buckets.size() < maxClients ? clientId : OVERFLOW_CLIENT;
+    return buckets.computeIfAbsent(key, unused -> new AtomicLong(pack(now, capacityUnits)));
+  }
+
+  private boolean isFull(long state, long now) {
+    long missing = capacityUnits - (state & TOKEN_MASK);
+    return ((now - (state >>> TOKEN_BITS)) & TIME_MASK) >= microsToGain(missing);
+  }
+
+  private long microsToGain(long units) {
+    return (units * MICROS_PER_SECOND + unitsPerSecond - 1) / unitsPerSecond;
+  }
+
+  private static long pack(long micros, long tokens) {
+    return (micros & TIME_MASK) << TOKEN_BITS | tokens;
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.cosmocats.ratelimit.config;
+
+import com.example.cosmocats.ratelimit.RateLimiter;
+import com.example.cosmocats.ratelimit.web.RateLimitInterceptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// One interceptor per policy, mapped to the policy's paths, so a request pays only for the
+// policies that cover it. Policies are checked in the order they are declared.
+@Configuration
+@ConditionalOnProperty(prefix = "application.rate-limit", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class RateLimitConfiguration implements WebMvcConfigurer {
+
+  static final String REJECTED_COUNTER = "cosmocats.ratelimit.rejected";
+
+  private final RateLimitProperties rateLimitProperties;
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    String clientIdHeader =
+        StringUtils.hasText(rateLimitProperties.getClientIdHeader())
+            ? rateLimitProperties.getClientIdHeader()
+            : null;
+    rateLimitProperties
+        .getPolicies()
+        .forEach(
+            (name, policy) -> {
+              RateLimiter rateLimiter =
+                  new RateLimiter(
+                      name,
+                      policy.getCapacity(),
+                      policy.getRefillPerSecond(),
+                      rateLimitProperties.getMaxClientsPerPolicy());
+              Set<String> methods =
+                  policy.getMethods().stream()
+                      .map(method -> method.toUpperCase(Locale.ROOT))
+                      .collect(Collectors.toUnmodifiableSet());
+              Counter rejected =
+                  Counter.builder(REJECTED_COUNTER).tag("policy", name).register(meterRegistry);
+              registry
+                  .addInterceptor(
+                      new RateLimitInterceptor(rateLimiter, methods, clientIdHeader, rejected))
+                  .addPathPatterns(policy.getPathPatterns().toArray(String[]::new));
+            });
+  }
+}
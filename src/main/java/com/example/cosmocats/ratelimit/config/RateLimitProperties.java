@@ -0,0 +1,35 @@
+package com.example.cosmocats.ratelimit.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "application.rate-limit")
+public class RateLimitProperties {
+
+  boolean enabled;
+  // Header carrying the client identity, such as an API key set by a trusted gateway. Requests
+  // without it, or all requests when unset, are keyed by remote address.
+  String clientIdHeader;
+  int maxClientsPerPolicy = 100_000;
+  Map<String, Policy> policies = new LinkedHashMap<>();
+
+  @Data
+  @NoArgsConstructor
+  public static class Policy {
+
+    List<String> pathPatterns = new ArrayList<>();
+    // Empty means every method.
+    List<String> methods = new ArrayList<>();
+    int capacity;
+    int refillPerSecond;
+  }
+}
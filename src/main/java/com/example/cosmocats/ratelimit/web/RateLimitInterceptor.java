@@ -0,0 +1,52 @@
+package com.example.cosmocats.ratelimit.web;
+
+import com.example.cosmocats.exception.RateLimitExceededException;
+import com.example.cosmocats.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+  private final RateLimiter rateLimiter;
+  private final Set<String> methods;
+  private final String clientIdHeader;
+  private final Counter rejected;
+
+  public RateLimitInterceptor(
+      RateLimiter rateLimiter, Set<String> methods, String clientIdHeader, Counter rejected) {
+    this.rateLimiter = rateLimiter;
+    this.methods = methods;
+    this.clientIdHeader = clientIdHeader;
+    this.rejected = rejected;
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!methods.isEmpty() && !methods.contains(request.getMethod())) {
+      return true;
+    }
+
+    long waitMicros = rateLimiter.tryAcquire(clientId(request));
+    if (waitMicros > 0) {
+      rejected.increment();
+      long retryAfterSeconds = Math.max(1, TimeUnit.MICROSECONDS.toSeconds(waitMicros + 999_999));
+      throw new RateLimitExceededException(rateLimiter.getName(), retryAfterSeconds);
+    }
+    return true;
+  }
+
+  private String clientId(HttpServletRequest request) {
+    if (clientIdHeader != null) {
+      String clientId = request.getHeader(clientIdHeader);
+      if (clientId != null && !clientId.isBlank()) {
+        return clientId;
+      }
+    }
+    return request.getRemoteAddr();
+  }
+}
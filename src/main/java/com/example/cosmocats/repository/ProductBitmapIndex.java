@@ -0,0 +1,209 @@
+package com.example.cosmocats.repository;
+
+import com.example.cosmocats.bitmap.RoaringBitmap;
+import com.example.cosmocats.domain.PriceBucket;
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.domain.ProductFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Attribute bitmaps for one shard. Every product gets a dense int ordinal, reused after deletes so
+// the bitmaps stay compact, and each category, price bucket, name term and the "has description"
+// flag keeps the ordinals of its products. A filter is resolved with bitmap AND, OR and ANDNOT
+// alone; products are only looked up for the ordinals that survive.
+//
+// Not thread-safe: the owning shard updates it under its write lock and queries it under its read
+// lock.
+final class ProductBitmapIndex {
+
+  private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+  private final Map<UUID, Integer> ordinals = new HashMap<>();
+  private UUID[] ids = new UUID[16];
+  private int nextOrdinal;
+  private int[] freeOrdinals = new int[16];
+  private int freeCount;
+
+  private final RoaringBitmap live = new RoaringBitmap();
+  private final RoaringBitmap described = new RoaringBitmap();
+  private final Map<String, RoaringBitmap> categories = new HashMap<>();
+  private final Map<PriceBucket, RoaringBitmap> priceBuckets = new EnumMap<>(PriceBucket.class);
+  private final Map<String, RoaringBitmap> terms = new HashMap<>();
+
+  void put(Product previous, Product current) {
+    int ordinal;
+    if (previous != null) {
+      ordinal = ordinals.get(previous.getProductId());
+      unindex(ordinal, previous);
+    } else {
+      ordinal = allocate(current.getProductId());
+    }
+    index(ordinal, current);
+  }
+
+  void remove(Product previous) {
+    int ordinal = ordinals.remove(previous.getProductId());
+    unindex(ordinal, previous);
+    live.remove(ordinal);
+    ids[ordinal] = null;
+    if (freeCount == freeOrdinals.length) {
+      freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+    }
+    freeOrdinals[freeCount++] = ordinal;
+  }
+
+  UUID idAt(int ordinal) {
+    return ids[ordinal];
+  }
+
+  long countCategory(String category) {
+    RoaringBitmap bitmap = categories.get(categoryKey(category));
+    return bitmap != null ? bitmap.cardinality() : 0;
+  }
+
+  // Required attributes are intersected smallest first, so the working set shrinks as early as
+  // possible; exclusions are subtracted last.
+  RoaringBitmap evaluate(ProductFilter filter) {
+    List<RoaringBitmap> required = new ArrayList<>();
+    if (!filter.getCategories().isEmpty()) {
+      required.add(union(categories, categoryKeys(filter.getCategories())));
+    }
+    if (!filter.getPriceBuckets().isEmpty()) {
+      required.add(union(priceBuckets, filter.getPriceBuckets()));
+    }
+    if (Boolean.TRUE.equals(filter.getHasDescription())) {
+      required.add(described);
+    }
+    for (String term : filter.getTerms()) {
+      Set<String> tokens = tokenize(term);
+      // A term with no letters or digits matches no name; it must not drop out of the filter.
+      if (tokens.isEmpty()) {
+        required.add(EMPTY);
+      }
+      tokens.forEach(token -> required.add(terms.getOrDefault(token, EMPTY)));
+    }
+
+    RoaringBitmap result;
+    if (required.isEmpty()) {
+      result = live.copy();
+    } else {
+      required.sort(Comparator.comparingLong(RoaringBitmap::cardinality));
+      result = required.get(0).copy();
+      for (int i = 1; i < required.size() && !result.isEmpty(); i++) {
+        result.and(required.get(i));
+      }
+    }
+    if (!filter.getExcludedCategories().isEmpty()) {
+      result.andNot(union(categories, categoryKeys(filter.getExcludedCategories())));
+    }
+    if (Boolean.FALSE.equals(filter.getHasDescription())) {
+      result.andNot(described);
+    }
+    return result;
+  }
+
+  // Lowercased runs of letters and digits, so "Wireless Nebula-Lamp" yields three terms.
+  static Set<String> tokenize(String text) {
+    Set<String> tokens = new LinkedHashSet<>();
+    if (text == null) {
+      return tokens;
+    }
+    int start = -1;
+    for (int i = 0; i <= text.length(); i++) {
+      boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+        start = -1;
+      }
+    }
+    return tokens;
+  }
+
+  private int allocate(UUID id) {
+    int ordinal = freeCount > 0 ? freeOrdinals[--freeCount] : nextOrdinal++;
+    if (ordinal == ids.length) {
+      ids = Arrays.copyOf(ids, ids.length * 2);
+    }
+    ids[ordinal] = id;
+    ordinals.put(id, ordinal);
+    live.add(ordinal);
+    return ordinal;
+  }
+
+  private void index(int ordinal, Product product) {
+    if (product.getCategory() != null) {
+      categories
+          .computeIfAbsent(categoryKey(product.getCategory()), key -> new RoaringBitmap())
+          .add(ordinal);
+    }
+    if (product.getPrice() != null) {
+      priceBuckets
+          .computeIfAbsent(PriceBucket.of(product.getPrice()), key -> new RoaringBitmap())
+          .add(ordinal);
+    }
+    if (product.getDescription() != null && !product.getDescription().isBlank()) {
+      described.add(ordinal);
+    }
+    for (String term : tokenize(product.getName())) {
+      terms.computeIfAbsent(term, key -> new RoaringBitmap()).add(ordinal);
+    }
+  }
+
+  private void unindex(int ordinal, Product product) {
+    if (product.getCategory() != null) {
+      removeFrom(categories, categoryKey(product.getCategory()), ordinal);
+    }
+    if (product.getPrice() != null) {
+      removeFrom(priceBuckets, PriceBucket.of(product.getPrice()), ordinal);
+    }
+    described.remove(ordinal);
+    for (String term : tokenize(product.getName())) {
+      removeFrom(terms, term, ordinal);
+    }
+  }
+
+  private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int ordinal) {
+    RoaringBitmap bitmap = bitmaps.get(key);
+    if (bitmap != null && bitmap.remove(ordinal) && bitmap.isEmpty()) {
+      bitmaps.remove(key);
+    }
+  }
+
+  private static <K> RoaringBitmap union(Map<K, RoaringBitmap> bitmaps, Collection<K> keys) {
+    RoaringBitmap result = null;
+    for (K key : keys) {
+      RoaringBitmap bitmap = bitmaps.get(key);
+      if (bitmap == null) {
+        continue;
+      }
+      if (result == null) {
+        result = keys.size() == 1 ? bitmap : bitmap.copy();
+      } else {
+        result.or(bitmap);
+      }
+    }
+    return result != null ? result : EMPTY;
+  }
+
+  private static Set<String> categoryKeys(Set<String> categories) {
+    Set<String> keys = new LinkedHashSet<>();
+    categories.forEach(category -> keys.add(categoryKey(category)));
+    return keys;
+  }
+
+  private static String categoryKey(String category) {
+    return category.toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.cosmocats.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Ring of the most recent writes indexed by catalog version. Writers claim a version with a single
+// increment and then publish their slot, so readers stop at the first version not yet published
+// instead of skipping it.
+class ProductChangeLog {
+
+  private final int capacity;
+  private final AtomicLong version = new AtomicLong();
+  private final AtomicReferenceArray<Entry> entries;
+  private final AtomicLong truncatedAt = new AtomicLong();
+
+  ProductChangeLog(int capacity) {
+    this.capacity = capacity;
+    this.entries = new AtomicReferenceArray<>(capacity);
+  }
+
+  long currentVersion() {
+    return version.get();
+  }
+
+  long append(UUID productId) {
+    long newVersion = version.incrementAndGet();
+    entries.set(index(newVersion), new Entry(newVersion, productId));
+    return newVersion;
+  }
+
+  // Issues a version that stands for a bulk change too large to log entry by entry. Clients behind
+  // it can no longer replay and are told to resync.
+  long truncate() {
+    long newVersion = version.incrementAndGet();
+    truncatedAt.accumulateAndGet(newVersion, Math::max);
+    return newVersion;
+  }
+
+  // Empty when the requested version is older than the retained window or was never issued.
+  Optional<Window> since(long sinceVersion) {
+    long current = version.get();
+    if (sinceVersion < 0
+        || sinceVersion < truncatedAt.get()
+        || sinceVersion > current
+        || current - sinceVersion > capacity) {
+      return Optional.empty();
+    }
+
+    List<UUID> productIds = new ArrayList<>();
+    long reached = sinceVersion;
+    for (long next = sinceVersion + 1; next <= current; next++) {
+      Entry entry = entries.get(index(next));
+      if (entry == null || entry.version() < next) {
+        break;
+      }
+      if (entry.version() > next) {
+        return Optional.empty();
+      }
+      productIds.add(entry.productId());
+      reached = next;
+    }
+    return Optional.of(new Window(reached, productIds));
+  }
+
+  private int index(long logVersion) {
+    return (int) (logVersion % capacity);
+  }
+
+  record Window(long version, List<UUID> productIds) {}
+
+  private record Entry(long version, UUID productId) {}
+}
@@ -1,17 +1,85 @@
 package com.example.cosmocats.repository;
 
+import com.example.cosmocats.bitmap.RoaringBitmap;
 import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.domain.ProductChangeSet;
+import com.example.cosmocats.domain.ProductFilter;
+import com.example.cosmocats.domain.ProductFilterResult;
+import com.example.cosmocats.domain.ProductSort;
+import com.example.cosmocats.domain.event.ProductChangeType;
+import com.example.cosmocats.domain.event.ProductChangedEvent;
 import com.example.cosmocats.exception.ProductNotFoundException;
+import com.example.cosmocats.jfr.RepositoryOperationEvent;
+import com.example.cosmocats.metrics.annotation.Monitored;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
+// Products are partitioned by id hash across independent shards, each with its own storage, version
+// indexes and version counter, so writers to different shards never touch the same map or counter.
+// Point operations go to one shard; scans run over all shards in parallel on the common
+// ForkJoinPool once the catalog is large enough to pay for the fork, and unindexed searches are
+// split further by ProductScanExecutor.
+//
+// Each shard also keeps a bitmap index over its products' attributes, so combined storefront
+// filters are resolved with bitmap operations before any product is read, and skip-list views
+// ordered by price and by name, for the whole shard and for each of its categories, so sorted
+// pages are read in order instead of sorted per request.
+//
+// Only the change log stays global, because clients replay it in one catalog-wide order. Product
+// versions come from the owning shard's counter, and a category's version is the sum of its
+// per-shard versions, which still moves forward on every change in any shard.
+//
+// A write stores the product, takes its change log version and publishes its ProductChangedEvent
+// under the shard's write lock, so listeners see the writes to one product in the order they were
+// stored and each event carries the version /changes reports for it.
 @Repository
+@Monitored
 public class ProductRepository {
 
-  private final Map<UUID, Product> productStorage = new ConcurrentHashMap<>();
+  static final int CHANGE_LOG_CAPACITY = 10_000;
+  // Below this many products a sequential scan finishes before forked tasks would start.
+  static final int PARALLEL_SCAN_THRESHOLD = 10_000;
+
+  private final Shard[] shards;
+  private final int shardMask;
+  private final ProductChangeLog changeLog = new ProductChangeLog(CHANGE_LOG_CAPACITY);
+  private final ProductScanExecutor scanExecutor =
+      new ProductScanExecutor(PARALLEL_SCAN_THRESHOLD);
+  private final ApplicationEventPublisher eventPublisher;
 
   public ProductRepository() {
+    this(defaultShardCount());
+  }
+
+  public ProductRepository(int shardCount) {
+    this(shardCount, event -> {});
+  }
+
+  @Autowired
+  public ProductRepository(ApplicationEventPublisher eventPublisher) {
+    this(defaultShardCount(), eventPublisher);
+  }
+
+  public ProductRepository(int shardCount, ApplicationEventPublisher eventPublisher) {
+    if (shardCount < 1 || Integer.bitCount(shardCount) != 1) {
+      throw new IllegalArgumentException(
+          "Shard count must be a positive power of two, got " + shardCount);
+    }
+    shards = new Shard[shardCount];
+    Arrays.setAll(shards, index -> new Shard());
+    shardMask = shardCount - 1;
+    this.eventPublisher = eventPublisher;
     initializeMockData();
   }
 
@@ -47,44 +115,562 @@ public class ProductRepository {
                 .price(599.99f)
                 .build());
 
-    mockProducts.forEach(product -> productStorage.put(product.getProductId(), product));
+    mockProducts.forEach(
+        product -> {
+          Shard shard = shardFor(product.getProductId());
+          shard.put(product);
+          shard.productVersions.put(product.getProductId(), 0L);
+        });
+  }
+
+  public int getShardCount() {
+    return shards.length;
   }
 
   public List<Product> findAll() {
-    return new ArrayList<>(productStorage.values());
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    List<Product> products =
+        scanShards()
+            .flatMap(shard -> shard.products.values().stream())
+            .collect(Collectors.toCollection(ArrayList::new));
+    RepositoryOperationEvent.commit(event, "findAll", null, products.size());
+    return products;
+  }
+
+  public List<Product> findAllByCategory(String category) {
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    List<Product> products =
+        scanShards()
+            .flatMap(shard -> shard.products.values().stream())
+            .filter(product -> category.equalsIgnoreCase(product.getCategory()))
+            .collect(Collectors.toCollection(ArrayList::new));
+    RepositoryOperationEvent.commit(event, "findAllByCategory", null, products.size());
+    return products;
+  }
+
+  // One page in the given order, streamed from the shards' sorted views and merged across shards,
+  // so a page costs O((offset + limit) log shards) instead of sorting a copy of the catalog.
+  public List<Product> findAllSorted(ProductSort sort, long offset, int limit) {
+    return sortedPage("findAllSorted", shard -> shard.views, sort, offset, limit);
+  }
+
+  // Merged from the shards' views of the category alone, so a page costs the same however rare the
+  // category is; the order and page boundaries are the same as for findAllSorted.
+  public List<Product> findAllByCategorySorted(
+      String category, ProductSort sort, long offset, int limit) {
+    String key = categoryKey(category);
+    return sortedPage(
+        "findAllByCategorySorted",
+        shard -> shard.categoryViews.get(key),
+        sort,
+        offset,
+        limit);
+  }
+
+  // Combined attribute filters, resolved on each shard's bitmap index. The total counts every match;
+  // the products are the first `limit` of them in shard and ordinal order.
+  public ProductFilterResult findAllByFilter(ProductFilter filter, int limit) {
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    List<ProductFilterResult> shardResults =
+        scanShards().map(shard -> shard.filter(filter, limit)).toList();
+    long total = 0;
+    List<Product> products = new ArrayList<>(Math.min(limit, 64));
+    for (ProductFilterResult shardResult : shardResults) {
+      total += shardResult.getTotal();
+      for (Product product : shardResult.getProducts()) {
+        if (products.size() < limit) {
+          products.add(product);
+        }
+      }
+    }
+    RepositoryOperationEvent.commit(event, "findAllByFilter", null, products.size());
+    return ProductFilterResult.builder().total(total).products(products).build();
+  }
+
+  // Filters no index covers. Returns the first `limit` matches in `order`, which must be total.
+  public List<Product> search(Predicate<Product> filter, Comparator<Product> order, int limit) {
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    List<Product> products = scanExecutor.execute(segments(), filter, order, limit);
+    RepositoryOperationEvent.commit(event, "search", null, products.size());
+    return products;
   }
 
   public Optional<Product> findById(UUID id) {
-    return Optional.ofNullable(productStorage.get(id));
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    Product product = shardFor(id).products.get(id);
+    RepositoryOperationEvent.commit(event, "findById", id, product != null ? 1 : 0);
+    return Optional.ofNullable(product);
+  }
+
+  public Map<UUID, Product> findAllById(Collection<UUID> ids) {
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    Map<UUID, Product> products = new LinkedHashMap<>();
+    for (UUID id : ids) {
+      Product product = shardFor(id).products.get(id);
+      if (product != null) {
+        products.put(id, product);
+      }
+    }
+    RepositoryOperationEvent.commit(event, "findAllById", null, products.size());
+    return products;
   }
 
   public Product save(Product product) {
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
     if (product.getProductId() == null) {
       product = product.toBuilder().productId(UUID.randomUUID()).build();
     }
-    productStorage.put(product.getProductId(), product);
+    Shard shard = shardFor(product.getProductId());
+    shard.lock.writeLock().lock();
+    try {
+      Product previous = shard.put(product);
+      long version = bumpVersion(shard, product.getProductId(), previous, product);
+      publishChange(
+          previous == null ? ProductChangeType.CREATED : ProductChangeType.UPDATED,
+          product.getProductId(),
+          product,
+          version);
+    } finally {
+      shard.lock.writeLock().unlock();
+    }
+    RepositoryOperationEvent.commit(event, "save", product.getProductId(), 1);
     return product;
   }
 
+  // Bulk load for generated catalogs, which already carry their ids. The whole batch shares one
+  // catalog version and truncates the change log, so incremental clients resync once instead of
+  // replaying millions of entries; each shard likewise issues one version for its part of the batch.
+  public long saveAll(Collection<Product> products) {
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    List<Set<String>> touchedCategories = new ArrayList<>(shards.length);
+    for (int i = 0; i < shards.length; i++) {
+      touchedCategories.add(ConcurrentHashMap.newKeySet());
+    }
+    products.parallelStream()
+        .forEach(
+            product -> {
+              int index = shardIndex(product.getProductId());
+              Product previous = shards[index].put(product);
+              Set<String> categories = touchedCategories.get(index);
+              if (previous != null && previous.getCategory() != null) {
+                categories.add(categoryKey(previous.getCategory()));
+              }
+              if (product.getCategory() != null) {
+                categories.add(categoryKey(product.getCategory()));
+              }
+            });
+
+    long newVersion = changeLog.truncate();
+    long[] shardVersions = new long[shards.length];
+    for (int i = 0; i < shards.length; i++) {
+      shardVersions[i] = shards[i].version.incrementAndGet();
+    }
+    products.parallelStream()
+        .forEach(
+            product -> {
+              int index = shardIndex(product.getProductId());
+              shards[index].productVersions.merge(
+                  product.getProductId(), shardVersions[index], Math::max);
+            });
+    for (int i = 0; i < shards.length; i++) {
+      Shard shard = shards[i];
+      long shardVersion = shardVersions[i];
+      touchedCategories
+          .get(i)
+          .forEach(category -> shard.categoryVersions.merge(category, shardVersion, Math::max));
+    }
+    RepositoryOperationEvent.commit(event, "saveAll", null, products.size());
+    return newVersion;
+  }
+
   public void deleteById(UUID id) {
-    if (!productStorage.containsKey(id)) {
-      throw new ProductNotFoundException(id);
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    Shard shard = shardFor(id);
+    shard.lock.writeLock().lock();
+    try {
+      Product removed = shard.remove(id);
+      if (removed == null) {
+        throw new ProductNotFoundException(id);
+      }
+      long version = bumpVersion(shard, id, removed, null);
+      publishChange(ProductChangeType.DELETED, id, null, version);
+    } finally {
+      shard.lock.writeLock().unlock();
+    }
+    RepositoryOperationEvent.commit(event, "deleteById", id, 1);
+  }
+
+  public long count() {
+    return size();
+  }
+
+  // Read from the bitmap indexes, so no product is visited.
+  public long countByCategory(String category) {
+    long count = 0;
+    for (Shard shard : shards) {
+      count += shard.countCategory(category);
     }
-    productStorage.remove(id);
+    return count;
   }
 
   public boolean existsById(UUID id) {
-    return productStorage.containsKey(id);
+    return shardFor(id).products.containsKey(id);
   }
 
   public boolean existsByName(String name) {
-    return productStorage.values().stream()
-        .anyMatch(product -> product.getName().equalsIgnoreCase(name));
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    boolean exists =
+        scanShards()
+            .anyMatch(
+                shard ->
+                    shard.products.values().stream()
+                        .anyMatch(product -> product.getName().equalsIgnoreCase(name)));
+    RepositoryOperationEvent.commit(event, "existsByName", null, size());
+    return exists;
   }
 
   public boolean existsByNameExcludingId(String name, UUID excludeId) {
-    return productStorage.values().stream()
-        .filter(product -> !product.getProductId().equals(excludeId))
-        .anyMatch(product -> product.getName().equalsIgnoreCase(name));
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    boolean exists =
+        scanShards()
+            .anyMatch(
+                shard ->
+                    shard.products.values().stream()
+                        .filter(product -> !product.getProductId().equals(excludeId))
+                        .anyMatch(product -> product.getName().equalsIgnoreCase(name)));
+    RepositoryOperationEvent.commit(event, "existsByNameExcludingId", excludeId, size());
+    return exists;
+  }
+
+  public long getVersion() {
+    return changeLog.currentVersion();
+  }
+
+  public ProductChangeSet findChangesSince(long sinceVersion) {
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    ProductChangeSet changeSet =
+        changeLog
+            .since(sinceVersion)
+            .map(this::toChangeSet)
+            .orElseGet(
+                () ->
+                    ProductChangeSet.builder()
+                        .version(changeLog.currentVersion())
+                        .resyncRequired(true)
+                        .products(List.of())
+                        .deletedIds(List.of())
+                        .build());
+    RepositoryOperationEvent.commit(
+        event,
+        "findChangesSince",
+        null,
+        changeSet.getProducts().size() + changeSet.getDeletedIds().size());
+    return changeSet;
+  }
+
+  public Optional<Long> findVersionById(UUID id) {
+    return Optional.ofNullable(shardFor(id).productVersions.get(id));
+  }
+
+  public long getCategoryVersion(String category) {
+    String key = categoryKey(category);
+    long version = 0;
+    for (Shard shard : shards) {
+      version += shard.categoryVersions.getOrDefault(key, 0L);
+    }
+    return version;
+  }
+
+  // Products are resolved against current storage, so a product written again after the window
+  // shows its latest state and one deleted in the meantime shows up as a tombstone.
+  private ProductChangeSet toChangeSet(ProductChangeLog.Window window) {
+    List<Product> products = new ArrayList<>();
+    List<UUID> deletedIds = new ArrayList<>();
+    for (UUID productId : new LinkedHashSet<>(window.productIds())) {
+      Product product = shardFor(productId).products.get(productId);
+      if (product != null) {
+        products.add(product);
+      } else {
+        deletedIds.add(productId);
+      }
+    }
+    return ProductChangeSet.builder()
+        .version(window.version())
+        .resyncRequired(false)
+        .products(products)
+        .deletedIds(deletedIds)
+        .build();
+  }
+
+  // Bumped only after the storage write, so a reader that saw the new version also sees the data.
+  // Returns the change log version of the write.
+  private long bumpVersion(Shard shard, UUID id, Product previous, Product current) {
+    long logVersion = changeLog.append(id);
+    long newVersion = shard.version.incrementAndGet();
+    if (current != null) {
+      shard.productVersions.merge(id, newVersion, Math::max);
+    } else {
+      shard.productVersions.remove(id);
+    }
+    if (previous != null && previous.getCategory() != null) {
+      shard.categoryVersions.merge(categoryKey(previous.getCategory()), newVersion, Math::max);
+    }
+    if (current != null && current.getCategory() != null) {
+      shard.categoryVersions.merge(categoryKey(current.getCategory()), newVersion, Math::max);
+    }
+    return logVersion;
+  }
+
+  private void publishChange(ProductChangeType type, UUID id, Product product, long version) {
+    eventPublisher.publishEvent(
+        ProductChangedEvent.builder()
+            .type(type)
+            .productId(id)
+            .product(product)
+            .version(version)
+            .build());
+  }
+
+  private List<Product> sortedPage(
+      String operation,
+      Function<Shard, SortedViews> shardViews,
+      ProductSort sort,
+      long offset,
+      int limit) {
+    RepositoryOperationEvent event = new RepositoryOperationEvent();
+    event.begin();
+    Comparator<Product> order = sort.comparator();
+    PriorityQueue<PeekingIterator> heads =
+        new PriorityQueue<>(shards.length, (a, b) -> order.compare(a.peek(), b.peek()));
+    for (Shard shard : shards) {
+      SortedViews views = shardViews.apply(shard);
+      if (views == null) {
+        continue;
+      }
+      PeekingIterator head = new PeekingIterator(views.view(sort).iterator());
+      if (head.hasNext()) {
+        heads.add(head);
+      }
+    }
+
+    List<Product> page = new ArrayList<>(Math.min(limit, 64));
+    long skipped = 0;
+    while (page.size() < limit && !heads.isEmpty()) {
+      PeekingIterator head = heads.poll();
+      Product product = head.next();
+      if (skipped < offset) {
+        skipped++;
+      } else {
+        page.add(product);
+      }
+      if (head.hasNext()) {
+        heads.add(head);
+      }
+    }
+    RepositoryOperationEvent.commit(event, operation, null, page.size());
+    return page;
+  }
+
+  List<Collection<Product>> segments() {
+    List<Collection<Product>> segments = new ArrayList<>(shards.length);
+    for (Shard shard : shards) {
+      segments.add(shard.products.values());
+    }
+    return segments;
+  }
+
+  private Stream<Shard> scanShards() {
+    Stream<Shard> stream = Arrays.stream(shards);
+    return shards.length > 1 && size() >= PARALLEL_SCAN_THRESHOLD ? stream.parallel() : stream;
+  }
+
+  private int size() {
+    int size = 0;
+    for (Shard shard : shards) {
+      size += shard.products.size();
+    }
+    return size;
+  }
+
+  private Shard shardFor(UUID id) {
+    return shards[shardIndex(id)];
+  }
+
+  // UUID.hashCode folds both halves together; the extra mix keeps sequential or patterned ids from
+  // piling into a few shards.
+  private int shardIndex(UUID id) {
+    int h = id.hashCode() * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & shardMask;
+  }
+
+  private static int defaultShardCount() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+  }
+
+  private static String categoryKey(String category) {
+    return category.toLowerCase(Locale.ROOT);
+  }
+
+  private static final class PeekingIterator {
+    private final Iterator<Product> products;
+    private Product next;
+
+    private PeekingIterator(Iterator<Product> products) {
+      this.products = products;
+      advance();
+    }
+
+    private boolean hasNext() {
+      return next != null;
+    }
+
+    private Product peek() {
+      return next;
+    }
+
+    private Product next() {
+      Product current = next;
+      advance();
+      return current;
+    }
+
+    private void advance() {
+      next = products.hasNext() ? products.next() : null;
+    }
+  }
+
+  // Skip lists ordered by price and by name over one set of products; read without the lock, so a
+  // product being rewritten may briefly be missing from a page.
+  private static final class SortedViews {
+    private final NavigableSet<Product> byPrice =
+        new ConcurrentSkipListSet<>(ProductSort.PRICE.comparator());
+    private final NavigableSet<Product> byName =
+        new ConcurrentSkipListSet<>(ProductSort.NAME.comparator());
+
+    private void add(Product product) {
+      byPrice.add(product);
+      byName.add(product);
+    }
+
+    private void remove(Product product) {
+      byPrice.remove(product);
+      byName.remove(product);
+    }
+
+    private boolean isEmpty() {
+      return byPrice.isEmpty();
+    }
+
+    private NavigableSet<Product> view(ProductSort sort) {
+      return switch (sort) {
+        case PRICE -> byPrice;
+        case PRICE_DESC -> byPrice.descendingSet();
+        case NAME -> byName;
+        case NAME_DESC -> byName.descendingSet();
+      };
+    }
+  }
+
+  // Point reads go straight to the map. Writes hold the write lock so the bitmap index always
+  // describes exactly the products in the map, and filter queries hold the read lock.
+  private static final class Shard {
+    private final Map<UUID, Product> products = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> productVersions = new ConcurrentHashMap<>();
+    private final Map<String, Long> categoryVersions = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final ProductBitmapIndex index = new ProductBitmapIndex();
+    private final SortedViews views = new SortedViews();
+    private final Map<String, SortedViews> categoryViews = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Product put(Product product) {
+      lock.writeLock().lock();
+      try {
+        Product previous = products.put(product.getProductId(), product);
+        index.put(previous, product);
+        // The old entry goes first: an unchanged sort key would otherwise make the add a no-op and
+        // leave the stale product in the view.
+        if (previous != null) {
+          unsort(previous);
+        }
+        views.add(product);
+        if (product.getCategory() != null) {
+          categoryViews
+              .computeIfAbsent(categoryKey(product.getCategory()), key -> new SortedViews())
+              .add(product);
+        }
+        return previous;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    private Product remove(UUID id) {
+      lock.writeLock().lock();
+      try {
+        Product removed = products.remove(id);
+        if (removed != null) {
+          index.remove(removed);
+          unsort(removed);
+        }
+        return removed;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    // Called under the write lock; a category's views go once its last product leaves.
+    private void unsort(Product product) {
+      views.remove(product);
+      if (product.getCategory() == null) {
+        return;
+      }
+      String key = categoryKey(product.getCategory());
+      SortedViews category = categoryViews.get(key);
+      if (category != null) {
+        category.remove(product);
+        if (category.isEmpty()) {
+          categoryViews.remove(key);
+        }
+      }
+    }
+
+    private long countCategory(String category) {
+      lock.readLock().lock();
+      try {
+        return index.countCategory(category);
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    private ProductFilterResult filter(ProductFilter filter, int limit) {
+      lock.readLock().lock();
+      try {
+        RoaringBitmap matches = index.evaluate(filter);
+        List<Product> page = new ArrayList<>(Math.min(limit, 64));
+        matches.forEach(
+            ordinal -> {
+              page.add(products.get(index.idAt(ordinal)));
+              return page.size() < limit;
+            });
+        return ProductFilterResult.builder().total(matches.cardinality()).products(page).build();
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
   }
 }
@@ -0,0 +1,178 @@
+package com.example.cosmocats.repository;
+
+import com.example.cosmocats.domain.Product;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+// Runs filters that no index can answer, such as substring matches, over the repository's
+// segments. A scan that would visit fewer products than the threshold runs on the calling thread;
+// larger ones are split into fork-join tasks, each keeping only its best `limit` matches, and the
+// sorted partial results are merged pairwise on the way back up.
+final class ProductScanExecutor {
+
+  // Products a leaf task scans before it stops splitting; smaller leaves cost more in task
+  // overhead than they gain in balance.
+  static final int LEAF_SIZE = 2048;
+
+  private final ForkJoinPool pool;
+  private final long parallelThreshold;
+
+  ProductScanExecutor(long parallelThreshold) {
+    this(ForkJoinPool.commonPool(), parallelThreshold);
+  }
+
+  ProductScanExecutor(ForkJoinPool pool, long parallelThreshold) {
+    this.pool = pool;
+    this.parallelThreshold = parallelThreshold;
+  }
+
+  // Returns at most `limit` matches in `order`; the order must be total for results to be stable.
+  List<Product> execute(
+      List<? extends Collection<Product>> segments,
+      Predicate<Product> filter,
+      Comparator<Product> order,
+      int limit) {
+    long size = 0;
+    for (Collection<Product> segment : segments) {
+      size += segment.size();
+    }
+    if (size < parallelThreshold) {
+      TopK topK = new TopK(order, limit);
+      for (Collection<Product> segment : segments) {
+        topK.offerAll(segment.iterator(), filter);
+      }
+      return topK.toSortedList();
+    }
+
+    List<ScanTask> tasks = new ArrayList<>(segments.size());
+    for (Collection<Product> segment : segments) {
+      tasks.add(new ScanTask(segment.spliterator(), filter, order, limit));
+    }
+    return pool.invoke(new MergeTask(tasks, order, limit));
+  }
+
+  static List<Product> merge(
+      List<Product> left, List<Product> right, Comparator<Product> order, int limit) {
+    int size = Math.min(limit, left.size() + right.size());
+    List<Product> merged = new ArrayList<>(size);
+    int i = 0;
+    int j = 0;
+    while (merged.size() < size) {
+      if (j == right.size()
+          || (i < left.size() && order.compare(left.get(i), right.get(j)) <= 0)) {
+        merged.add(left.get(i++));
+      } else {
+        merged.add(right.get(j++));
+      }
+    }
+    return merged;
+  }
+
+  private static final class MergeTask extends RecursiveTask<List<Product>> {
+
+    private final List<ScanTask> tasks;
+    private final Comparator<Product> order;
+    private final int limit;
+
+    private MergeTask(List<ScanTask> tasks, Comparator<Product> order, int limit) {
+      this.tasks = tasks;
+      this.order = order;
+      this.limit = limit;
+    }
+
+    @Override
+    protected List<Product> compute() {
+      invokeAll(tasks);
+      List<Product> result = List.of();
+      for (ScanTask task : tasks) {
+        result = merge(result, task.join(), order, limit);
+      }
+      return result;
+    }
+  }
+
+  private static final class ScanTask extends RecursiveTask<List<Product>> {
+
+    private final Spliterator<Product> products;
+    private final Predicate<Product> filter;
+    private final Comparator<Product> order;
+    private final int limit;
+
+    private ScanTask(
+        Spliterator<Product> products,
+        Predicate<Product> filter,
+        Comparator<Product> order,
+        int limit) {
+      this.products = products;
+      this.filter = filter;
+      this.order = order;
+      this.limit = limit;
+    }
+
+    @Override
+    protected List<Product> compute() {
+      List<ScanTask> forked = new ArrayList<>();
+      Spliterator<Product> split;
+      while (products.estimateSize() > LEAF_SIZE && (split = products.trySplit()) != null) {
+        ScanTask task = new ScanTask(split, filter, order, limit);
+        task.fork();
+        forked.add(task);
+      }
+
+      TopK topK = new TopK(order, limit);
+      products.forEachRemaining(product -> topK.offer(product, filter));
+      List<Product> result = topK.toSortedList();
+      for (int i = forked.size() - 1; i >= 0; i--) {
+        result = merge(result, forked.get(i).join(), order, limit);
+      }
+      return result;
+    }
+  }
+
+  // Bounded max-heap on `order`: the head is the worst match kept so far, so a candidate that
+  // does not beat it is dropped with one comparison.
+  private static final class TopK {
+
+    private final Comparator<Product> order;
+    private final int limit;
+    private final PriorityQueue<Product> heap;
+
+    private TopK(Comparator<Product> order, int limit) {
+      this.order = order;
+      this.limit = limit;
+      this.heap = new PriorityQueue<>(Math.min(limit, LEAF_SIZE) + 1, order.reversed());
+    }
+
+    private void offerAll(Iterator<Product> products, Predicate<Product> filter) {
+      while (products.hasNext()) {
+        offer(products.next(), filter);
+      }
+    }
+
+    private void offer(Product product, Predicate<Product> filter) {
+      if (!filter.test(product)) {
+        return;
+      }
+      if (heap.size() < limit) {
+        heap.add(product);
+      } else if (order.compare(product, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(product);
+      }
+    }
+
+    private List<Product> toSortedList() {
+      List<Product> sorted = new ArrayList<>(heap);
+      sorted.sort(order);
+      return sorted;
+    }
+  }
+}
@@ -3,11 +3,13 @@ package com.example.cosmocats.service;
 import com.example.cosmocats.domain.CatInfo;
 import com.example.cosmocats.featuretoggle.FeatureToggles;
 import com.example.cosmocats.featuretoggle.annotation.FeatureToggle;
+import com.example.cosmocats.metrics.annotation.Monitored;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 
 @Service
+@Monitored
 public class CosmoCatService {
 
   @FeatureToggle(FeatureToggles.COSMO_CATS)
@@ -0,0 +1,143 @@
+package com.example.cosmocats.service;
+
+import com.example.cosmocats.dto.diagnostics.RecordingDto;
+import com.example.cosmocats.exception.RecordingNotFoundException;
+import com.example.cosmocats.jfr.CosmicWordValidationEvent;
+import com.example.cosmocats.jfr.FeatureToggleCheckEvent;
+import com.example.cosmocats.jfr.RepositoryOperationEvent;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// Holds at most one on-demand recording. It stops by itself after its duration and never keeps
+// more than its size limit, so a forgotten recording cannot fill the disk. Access is guarded by a
+// ReentrantLock rather than the object monitor: dumping does file I/O, and a virtual thread
+// blocked inside a synchronized method would pin its carrier for the whole dump.
+@Slf4j
+@Service
+public class JfrRecordingService {
+
+  static final String RECORDING_NAME = "cosmocats-on-demand";
+  private static final String SETTINGS = "default";
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private Recording recording;
+
+  public RecordingDto startRecording(Duration duration, long maxSizeBytes) {
+    lock.lock();
+    try {
+      closeRecording();
+
+      Recording newRecording = new Recording(loadSettings());
+      newRecording.setName(RECORDING_NAME);
+      newRecording.enable(RepositoryOperationEvent.class);
+      newRecording.enable(CosmicWordValidationEvent.class);
+      newRecording.enable(FeatureToggleCheckEvent.class);
+      newRecording.setDuration(duration);
+      newRecording.setMaxSize(maxSizeBytes);
+      newRecording.setToDisk(true);
+      newRecording.start();
+      recording = newRecording;
+
+      log.info(
+          "Started flight recording {} for {} up to {} bytes",
+          recording.getId(),
+          duration,
+          maxSizeBytes);
+      return toRecordingDto(recording);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public RecordingDto getRecording() {
+    lock.lock();
+    try {
+      return toRecordingDto(currentRecording());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public byte[] dumpRecording() {
+    lock.lock();
+    Path file = null;
+    try {
+      Recording current = currentRecording();
+      file = Files.createTempFile(RECORDING_NAME, ".jfr");
+      current.dump(file);
+      log.info("Dumped flight recording {}", current.getId());
+      return Files.readAllBytes(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to dump flight recording", e);
+    } finally {
+      deleteQuietly(file);
+      lock.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void stopRecording() {
+    lock.lock();
+    try {
+      closeRecording();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Recording currentRecording() {
+    if (recording == null) {
+      throw new RecordingNotFoundException();
+    }
+    return recording;
+  }
+
+  private void closeRecording() {
+    if (recording != null) {
+      log.info("Closing flight recording {}", recording.getId());
+      recording.close();
+      recording = null;
+    }
+  }
+
+  private static Configuration loadSettings() {
+    try {
+      return Configuration.getConfiguration(SETTINGS);
+    } catch (IOException | ParseException e) {
+      throw new IllegalStateException("JFR settings '" + SETTINGS + "' are not available", e);
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Could not delete temporary recording {}", file, e);
+    }
+  }
+
+  private static RecordingDto toRecordingDto(Recording recording) {
+    return RecordingDto.builder()
+        .id(recording.getId())
+        .name(recording.getName())
+        .state(recording.getState().name())
+        .startTime(recording.getStartTime())
+        .durationSeconds(recording.getDuration() != null ? recording.getDuration().toSeconds() : 0)
+        .maxSizeBytes(recording.getMaxSize())
+        .recordedBytes(recording.getSize())
+        .build();
+  }
+}
@@ -1,14 +1,29 @@
 package com.example.cosmocats.service;
 
 import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.domain.ProductChangeSet;
+import com.example.cosmocats.domain.ProductFilter;
+import com.example.cosmocats.domain.ProductFilterResult;
+import com.example.cosmocats.domain.ProductSort;
+import com.example.cosmocats.dto.product.ProductBatchDto;
+import com.example.cosmocats.dto.product.ProductChangesDto;
 import com.example.cosmocats.dto.product.ProductDto;
 import com.example.cosmocats.dto.product.ProductListDto;
+import com.example.cosmocats.dto.product.ProductQueryResultDto;
 import com.example.cosmocats.dto.product.ProductUpdateDto;
 import com.example.cosmocats.exception.ProductAlreadyExistsException;
 import com.example.cosmocats.exception.ProductNotFoundException;
+import com.example.cosmocats.metrics.annotation.Monitored;
+import com.example.cosmocats.projection.ProductProjection;
+import com.example.cosmocats.projection.ProjectedProduct;
+import com.example.cosmocats.projection.ProjectedProductList;
 import com.example.cosmocats.repository.ProductRepository;
 import com.example.cosmocats.service.mapper.ProductMapper;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,9 +31,14 @@ import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
+@Monitored
 @RequiredArgsConstructor
 public class ProductService {
 
+  private static final Comparator<Product> SEARCH_ORDER =
+      Comparator.comparing(Product::getName, String.CASE_INSENSITIVE_ORDER)
+          .thenComparing(Product::getProductId);
+
   private final ProductRepository productRepository;
   private final ProductMapper productMapper;
 
@@ -39,28 +59,74 @@ public class ProductService {
   }
 
   public ProductDto getProductById(UUID productId) {
+    return productMapper.toProductDto(findProduct(productId));
+  }
+
+  public ProjectedProduct getProductById(UUID productId, ProductProjection projection) {
+    return projection.project(findProduct(productId));
+  }
+
+  private Product findProduct(UUID productId) {
     log.info("Fetching product by ID: {}", productId);
 
     Product product =
         productRepository
             .findById(productId)
-            .orElseThrow(
-                () -> {
-                  log.warn("Product not found with ID: {}", productId);
-                  return new ProductNotFoundException(productId);
-                });
+            .orElseThrow(() -> new ProductNotFoundException(productId));
 
     log.info("Product found: {}", product.getName());
-    return productMapper.toProductDto(product);
+    return product;
+  }
+
+  public ProductBatchDto getProductsByIds(List<UUID> productIds) {
+    log.info("Fetching {} products by ID", productIds.size());
+
+    Map<UUID, Product> products = productRepository.findAllById(productIds);
+    List<UUID> missingIds =
+        productIds.stream().distinct().filter(id -> !products.containsKey(id)).toList();
+
+    log.info("Found {} products, {} missing", products.size(), missingIds.size());
+    return ProductBatchDto.builder()
+        .products(productMapper.toProductDtoList(new ArrayList<>(products.values())))
+        .missingIds(missingIds)
+        .build();
   }
 
   public ProductListDto getAllProducts() {
+    return productMapper.toProductListDto(findAllProducts());
+  }
+
+  public ProjectedProductList getAllProducts(ProductProjection projection) {
+    return projection.project(findAllProducts());
+  }
+
+  public ProductListDto getProductsPage(ProductSort sort, int page, int size) {
+    return productMapper.toProductListDto(findProductsPage(sort, page, size));
+  }
+
+  public ProjectedProductList getProductsPage(
+      ProductSort sort, int page, int size, ProductProjection projection) {
+    return projection.project(findProductsPage(sort, page, size));
+  }
+
+  private List<Product> findAllProducts() {
     log.info("Fetching all products");
 
     List<Product> products = productRepository.findAll();
     log.info("Found {} products", products.size());
+    return products;
+  }
 
-    return productMapper.toProductListDto(products);
+  private List<Product> findProductsPage(ProductSort sort, int page, int size) {
+    log.info("Fetching page {} of {} products sorted by {}", page, size, sort.getParameter());
+
+    long offset = (long) page * size;
+    if (offset >= productRepository.count()) {
+      return List.of();
+    }
+    List<Product> products = productRepository.findAllSorted(sort, offset, size);
+    log.info("Found {} products", products.size());
+    return products;
   }
 
   public ProductDto updateProduct(UUID productId, ProductUpdateDto updateDto) {
@@ -98,14 +164,149 @@ public class ProductService {
   }
 
   public ProductListDto getProductsByCategory(String category) {
+    return productMapper.toProductListDto(findProductsByCategory(category));
+  }
+
+  public ProjectedProductList getProductsByCategory(
+      String category, ProductProjection projection) {
+    return projection.project(findProductsByCategory(category));
+  }
+
+  public ProductListDto getProductsByCategoryPage(
+      String category, ProductSort sort, int page, int size) {
+    return productMapper.toProductListDto(findProductsByCategoryPage(category, sort, page, size));
+  }
+
+  public ProjectedProductList getProductsByCategoryPage(
+      String category, ProductSort sort, int page, int size, ProductProjection projection) {
+    return projection.project(findProductsByCategoryPage(category, sort, page, size));
+  }
+
+  private List<Product> findProductsByCategory(String category) {
     log.info("Fetching products by category: {}", category);
 
+    List<Product> products = productRepository.findAllByCategory(category);
+
+    log.info("Found {} products in category: {}", products.size(), category);
+    return products;
+  }
+
+  private List<Product> findProductsByCategoryPage(
+      String category, ProductSort sort, int page, int size) {
+    log.info(
+        "Fetching page {} of {} products in category {} sorted by {}",
+        page,
+        size,
+        category,
+        sort.getParameter());
+
+    // Pages past the end, and every page of a made-up category, cost one count and no reads.
+    long offset = (long) page * size;
+    if (offset >= productRepository.countByCategory(category)) {
+      return List.of();
+    }
     List<Product> products =
-        productRepository.findAll().stream()
-            .filter(product -> category.equalsIgnoreCase(product.getCategory()))
-            .toList();
+        productRepository.findAllByCategorySorted(category, sort, offset, size);
 
     log.info("Found {} products in category: {}", products.size(), category);
-    return productMapper.toProductListDto(products);
+    return products;
+  }
+
+  public ProductListDto searchProducts(String term, int limit) {
+    return productMapper.toProductListDto(findMatchingProducts(term, limit));
+  }
+
+  public ProjectedProductList searchProducts(
+      String term, int limit, ProductProjection projection) {
+    return projection.project(findMatchingProducts(term, limit));
+  }
+
+  private List<Product> findMatchingProducts(String term, int limit) {
+    log.info("Searching products for: {}", term);
+
+    List<Product> products =
+        productRepository.search(
+            product ->
+                containsIgnoreCase(product.getName(), term)
+                    || containsIgnoreCase(product.getDescription(), term),
+            SEARCH_ORDER,
+            limit);
+
+    log.info("Found {} products matching: {}", products.size(), term);
+    return products;
+  }
+
+  public ProductQueryResultDto queryProducts(ProductFilter filter, int limit) {
+    return productMapper.toProductQueryResultDto(findFilteredProducts(filter, limit));
+  }
+
+  public ProjectedProductList queryProducts(
+      ProductFilter filter, int limit, ProductProjection projection) {
+    ProductFilterResult result = findFilteredProducts(filter, limit);
+    return projection.project(result.getProducts(), result.getTotal());
+  }
+
+  private ProductFilterResult findFilteredProducts(ProductFilter filter, int limit) {
+    log.info("Querying products with filter: {}", filter);
+
+    ProductFilterResult result = productRepository.findAllByFilter(filter, limit);
+
+    log.info(
+        "Found {} products matching filter, returning {}",
+        result.getTotal(),
+        result.getProducts().size());
+    return result;
+  }
+
+  public ProductChangesDto getProductChanges(long sinceVersion) {
+    log.info("Fetching product changes since version: {}", sinceVersion);
+
+    ProductChangeSet changeSet = productRepository.findChangesSince(sinceVersion);
+    if (changeSet.isResyncRequired()) {
+      log.info(
+          "Version {} is outside the change log, client must resync at version {}",
+          sinceVersion,
+          changeSet.getVersion());
+    } else {
+      log.info(
+          "Found {} changed and {} deleted products up to version {}",
+          changeSet.getProducts().size(),
+          changeSet.getDeletedIds().size(),
+          changeSet.getVersion());
+    }
+    return productMapper.toProductChangesDto(changeSet);
+  }
+
+  public long getCatalogVersion() {
+    return productRepository.getVersion();
+  }
+
+  public long getCategoryVersion(String category) {
+    return productRepository.getCategoryVersion(category);
+  }
+
+  public long countProducts() {
+    return productRepository.count();
+  }
+
+  public long countProductsByCategory(String category) {
+    return productRepository.countByCategory(category);
+  }
+
+  public Optional<Long> findProductVersion(UUID productId) {
+    return productRepository.findVersionById(productId);
+  }
+
+  // Compares in place instead of lowercasing every description the scan visits.
+  private static boolean containsIgnoreCase(String text, String term) {
+    if (text == null) {
+      return false;
+    }
+    for (int i = 0, last = text.length() - term.length(); i <= last; i++) {
+      if (text.regionMatches(true, i, term, 0, term.length())) {
+        return true;
+      }
+    }
+    return false;
   }
 }
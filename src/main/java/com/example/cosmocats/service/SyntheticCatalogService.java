@@ -0,0 +1,65 @@
+package com.example.cosmocats.service;
+
+import com.example.cosmocats.config.SyntheticCatalogProperties;
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.domain.event.ProductChangeType;
+import com.example.cosmocats.domain.event.ProductChangedEvent;
+import com.example.cosmocats.dto.product.SyntheticCatalogDto;
+import com.example.cosmocats.repository.ProductRepository;
+import com.example.cosmocats.service.generator.SyntheticCatalogGenerator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyntheticCatalogService implements ApplicationRunner {
+
+  private final ProductRepository productRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final SyntheticCatalogProperties syntheticCatalogProperties;
+
+  // The server is already listening while runners run, so readiness is held at REFUSING_TRAFFIC
+  // explicitly; Boot moves it to ACCEPTING_TRAFFIC only after every runner has returned.
+  @Override
+  public void run(ApplicationArguments args) {
+    if (syntheticCatalogProperties.getSize() > 0) {
+      AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+      loadCatalog(syntheticCatalogProperties.getSize(), syntheticCatalogProperties.getSeed());
+    }
+  }
+
+  public SyntheticCatalogDto loadCatalog(int size, Long seed) {
+    long effectiveSeed = seed != null ? seed : syntheticCatalogProperties.getSeed();
+    log.info("Generating synthetic catalog of {} products with seed {}", size, effectiveSeed);
+
+    long start = System.nanoTime();
+    List<Product> products = new SyntheticCatalogGenerator(effectiveSeed).generateCatalog(size);
+    long version = productRepository.saveAll(products);
+    long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    log.info(
+        "Synthetic catalog loaded in {} ms, {} products in total at version {}",
+        durationMillis,
+        productRepository.count(),
+        version);
+    eventPublisher.publishEvent(
+        ProductChangedEvent.builder().type(ProductChangeType.RESYNC).version(version).build());
+
+    return SyntheticCatalogDto.builder()
+        .generatedProducts(size)
+        .seed(effectiveSeed)
+        .totalProducts(productRepository.count())
+        .catalogVersion(version)
+        .durationMillis(durationMillis)
+        .build();
+  }
+}
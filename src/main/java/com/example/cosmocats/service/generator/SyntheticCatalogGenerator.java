@@ -0,0 +1,171 @@
+package com.example.cosmocats.service.generator;
+
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.validation.CosmicWordValidator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+// Every product is derived from (seed, index) alone, so a catalog comes out identical whether it is
+// generated sequentially or in parallel, and reloading with the same seed overwrites the same ids.
+public class SyntheticCatalogGenerator {
+
+  static final List<String> CATEGORIES =
+      List.of(
+          "Electronics",
+          "Books",
+          "Food",
+          "Apparel",
+          "Toys",
+          "Home",
+          "Outdoor",
+          "Health",
+          "Tools",
+          "Music",
+          "Garden",
+          "Sports",
+          "Beauty",
+          "Office",
+          "Automotive",
+          "Jewelry",
+          "Games",
+          "Art",
+          "Kitchen",
+          "Travel",
+          "Pet Supplies",
+          "Baby",
+          "Collectibles",
+          "Software");
+
+  static final float MIN_PRICE = 0.99f;
+  static final float MAX_PRICE = 99_999.99f;
+
+  // Zipf exponent for category popularity; the first category gets roughly a quarter of the items.
+  private static final double CATEGORY_SKEW = 1.07;
+  // Log-normal prices around a 25.00 median with a long tail into the thousands.
+  private static final double PRICE_LOG_MEDIAN = Math.log(25.0);
+  private static final double PRICE_LOG_SIGMA = 1.3;
+
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private static final List<String> ADJECTIVES =
+      List.of(
+          "Portable", "Compact", "Deluxe", "Smart", "Ultra", "Classic", "Heavy-Duty", "Mini", "Pro",
+          "Hyper", "Wireless", "Organic", "Vintage", "Modular", "Foldable", "Radiant");
+
+  private static final List<String> NOUNS =
+      List.of(
+          "Lantern", "Backpack", "Headphones", "Blanket", "Telescope", "Mug", "Notebook", "Drone",
+          "Charger", "Sneakers", "Puzzle", "Speaker", "Keyboard", "Jacket", "Snack Pack", "Lamp",
+          "Watch", "Board Game", "Water Bottle", "Cookbook");
+
+  private static final List<String> USES =
+      List.of(
+          "everyday carry",
+          "long-haul missions",
+          "weekend camping",
+          "home offices",
+          "zero-gravity workouts",
+          "family game nights",
+          "deep-field observation",
+          "cold night shifts");
+
+  private static final List<String> TERMS =
+      CosmicWordValidator.COSMIC_TERMS.stream().map(SyntheticCatalogGenerator::capitalize).toList();
+
+  private static final double[] CATEGORY_CUMULATIVE_WEIGHTS = cumulativeZipfWeights();
+
+  private final long seed;
+
+  public SyntheticCatalogGenerator(long seed) {
+    this.seed = seed;
+  }
+
+  public List<Product> generateCatalog(int size) {
+    return IntStream.range(0, size).parallel().mapToObj(this::generateProduct).toList();
+  }
+
+  public Product generateProduct(long index) {
+    SplittableRandom random = new SplittableRandom(mix64(seed + index * GOLDEN_GAMMA));
+
+    String adjective = pick(random, ADJECTIVES);
+    String term = pick(random, TERMS);
+    String noun = pick(random, NOUNS);
+    // The seed is part of the serial, so catalogs loaded with different seeds never share a name;
+    // bulk loads skip the per-product name check that single writes make.
+    String serial =
+        (Long.toUnsignedString(seed, 36) + "-" + Long.toString(index, 36)).toUpperCase(Locale.ROOT);
+    return Product.builder()
+        .productId(randomUuid(random))
+        .category(CATEGORIES.get(categoryRank(random.nextDouble())))
+        .name(adjective + " " + term + " " + noun + " " + serial)
+        .description(
+            adjective
+                + " "
+                + noun.toLowerCase(Locale.ROOT)
+                + " for "
+                + pick(random, USES)
+                + ", tested under "
+                + pick(random, CosmicWordValidator.COSMIC_TERMS)
+                + " conditions.")
+        .price(price(random.nextGaussian()))
+        .build();
+  }
+
+  private static int categoryRank(double uniform) {
+    int index = Arrays.binarySearch(CATEGORY_CUMULATIVE_WEIGHTS, uniform);
+    int rank = index >= 0 ? index : -index - 1;
+    return Math.min(rank, CATEGORIES.size() - 1);
+  }
+
+  private static float price(double gaussian) {
+    double price = Math.exp(PRICE_LOG_MEDIAN + PRICE_LOG_SIGMA * gaussian);
+    double clamped = Math.max(MIN_PRICE, Math.min(MAX_PRICE, price));
+    return Math.round(clamped * 100) / 100f;
+  }
+
+  // Version 4 layout so generated ids look like the ones the service assigns.
+  private static UUID randomUuid(SplittableRandom random) {
+    long mostSignificant = (random.nextLong() & ~0xF000L) | 0x4000L;
+    long leastSignificant = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(mostSignificant, leastSignificant);
+  }
+
+  private static double[] cumulativeZipfWeights() {
+    double[] cumulative = new double[CATEGORIES.size()];
+    double total = 0;
+    for (int rank = 0; rank < cumulative.length; rank++) {
+      total += 1.0 / Math.pow(rank + 1, CATEGORY_SKEW);
+      cumulative[rank] = total;
+    }
+    for (int rank = 0; rank < cumulative.length; rank++) {
+      cumulative[rank] /= total;
+    }
+    return cumulative;
+  }
+
+  private static <T> T pick(SplittableRandom random, List<T> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  private static String capitalize(String term) {
+    StringBuilder capitalized = new StringBuilder(term.length());
+    for (String word : term.split(" ")) {
+      if (!capitalized.isEmpty()) {
+        capitalized.append(' ');
+      }
+      capitalized.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+    }
+    return capitalized.toString();
+  }
+
+  // Stafford variant 13 finalizer; spreads neighbouring indexes into unrelated random streams.
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
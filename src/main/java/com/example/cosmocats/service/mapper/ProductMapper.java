@@ -1,8 +1,12 @@
 package com.example.cosmocats.service.mapper;
 
 import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.domain.ProductChangeSet;
+import com.example.cosmocats.domain.ProductFilterResult;
+import com.example.cosmocats.dto.product.ProductChangesDto;
 import com.example.cosmocats.dto.product.ProductDto;
 import com.example.cosmocats.dto.product.ProductListDto;
+import com.example.cosmocats.dto.product.ProductQueryResultDto;
 import com.example.cosmocats.dto.product.ProductUpdateDto;
 import java.util.List;
 import java.util.UUID;
@@ -25,6 +29,16 @@ public interface ProductMapper {
 
   List<ProductDto> toProductDtoList(List<Product> products);
 
+  @Mapping(target = "version", source = "version")
+  @Mapping(target = "resyncRequired", source = "resyncRequired")
+  @Mapping(target = "products", source = "products")
+  @Mapping(target = "deletedIds", source = "deletedIds")
+  ProductChangesDto toProductChangesDto(ProductChangeSet changeSet);
+
+  @Mapping(target = "total", source = "total")
+  @Mapping(target = "products", source = "products")
+  ProductQueryResultDto toProductQueryResultDto(ProductFilterResult filterResult);
+
   @Mapping(target = "productId", ignore = true)
   @Mapping(target = "category", source = "category")
   @Mapping(target = "name", source = "name")
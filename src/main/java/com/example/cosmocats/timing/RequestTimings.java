@@ -0,0 +1,89 @@
+package com.example.cosmocats.timing;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+// Phase durations of the request running on the current thread. Only ServerTimingFilter opens a
+// recording, so with server timing disabled every hook reduces to one ThreadLocal read.
+public final class RequestTimings {
+
+  private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+  private static final ServerTimingPhase[] PHASES = ServerTimingPhase.values();
+
+  private final long startedAt = System.nanoTime();
+  private final long[] durations = new long[PHASES.length];
+  private final long[] phaseStartedAt = new long[PHASES.length];
+  // Nested calls in the same phase, e.g. a mapper delegating to itself, are counted once.
+  private final int[] depth = new int[PHASES.length];
+  private final boolean[] recorded = new boolean[PHASES.length];
+
+  private RequestTimings() {}
+
+  public static RequestTimings open() {
+    RequestTimings timings = new RequestTimings();
+    CURRENT.set(timings);
+    return timings;
+  }
+
+  public static RequestTimings current() {
+    return CURRENT.get();
+  }
+
+  public static <T> T time(ServerTimingPhase phase, Supplier<T> action) {
+    RequestTimings timings = CURRENT.get();
+    if (timings == null) {
+      return action.get();
+    }
+    timings.begin(phase);
+    try {
+      return action.get();
+    } finally {
+      timings.end(phase);
+    }
+  }
+
+  public void begin(ServerTimingPhase phase) {
+    int index = phase.ordinal();
+    if (depth[index]++ == 0) {
+      phaseStartedAt[index] = System.nanoTime();
+    }
+  }
+
+  public void end(ServerTimingPhase phase) {
+    int index = phase.ordinal();
+    if (--depth[index] == 0) {
+      durations[index] += System.nanoTime() - phaseStartedAt[index];
+      recorded[index] = true;
+    }
+  }
+
+  public void close() {
+    CURRENT.remove();
+  }
+
+  public long getDurationNanos(ServerTimingPhase phase) {
+    return durations[phase.ordinal()];
+  }
+
+  // Server-Timing header value, e.g. "repository;dur=0.012, serialization;dur=0.104, total;dur=0.9"
+  public String toHeaderValue() {
+    StringBuilder header = new StringBuilder();
+    for (ServerTimingPhase phase : PHASES) {
+      if (recorded[phase.ordinal()]) {
+        appendMetric(header, phase.getMetricName(), durations[phase.ordinal()]);
+      }
+    }
+    appendMetric(header, "total", System.nanoTime() - startedAt);
+    return header.toString();
+  }
+
+  private static void appendMetric(StringBuilder header, String name, long nanos) {
+    if (!header.isEmpty()) {
+      header.append(", ");
+    }
+    header
+        .append(name)
+        .append(";dur=")
+        .append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.cosmocats.timing;
+
+public enum ServerTimingPhase {
+  PARSE("parse"),
+  VALIDATION("validation"),
+  REPOSITORY("repository"),
+  MAPPER("mapper"),
+  SERIALIZATION("serialization");
+
+  private final String metricName;
+
+  ServerTimingPhase(String metricName) {
+    this.metricName = metricName;
+  }
+
+  public String getMetricName() {
+    return metricName;
+  }
+}
@@ -0,0 +1,35 @@
+package com.example.cosmocats.timing.aspect;
+
+import com.example.cosmocats.timing.RequestTimings;
+import com.example.cosmocats.timing.ServerTimingPhase;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+@Aspect
+public class ServerTimingAspect {
+
+  @Around("execution(public * com.example.cosmocats.repository.ProductRepository.*(..))")
+  public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+    return proceedTimed(joinPoint, ServerTimingPhase.REPOSITORY);
+  }
+
+  @Around("execution(public * com.example.cosmocats.service.mapper.ProductMapper+.*(..))")
+  public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+    return proceedTimed(joinPoint, ServerTimingPhase.MAPPER);
+  }
+
+  private static Object proceedTimed(ProceedingJoinPoint joinPoint, ServerTimingPhase phase)
+      throws Throwable {
+    RequestTimings timings = RequestTimings.current();
+    if (timings == null) {
+      return joinPoint.proceed();
+    }
+    timings.begin(phase);
+    try {
+      return joinPoint.proceed();
+    } finally {
+      timings.end(phase);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.example.cosmocats.timing.config;
+
+import com.example.cosmocats.timing.aspect.ServerTimingAspect;
+import com.example.cosmocats.timing.web.ServerTimingFilter;
+import com.example.cosmocats.timing.web.TimedJacksonHttpMessageConverter;
+import com.example.cosmocats.timing.web.TimedValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Nothing here is registered unless application.server-timing.enabled is set, so the only cost
+// left when it is off is the ThreadLocal read in the few hooks outside this package.
+@Configuration
+@ConditionalOnProperty(prefix = "application.server-timing", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ServerTimingConfiguration implements WebMvcConfigurer {
+
+  private final Validator validator;
+
+  @Bean
+  public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+      ServerTimingProperties serverTimingProperties) {
+    FilterRegistrationBean<ServerTimingFilter> registration =
+        new FilterRegistrationBean<>(new ServerTimingFilter(serverTimingProperties));
+    registration.addUrlPatterns("/api/v1/products/*", "/api/v1/admin/products/*");
+    return registration;
+  }
+
+  @Bean
+  public ServerTimingAspect serverTimingAspect() {
+    return new ServerTimingAspect();
+  }
+
+  @Bean
+  public MappingJackson2HttpMessageConverter timedJacksonHttpMessageConverter(
+      ObjectMapper objectMapper) {
+    return new TimedJacksonHttpMessageConverter(objectMapper);
+  }
+
+  @Override
+  public org.springframework.validation.Validator getValidator() {
+    return new TimedValidator(validator);
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.cosmocats.timing.config;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "application.server-timing")
+public class ServerTimingProperties {
+
+  boolean enabled;
+  double logSampleRate = 0.01;
+}
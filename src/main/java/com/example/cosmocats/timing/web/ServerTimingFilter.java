@@ -0,0 +1,56 @@
+package com.example.cosmocats.timing.web;
+
+import com.example.cosmocats.timing.RequestTimings;
+import com.example.cosmocats.timing.config.ServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+// The body is buffered because serialization has to finish before its duration can go into a
+// header, which is one reason this filter only exists when server timing is switched on.
+@Slf4j
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+  public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+  private static final String EVENT_STREAM_SUFFIX = "/events";
+
+  private final ServerTimingProperties serverTimingProperties;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return request.getRequestURI().endsWith(EVENT_STREAM_SUFFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    ContentCachingResponseWrapper bufferedResponse = new ContentCachingResponseWrapper(response);
+    RequestTimings timings = RequestTimings.open();
+    try {
+      filterChain.doFilter(request, bufferedResponse);
+    } finally {
+      timings.close();
+      String serverTiming = timings.toHeaderValue();
+      bufferedResponse.setHeader(SERVER_TIMING_HEADER, serverTiming);
+      if (ThreadLocalRandom.current().nextDouble() < serverTimingProperties.getLogSampleRate()) {
+        log.info(
+            "Server timing {} {} {}: {}",
+            request.getMethod(),
+            request.getRequestURI(),
+            bufferedResponse.getStatus(),
+            serverTiming);
+      }
+      bufferedResponse.copyBodyToResponse();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.example.cosmocats.timing.web;
+
+import com.example.cosmocats.timing.RequestTimings;
+import com.example.cosmocats.timing.ServerTimingPhase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+  public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+    super(objectMapper);
+  }
+
+  @Override
+  public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+      throws IOException, HttpMessageNotReadableException {
+    RequestTimings timings = RequestTimings.current();
+    if (timings == null) {
+      return super.read(type, contextClass, inputMessage);
+    }
+    timings.begin(ServerTimingPhase.PARSE);
+    try {
+      return super.read(type, contextClass, inputMessage);
+    } finally {
+      timings.end(ServerTimingPhase.PARSE);
+    }
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+      throws IOException, HttpMessageNotWritableException {
+    RequestTimings timings = RequestTimings.current();
+    if (timings == null) {
+      super.writeInternal(object, type, outputMessage);
+      return;
+    }
+    timings.begin(ServerTimingPhase.SERIALIZATION);
+    try {
+      super.writeInternal(object, type, outputMessage);
+    } finally {
+      timings.end(ServerTimingPhase.SERIALIZATION);
+    }
+  }
+}
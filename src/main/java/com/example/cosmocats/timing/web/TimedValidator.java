@@ -0,0 +1,35 @@
+package com.example.cosmocats.timing.web;
+
+import com.example.cosmocats.timing.RequestTimings;
+import com.example.cosmocats.timing.ServerTimingPhase;
+import jakarta.validation.Validator;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+// Times @Valid request body validation, which is where CosmicWordValidator runs.
+public class TimedValidator extends SpringValidatorAdapter {
+
+  public TimedValidator(Validator targetValidator) {
+    super(targetValidator);
+  }
+
+  @Override
+  public void validate(Object target, Errors errors, Object... validationHints) {
+    RequestTimings timings = RequestTimings.current();
+    if (timings == null) {
+      super.validate(target, errors, validationHints);
+      return;
+    }
+    timings.begin(ServerTimingPhase.VALIDATION);
+    try {
+      super.validate(target, errors, validationHints);
+    } finally {
+      timings.end(ServerTimingPhase.VALIDATION);
+    }
+  }
+
+  @Override
+  public void validate(Object target, Errors errors) {
+    validate(target, errors, new Object[0]);
+  }
+}
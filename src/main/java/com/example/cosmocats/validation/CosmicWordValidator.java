@@ -1,15 +1,15 @@
 package com.example.cosmocats.validation;
 
+import com.example.cosmocats.jfr.CosmicWordValidationEvent;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
 public class CosmicWordValidator implements ConstraintValidator<CosmicWordCheck, String> {
 
-  private static final List<String> COSMIC_TERMS =
-      Arrays.asList(
+  public static final List<String> COSMIC_TERMS =
+      List.of(
           "galaxy",
           "star",
           "cosmic",
@@ -45,11 +45,15 @@ public class CosmicWordValidator implements ConstraintValidator<CosmicWordCheck,
       return true;
     }
 
+    CosmicWordValidationEvent event = new CosmicWordValidationEvent();
+    event.begin();
     String lowerCaseValue = value.toLowerCase();
     long cosmicWordCount =
         COSMIC_TERMS.stream().filter(term -> containsWord(lowerCaseValue, term)).count();
 
-    return cosmicWordCount >= minWords;
+    boolean valid = cosmicWordCount >= minWords;
+    CosmicWordValidationEvent.commit(event, value.length(), cosmicWordCount, valid);
+    return valid;
   }
 
   private boolean containsWord(String text, String word) {
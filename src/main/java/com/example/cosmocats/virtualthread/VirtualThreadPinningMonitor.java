@@ -0,0 +1,91 @@
+package com.example.cosmocats.virtualthread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+// Streams jdk.VirtualThreadPinned events from an in-process JFR recording. Every pinned section
+// longer than the threshold is timed, and the first occurrence at each distinct call site is logged
+// with its stack, so a new pinning hot spot shows up once in the log instead of on every request.
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  private static final int MAX_REPORTED_SITES = 256;
+
+  private final Duration threshold;
+  private final int stackDepth;
+  private final Timer pinned;
+  private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+  private RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      Duration threshold, int stackDepth, MeterRegistry meterRegistry) {
+    this.threshold = threshold;
+    this.stackDepth = stackDepth;
+    this.pinned =
+        Timer.builder("cosmocats.virtual-threads.pinned")
+            .description("Time virtual threads spent pinned to their carrier")
+            .register(meterRegistry);
+  }
+
+  public void start() {
+    stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, this::onPinned);
+    stream.startAsync();
+    log.info("Reporting virtual thread pinning longer than {}", threshold);
+  }
+
+  public long getPinnedCount() {
+    return pinned.count();
+  }
+
+  @Override
+  public void close() {
+    if (stream != null) {
+      stream.close();
+    }
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinned.record(event.getDuration());
+    String site = describe(event.getStackTrace());
+    if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+      log.warn(
+          "Virtual thread pinned its carrier for {} ms at\n{}",
+          event.getDuration().toMillis(),
+          site);
+    }
+  }
+
+  private String describe(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "\t(no stack trace)";
+    }
+    List<RecordedFrame> frames = stackTrace.getFrames();
+    return frames.stream()
+        .filter(RecordedFrame::isJavaFrame)
+        .limit(stackDepth)
+        .map(
+            frame ->
+                "\tat "
+                    + frame.getMethod().getType().getName()
+                    + "."
+                    + frame.getMethod().getName()
+                    + "("
+                    + frame.getLineNumber()
+                    + ")")
+        .collect(Collectors.joining("\n"));
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.cosmocats.virtualthread.config;
+
+import com.example.cosmocats.virtualthread.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Virtual-thread mode itself is Spring Boot's spring.threads.virtual.enabled, which moves Tomcat
+// request handling and the application task executor onto virtual threads. This adds the runtime
+// pinning report that should accompany it.
+@Configuration
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+  @Bean(destroyMethod = "close")
+  public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+      VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+    VirtualThreadPinningMonitor monitor =
+        new VirtualThreadPinningMonitor(
+            properties.getPinnedThreshold(), properties.getPinnedStackDepth(), meterRegistry);
+    monitor.start();
+    return monitor;
+  }
+}
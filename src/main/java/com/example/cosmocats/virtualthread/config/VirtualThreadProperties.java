@@ -0,0 +1,19 @@
+package com.example.cosmocats.virtualthread.config;
+
+import java.time.Duration;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "application.virtual-threads")
+public class VirtualThreadProperties {
+
+  // Pinned sections shorter than this are not recorded at all.
+  Duration pinnedThreshold = Duration.ofMillis(20);
+  // Frames logged for each newly seen pinning site.
+  int pinnedStackDepth = 12;
+}
@@ -0,0 +1,142 @@
+package com.example.cosmocats.bitmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Roaring Bitmap Tests")
+class RoaringBitmapTest {
+
+  @Test
+  @DisplayName("Should add, find and remove values in sparse and dense containers")
+  void addRemove_ShouldTrackMembership() {
+    RoaringBitmap bitmap = new RoaringBitmap();
+
+    assertThat(bitmap.add(5)).isTrue();
+    assertThat(bitmap.add(5)).isFalse();
+    assertThat(bitmap.add(70_000)).isTrue();
+    for (int i = 0; i < 10_000; i++) {
+      bitmap.add(200_000 + i);
+    }
+
+    assertThat(bitmap.contains(5)).isTrue();
+    assertThat(bitmap.contains(6)).isFalse();
+    assertThat(bitmap.contains(70_000)).isTrue();
+    assertThat(bitmap.contains(209_999)).isTrue();
+    assertThat(bitmap.cardinality()).isEqualTo(10_002);
+
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(bitmap.remove(200_000 + i)).isTrue();
+    }
+    assertThat(bitmap.remove(5)).isTrue();
+    assertThat(bitmap.remove(5)).isFalse();
+
+    assertThat(bitmap.cardinality()).isEqualTo(1);
+    assertThat(values(bitmap)).containsExactly(70_000);
+  }
+
+  @Test
+  @DisplayName("Should match BitSet results for AND, OR and ANDNOT")
+  void setOperations_ShouldMatchBitSet() {
+    SplittableRandom random = new SplittableRandom(42);
+    for (int round = 0; round < 20; round++) {
+      BitSet leftBits = new BitSet();
+      BitSet rightBits = new BitSet();
+      RoaringBitmap left = randomBitmap(random, leftBits);
+      RoaringBitmap right = randomBitmap(random, rightBits);
+
+      RoaringBitmap and = left.copy();
+      and.and(right);
+      RoaringBitmap or = left.copy();
+      or.or(right);
+      RoaringBitmap andNot = left.copy();
+      andNot.andNot(right);
+
+      BitSet expectedAnd = (BitSet) leftBits.clone();
+      expectedAnd.and(rightBits);
+      BitSet expectedOr = (BitSet) leftBits.clone();
+      expectedOr.or(rightBits);
+      BitSet expectedAndNot = (BitSet) leftBits.clone();
+      expectedAndNot.andNot(rightBits);
+
+      assertThat(values(and)).isEqualTo(values(expectedAnd));
+      assertThat(values(or)).isEqualTo(values(expectedOr));
+      assertThat(values(andNot)).isEqualTo(values(expectedAndNot));
+      assertThat(and.cardinality()).isEqualTo(expectedAnd.cardinality());
+      assertThat(or.cardinality()).isEqualTo(expectedOr.cardinality());
+      assertThat(andNot.cardinality()).isEqualTo(expectedAndNot.cardinality());
+      assertThat(values(left)).isEqualTo(values(leftBits));
+      assertThat(values(right)).isEqualTo(values(rightBits));
+    }
+  }
+
+  @Test
+  @DisplayName("Should not share containers between a union and its operand")
+  void or_ShouldCopyContainersFromOperand() {
+    RoaringBitmap left = RoaringBitmap.of(1);
+    RoaringBitmap right = RoaringBitmap.of(100_000);
+
+    left.or(right);
+    left.add(100_001);
+
+    assertThat(right.contains(100_001)).isFalse();
+    assertThat(values(left)).containsExactly(1, 100_000, 100_001);
+  }
+
+  @Test
+  @DisplayName("Should visit values in ascending order and stop when asked")
+  void forEach_ShouldStopEarly() {
+    RoaringBitmap bitmap = RoaringBitmap.of(300_000, 3, 70_000, 9);
+    List<Integer> visited = new ArrayList<>();
+
+    bitmap.forEach(
+        value -> {
+          visited.add(value);
+          return visited.size() < 3;
+        });
+
+    assertThat(visited).containsExactly(3, 9, 70_000);
+  }
+
+  @Test
+  @DisplayName("Should reject negative values")
+  void add_ShouldRejectNegativeValues() {
+    assertThatThrownBy(() -> new RoaringBitmap().add(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  // Mixes sparse and dense chunks so every container pairing is exercised.
+  private static RoaringBitmap randomBitmap(SplittableRandom random, BitSet bits) {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    for (int chunk = 0; chunk < 6; chunk++) {
+      int base = chunk << 16;
+      int count = random.nextBoolean() ? random.nextInt(1, 3000) : random.nextInt(5000, 60_000);
+      for (int i = 0; i < count; i++) {
+        int value = base + random.nextInt(1 << 16);
+        bitmap.add(value);
+        bits.set(value);
+      }
+    }
+    return bitmap;
+  }
+
+  private static List<Integer> values(RoaringBitmap bitmap) {
+    List<Integer> values = new ArrayList<>();
+    bitmap.forEach(
+        value -> {
+          values.add(value);
+          return true;
+        });
+    return values;
+  }
+
+  private static List<Integer> values(BitSet bits) {
+    return bits.stream().boxed().toList();
+  }
+}
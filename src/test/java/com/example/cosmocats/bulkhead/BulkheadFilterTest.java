@@ -0,0 +1,127 @@
+package com.example.cosmocats.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.example.cosmocats.bulkhead.web.BulkheadFilter;
+import com.example.cosmocats.bulkhead.web.BulkheadFilter.Compartment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("Bulkhead Filter Tests")
+class BulkheadFilterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final CountDownLatch releaseAdmin = new CountDownLatch(1);
+  private Bulkhead adminBulkhead;
+  private BulkheadFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    adminBulkhead = new Bulkhead("admin", 2, 2, Duration.ofSeconds(10));
+    Bulkhead publicBulkhead = new Bulkhead("public", 4, 4, Duration.ofSeconds(1));
+    filter =
+        new BulkheadFilter(
+            List.of(
+                Compartment.of(
+                    List.of("/api/v1/products/**"), publicBulkhead, counter("public")),
+                Compartment.of(List.of("/api/v1/admin/**"), adminBulkhead, counter("admin"))));
+  }
+
+  @AfterEach
+  void tearDown() {
+    releaseAdmin.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Should reject admin requests beyond permits and queue with 503")
+  void doFilter_ShouldRejectAdmin_WhenGroupSaturated() throws Exception {
+    saturateAdmin();
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request("/api/v1/admin/products"), response, new MockFilterChain());
+
+    assertThat(response.getStatus()).isEqualTo(503);
+    assertThat(response.getContentAsString()).contains("\"title\":\"Bulkhead Full\"");
+    assertThat(meterRegistry.get("cosmocats.bulkhead.rejected").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should serve product reads without delay while admin is saturated")
+  void doFilter_ShouldServeReads_WhenAdminSaturated() throws Exception {
+    saturateAdmin();
+
+    long start = System.nanoTime();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request("/api/v1/products"), response, new MockFilterChain());
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(100));
+  }
+
+  @Test
+  @DisplayName("Should release the permit when the request fails")
+  void doFilter_ShouldReleasePermit_WhenChainThrows() {
+    FilterChain failing =
+        (request, response) -> {
+          throw new IllegalStateException("Handler failed");
+        };
+
+    try {
+      filter.doFilter(request("/api/v1/admin/products"), new MockHttpServletResponse(), failing);
+    } catch (Exception expected) {
+      // the filter rethrows; only the permit matters here
+    }
+
+    assertThat(adminBulkhead.getActive()).isZero();
+  }
+
+  // Two admin requests hold both permits and two more wait in the queue.
+  private void saturateAdmin() {
+    FilterChain blocking = (request, response) -> awaitRelease();
+    List<Future<?>> requests = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      requests.add(
+          executor.submit(
+              () -> {
+                filter.doFilter(
+                    request("/api/v1/admin/products"), new MockHttpServletResponse(), blocking);
+                return null;
+              }));
+    }
+    await().until(() -> adminBulkhead.getActive() == 2 && adminBulkhead.getQueued() == 2);
+  }
+
+  private void awaitRelease() {
+    try {
+      releaseAdmin.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Counter counter(String group) {
+    return Counter.builder("cosmocats.bulkhead.rejected").tag("group", group).register(meterRegistry);
+  }
+
+  private static MockHttpServletRequest request(String path) {
+    return new MockHttpServletRequest("GET", path);
+  }
+}
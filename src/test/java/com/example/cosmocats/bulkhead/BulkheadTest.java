@@ -0,0 +1,58 @@
+package com.example.cosmocats.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Bulkhead Tests")
+class BulkheadTest {
+
+  @Test
+  @DisplayName("Should refuse at once when permits and queue are both full")
+  void tryEnter_ShouldRefuse_WhenQueueFull() throws Exception {
+    Bulkhead bulkhead = new Bulkhead("admin", 1, 0, Duration.ofSeconds(5));
+
+    assertThat(bulkhead.tryEnter()).isTrue();
+    long start = System.nanoTime();
+    assertThat(bulkhead.tryEnter()).isFalse();
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    assertThat(bulkhead.getActive()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should give up after waiting the configured time in the queue")
+  void tryEnter_ShouldTimeOut_WhenPermitNeverFrees() throws Exception {
+    Bulkhead bulkhead = new Bulkhead("admin", 1, 1, Duration.ofMillis(50));
+    bulkhead.tryEnter();
+
+    assertThat(bulkhead.tryEnter()).isFalse();
+    assertThat(bulkhead.getQueued()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should hand a freed permit to a queued request")
+  void tryEnter_ShouldAdmitQueuedRequest_WhenPermitFreed() throws Exception {
+    Bulkhead bulkhead = new Bulkhead("admin", 1, 1, Duration.ofSeconds(5));
+    bulkhead.tryEnter();
+
+    CompletableFuture<Boolean> queued =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return bulkhead.tryEnter();
+              } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+              }
+            });
+    await().until(() -> bulkhead.getQueued() == 1);
+    assertThat(bulkhead.tryEnter()).isFalse();
+    bulkhead.exit();
+
+    assertThat(queued.get()).isTrue();
+  }
+}
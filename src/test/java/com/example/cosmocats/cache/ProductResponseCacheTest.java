@@ -0,0 +1,259 @@
+package com.example.cosmocats.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.cosmocats.domain.event.ProductChangeType;
+import com.example.cosmocats.domain.event.ProductChangedEvent;
+import com.example.cosmocats.format.ResponseFormat;
+import com.example.cosmocats.projection.ProductProjection;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Product Response Cache Tests")
+class ProductResponseCacheTest {
+
+  private ProductResponseCache productResponseCache;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    productResponseCache = new ProductResponseCache(new ObjectMapper());
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("Should return cached bytes while version is unchanged")
+  void getOrSerialize_ShouldReturnCachedBytes_WhenVersionUnchanged() {
+    byte[] first = productResponseCache.getOrSerialize("key", 1L, this::load);
+    byte[] second = productResponseCache.getOrSerialize("key", 1L, this::load);
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should reserialize when version changes")
+  void getOrSerialize_ShouldReserialize_WhenVersionChanges() {
+    productResponseCache.getOrSerialize("key", 1L, this::load);
+    byte[] result = productResponseCache.getOrSerialize("key", 2L, this::load);
+
+    assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("{\"load\":2}");
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Should keep newer entry when older version is loaded concurrently")
+  void getOrSerialize_ShouldKeepNewerEntry_WhenOlderVersionLoaded() {
+    productResponseCache.getOrSerialize("key", 2L, this::load);
+    productResponseCache.getOrSerialize("key", 1L, this::load);
+    byte[] result = productResponseCache.getOrSerialize("key", 2L, this::load);
+
+    assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("{\"load\":1}");
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Should admit new keys once full by evicting the least recently used")
+  void getOrSerialize_ShouldEvictLeastRecentlyUsed_WhenFull() {
+    for (int i = 0; i < ProductResponseCache.MAX_ENTRIES; i++) {
+      productResponseCache.getOrSerialize("key-" + i, 1L, this::load);
+    }
+    productResponseCache.getOrSerialize("key-0", 1L, this::load);
+
+    productResponseCache.getOrSerialize("overflow", 1L, this::load);
+    productResponseCache.getOrSerialize("overflow", 1L, this::load);
+    productResponseCache.getOrSerialize("key-0", 1L, this::load);
+    assertThat(loads).hasValue(ProductResponseCache.MAX_ENTRIES + 1);
+
+    productResponseCache.getOrSerialize("key-1", 1L, this::load);
+    assertThat(loads).hasValue(ProductResponseCache.MAX_ENTRIES + 2);
+  }
+
+  @Test
+  @DisplayName("Should use case insensitive category keys")
+  void categoryKey_ShouldIgnoreCase() {
+    assertThat(ProductResponseCache.categoryKey("Electronics"))
+        .isEqualTo(ProductResponseCache.categoryKey("electronics"))
+        .isNotEqualTo(ProductResponseCache.allProductsKey());
+  }
+
+  @Test
+  @DisplayName("Should wrap serialization failures")
+  void getOrSerialize_ShouldThrow_WhenBodyCannotBeSerialized() {
+    assertThatThrownBy(() -> productResponseCache.getOrSerialize("key", 1L, Object::new))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Failed to serialize response body");
+  }
+
+  @Test
+  @DisplayName("Should share one load among concurrent requests for the same version")
+  void getOrSerialize_ShouldCoalesceConcurrentLoads_WhenVersionMatches() throws Exception {
+    int requests = 16;
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Future<byte[]>> responses = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      responses.add(
+          executor.submit(
+              () ->
+                  productResponseCache.getOrSerialize(
+                      "key", 1L, () -> blockingLoad(loading, release))));
+      loading.await();
+      for (int i = 1; i < requests; i++) {
+        responses.add(
+            executor.submit(() -> productResponseCache.getOrSerialize("key", 1L, this::load)));
+      }
+      // Let the waiters reach the pending entry before the first load completes.
+      TimeUnit.MILLISECONDS.sleep(100);
+      release.countDown();
+
+      byte[] first = responses.get(0).get();
+      for (Future<byte[]> response : responses) {
+        assertThat(response.get()).isSameAs(first);
+      }
+    }
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should let waiting requests load again when the shared load fails")
+  void getOrSerialize_ShouldRetry_WhenSharedLoadFails() {
+    assertThatThrownBy(
+            () ->
+                productResponseCache.getOrSerialize(
+                    "key",
+                    1L,
+                    () -> {
+                      throw new IllegalArgumentException("Lookup failed");
+                    }))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    byte[] result = productResponseCache.getOrSerialize("key", 1L, this::load);
+
+    assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("{\"load\":1}");
+  }
+
+  @Test
+  @DisplayName("Should release the pending entry when the load throws an error")
+  void getOrSerialize_ShouldRetry_WhenSharedLoadThrowsError() {
+    assertThatThrownBy(
+            () ->
+                productResponseCache.getOrSerialize(
+                    "key",
+                    1L,
+                    () -> {
+                      throw new LinkageError("Mapper missing");
+                    }))
+        .isInstanceOf(LinkageError.class);
+
+    byte[] result = productResponseCache.getOrSerialize("key", 1L, this::load);
+
+    assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("{\"load\":1}");
+  }
+
+  @Test
+  @DisplayName("Should serialize without caching when asked to")
+  void serialize_ShouldNotCache() {
+    productResponseCache.serialize(ResponseFormat.JSON, this::load);
+    byte[] result = productResponseCache.getOrSerialize("key", 1L, this::load);
+
+    assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("{\"load\":2}");
+  }
+
+  @Test
+  @DisplayName("Should drop a product entry as soon as the product changes")
+  void onProductChanged_ShouldEvictProduct() {
+    UUID productId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    String key = ProductResponseCache.productKey(productId);
+    productResponseCache.getOrSerialize(key, 1L, this::load);
+
+    productResponseCache.onProductChanged(
+        ProductChangedEvent.builder()
+            .type(ProductChangeType.DELETED)
+            .productId(productId)
+            .build());
+    productResponseCache.getOrSerialize(key, 1L, this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Should cache each format separately and evict all of them on change")
+  void getOrSerialize_ShouldKeepOneEntryPerFormat() {
+    UUID productId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    String key = ProductResponseCache.productKey(productId);
+
+    byte[] json = productResponseCache.getOrSerialize(key, 1L, ResponseFormat.JSON, this::load);
+    byte[] cbor = productResponseCache.getOrSerialize(key, 1L, ResponseFormat.CBOR, this::load);
+
+    assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo("{\"load\":1}");
+    // {"load": 2} as an indefinite-length CBOR map
+    assertThat(cbor).containsExactly(0xBF, 0x64, 'l', 'o', 'a', 'd', 0x02, 0xFF);
+    assertThat(productResponseCache.getOrSerialize(key, 1L, ResponseFormat.CBOR, this::load))
+        .isSameAs(cbor);
+    assertThat(productResponseCache.getOrSerialize(key, 1L, this::load)).isSameAs(json);
+
+    productResponseCache.onProductChanged(
+        ProductChangedEvent.builder()
+            .type(ProductChangeType.UPDATED)
+            .productId(productId)
+            .build());
+    productResponseCache.getOrSerialize(key, 1L, ResponseFormat.JSON, this::load);
+    productResponseCache.getOrSerialize(key, 1L, ResponseFormat.CBOR, this::load);
+
+    assertThat(loads).hasValue(4);
+  }
+
+  @Test
+  @DisplayName("Should evict every field set and format of a product when it changes")
+  void onProductChanged_ShouldEvictProjectionsAndFormats() {
+    UUID productId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    UUID otherId = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    String projected =
+        ProductResponseCache.projectionKey(
+            ProductResponseCache.productKey(productId), ProductProjection.of("name"));
+    String other = ProductResponseCache.productKey(otherId);
+    productResponseCache.getOrSerialize(projected, 1L, ResponseFormat.JSON, this::load);
+    productResponseCache.getOrSerialize(projected, 1L, ResponseFormat.CBOR, this::load);
+    productResponseCache.getOrSerialize(other, 1L, this::load);
+
+    productResponseCache.onProductChanged(
+        ProductChangedEvent.builder()
+            .type(ProductChangeType.UPDATED)
+            .productId(productId)
+            .build());
+    productResponseCache.getOrSerialize(projected, 1L, ResponseFormat.JSON, this::load);
+    productResponseCache.getOrSerialize(projected, 1L, ResponseFormat.CBOR, this::load);
+    productResponseCache.getOrSerialize(other, 1L, this::load);
+
+    assertThat(loads).hasValue(5);
+  }
+
+  private Map<String, Integer> blockingLoad(CountDownLatch loading, CountDownLatch release) {
+    loading.countDown();
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return load();
+  }
+
+  private Map<String, Integer> load() {
+    return Map.of("load", loads.incrementAndGet());
+  }
+}
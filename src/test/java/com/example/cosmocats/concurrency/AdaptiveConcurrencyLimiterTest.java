@@ -0,0 +1,124 @@
+package com.example.cosmocats.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Adaptive Concurrency Limiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  @DisplayName("Should admit up to the limit and refuse beyond it")
+  void tryAcquire_ShouldRefuse_WhenLimitReached() {
+    AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(limiter.tryAcquire(RequestPriority.HIGH)).isTrue();
+    }
+
+    assertThat(limiter.tryAcquire(RequestPriority.HIGH)).isFalse();
+    assertThat(limiter.getInFlight()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("Should shed low priority requests before high priority ones")
+  void tryAcquire_ShouldShedLowPriorityFirst() {
+    AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(limiter.tryAcquire(RequestPriority.LOW)).isTrue();
+    }
+
+    assertThat(limiter.tryAcquire(RequestPriority.LOW)).isFalse();
+    assertThat(limiter.tryAcquire(RequestPriority.HIGH)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should raise the limit while latency stays flat and the limit is in use")
+  void release_ShouldGrowLimit_WhenLatencyIsSteady() {
+    AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+    for (int window = 0; window < 10; window++) {
+      runWindow(limiter, 10, TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    assertThat(limiter.getLimit()).isGreaterThan(10);
+  }
+
+  @Test
+  @DisplayName("Should lower the limit when latency climbs past the target")
+  void release_ShouldShrinkLimit_WhenLatencyRises() {
+    AdaptiveConcurrencyLimiter limiter = limiter(40);
+    for (int window = 0; window < 5; window++) {
+      runWindow(limiter, 40, TimeUnit.MILLISECONDS.toNanos(5));
+    }
+    int steadyLimit = limiter.getLimit();
+
+    for (int window = 0; window < 5; window++) {
+      runWindow(limiter, steadyLimit, TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    assertThat(limiter.getLimit()).isLessThan(steadyLimit / 2);
+  }
+
+  @Test
+  @DisplayName("Should not grow a limit the traffic never reaches")
+  void release_ShouldKeepLimit_WhenMostlyIdle() {
+    AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+    for (int window = 0; window < 10; window++) {
+      for (int i = 0; i < 20; i++) {
+        limiter.tryAcquire(RequestPriority.HIGH);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5));
+      }
+      clock.addAndGet(WINDOW_NANOS);
+      limiter.tryAcquire(RequestPriority.HIGH);
+      limiter.release(TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("Should reject inconsistent limits")
+  void constructor_ShouldRejectInvalidLimits() {
+    assertThatThrownBy(
+            () -> new AdaptiveConcurrencyLimiter(5, 10, 100, 1, 1.5, 0.5, WINDOW_NANOS))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+    return new AdaptiveConcurrencyLimiter(
+        initialLimit,
+        4,
+        200,
+        TimeUnit.MILLISECONDS.toNanos(50),
+        1.5,
+        0.5,
+        WINDOW_NANOS,
+        clock::get);
+  }
+
+  // Holds `concurrency` requests in flight at once, then completes them all with the same latency
+  // at the end of the window.
+  private void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long latencyNanos) {
+    int admitted = 0;
+    for (int i = 0; i < concurrency; i++) {
+      if (limiter.tryAcquire(RequestPriority.HIGH)) {
+        admitted++;
+      }
+    }
+    clock.addAndGet(WINDOW_NANOS);
+    for (int i = 0; i < admitted; i++) {
+      limiter.release(latencyNanos);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.example.cosmocats.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.cosmocats.concurrency.web.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("Concurrency Limit Filter Tests")
+class ConcurrencyLimitFilterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private AdaptiveConcurrencyLimiter limiter;
+  private ConcurrencyLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    limiter =
+        new AdaptiveConcurrencyLimiter(
+            4, 4, 4, TimeUnit.MILLISECONDS.toNanos(50), 1.5, 0.5, TimeUnit.SECONDS.toNanos(1));
+    filter =
+        new ConcurrencyLimitFilter(
+            limiter, List.of("/api/v1/admin/**", "/api/v1/cosmo-cats/**"), meterRegistry);
+  }
+
+  @Test
+  @DisplayName("Should pass requests through and free their slot afterwards")
+  void doFilter_ShouldReleaseSlot_WhenRequestCompletes() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request("GET", "/api/v1/products"), response, new MockFilterChain());
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should fail fast with 503 when low priority share is used up")
+  void doFilter_ShouldShedAdminRequest_WhenLowPriorityShareFull() throws Exception {
+    limiter.tryAcquire(RequestPriority.LOW);
+    limiter.tryAcquire(RequestPriority.LOW);
+    MockFilterChain chain = new MockFilterChain();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request("POST", "/api/v1/admin/products"), response, chain);
+
+    assertThat(response.getStatus()).isEqualTo(503);
+    assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    assertThat(response.getContentAsString()).contains("\"title\":\"Service Overloaded\"");
+    assertThat(chain.getRequest()).isNull();
+    assertThat(
+            meterRegistry.get("cosmocats.concurrency.shed").tag("priority", "low").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should keep admitting product reads while low priority is shed")
+  void doFilter_ShouldAdmitProductRead_WhenLowPriorityShareFull() throws Exception {
+    limiter.tryAcquire(RequestPriority.LOW);
+    limiter.tryAcquire(RequestPriority.LOW);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request("GET", "/api/v1/products/batch"), response, new MockFilterChain());
+
+    assertThat(response.getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("Should leave the event stream out of the limit")
+  void doFilter_ShouldSkipEventStream() throws Exception {
+    for (int i = 0; i < 4; i++) {
+      limiter.tryAcquire(RequestPriority.HIGH);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request("GET", "/api/v1/products/events"), response, new MockFilterChain());
+
+    assertThat(response.getStatus()).isEqualTo(200);
+  }
+
+  private static MockHttpServletRequest request(String method, String path) {
+    return new MockHttpServletRequest(method, path);
+  }
+}
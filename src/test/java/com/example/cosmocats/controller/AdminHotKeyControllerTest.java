@@ -0,0 +1,67 @@
+package com.example.cosmocats.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.cosmocats.dto.diagnostics.HotKeyDto;
+import com.example.cosmocats.dto.diagnostics.HotKeysDto;
+import com.example.cosmocats.hotkey.HotKeyTracker;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(AdminHotKeyController.class)
+@DisplayName("Admin Hot Key Controller Tests")
+class AdminHotKeyControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private HotKeyTracker hotKeyTracker;
+
+  @Test
+  @DisplayName("Should return the hottest products and categories")
+  void getHotKeys_ShouldReturnTopKeys() throws Exception {
+    when(hotKeyTracker.getHotKeys(5))
+        .thenReturn(
+            HotKeysDto.builder()
+                .windowSeconds(60)
+                .productReads(1200)
+                .productErrorBound(2)
+                .products(
+                    List.of(
+                        HotKeyDto.builder()
+                            .key("550e8400-e29b-41d4-a716-446655440001")
+                            .count(900)
+                            .build()))
+                .categoryReads(300)
+                .categoryErrorBound(1)
+                .categories(List.of(HotKeyDto.builder().key("electronics").count(250).build()))
+                .build());
+
+    mockMvc
+        .perform(get("/api/v1/admin/hot-keys").param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.windowSeconds").value(60))
+        .andExpect(jsonPath("$.products[0].key").value("550e8400-e29b-41d4-a716-446655440001"))
+        .andExpect(jsonPath("$.products[0].count").value(900))
+        .andExpect(jsonPath("$.categories[0].key").value("electronics"));
+  }
+
+  @Test
+  @DisplayName("Should reject limits above the maximum")
+  void getHotKeys_ShouldReturnBadRequest_WhenLimitTooLarge() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/v1/admin/hot-keys")
+                .param("limit", String.valueOf(AdminHotKeyController.MAX_LIMIT + 1)))
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -1,18 +1,26 @@
 package com.example.cosmocats.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.cosmocats.dto.product.ProductDto;
 import com.example.cosmocats.dto.product.ProductUpdateDto;
+import com.example.cosmocats.dto.product.SyntheticCatalogDto;
 import com.example.cosmocats.exception.ProductAlreadyExistsException;
 import com.example.cosmocats.exception.ProductNotFoundException;
+import com.example.cosmocats.format.CborDecoder;
+import com.example.cosmocats.format.ResponseFormat;
+import com.example.cosmocats.format.web.CborHttpMessageConverter;
 import com.example.cosmocats.service.ProductService;
+import com.example.cosmocats.service.SyntheticCatalogService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,6 +45,9 @@ class AdminProductControllerTest {
   @MockitoBean
   private ProductService productService;
 
+  @MockitoBean
+  private SyntheticCatalogService syntheticCatalogService;
+
   @Test
   @DisplayName("Should create product with valid data")
   void createProduct_ShouldReturnCreated_WhenValidData() throws Exception {
@@ -347,4 +358,110 @@ class AdminProductControllerTest {
 
     verify(productService).updateProduct(eq(productId), any(ProductUpdateDto.class));
   }
+
+  @Test
+  @DisplayName("Should load synthetic catalog with requested size and seed")
+  void loadSyntheticCatalog_ShouldReturnCreated_WhenSizeValid() throws Exception {
+    SyntheticCatalogDto catalog =
+        SyntheticCatalogDto.builder()
+            .generatedProducts(1000)
+            .seed(7L)
+            .totalProducts(1004L)
+            .catalogVersion(1L)
+            .durationMillis(12L)
+            .build();
+
+    when(syntheticCatalogService.loadCatalog(1000, 7L)).thenReturn(catalog);
+
+    mockMvc
+        .perform(post("/api/v1/admin/products/synthetic").param("size", "1000").param("seed", "7"))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.generatedProducts").value(1000))
+        .andExpect(jsonPath("$.totalProducts").value(1004))
+        .andExpect(jsonPath("$.catalogVersion").value(1));
+
+    verify(syntheticCatalogService).loadCatalog(1000, 7L);
+  }
+
+  @Test
+  @DisplayName("Should reject synthetic catalog larger than the supported maximum")
+  void loadSyntheticCatalog_ShouldReturnBadRequest_WhenSizeTooLarge() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/admin/products/synthetic")
+                .param(
+                    "size", String.valueOf(AdminProductController.MAX_SYNTHETIC_CATALOG_SIZE + 1)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.title").value("Validation Error"));
+
+    verifyNoInteractions(syntheticCatalogService);
+  }
+
+  @Test
+  @DisplayName("Should accept and return CBOR with the JSON schema")
+  void createProduct_ShouldRoundTripCbor() throws Exception {
+    ProductUpdateDto createDto =
+        ProductUpdateDto.builder()
+            .category("Electronics")
+            .name("Galaxy Phone")
+            .description("Advanced smartphone with cosmic features")
+            .price(999.99f)
+            .build();
+    ProductDto responseDto =
+        ProductDto.builder()
+            .productId(productId)
+            .category("Electronics")
+            .name("Galaxy Phone")
+            .description("Advanced smartphone with cosmic features")
+            .price(999.99f)
+            .build();
+    when(productService.createProduct(createDto)).thenReturn(responseDto);
+
+    byte[] body =
+        mockMvc
+            .perform(
+                post("/api/v1/admin/products")
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .accept(MediaType.APPLICATION_CBOR)
+                    .content(ResponseFormat.CBOR.write(objectMapper, createDto)))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+    CborDecoder.decode(body, tokens);
+    assertThat(objectMapper.readValue(tokens.asParser(objectMapper), ProductDto.class))
+        .isEqualTo(responseDto);
+  }
+
+  @Test
+  @DisplayName("Should refuse CBOR request bodies over the size cap")
+  void createProduct_ShouldReturnPayloadTooLarge_WhenCborBodyTooLarge() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/admin/products")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .content(new byte[CborHttpMessageConverter.MAX_BODY_BYTES + 1]))
+        .andExpect(status().isPayloadTooLarge())
+        .andExpect(jsonPath("$.title").value("Payload Too Large"));
+
+    verify(productService, never()).createProduct(any());
+  }
+
+  @Test
+  @DisplayName("Should validate CBOR request bodies like JSON ones")
+  void createProduct_ShouldReturnBadRequest_WhenCborBodyInvalid() throws Exception {
+    ProductUpdateDto invalidDto = ProductUpdateDto.builder().category("Electronics").build();
+
+    mockMvc
+        .perform(
+            post("/api/v1/admin/products")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .content(ResponseFormat.CBOR.write(objectMapper, invalidDto)))
+        .andExpect(status().isBadRequest());
+
+    verify(productService, never()).createProduct(any());
+  }
 }
@@ -0,0 +1,103 @@
+package com.example.cosmocats.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.example.cosmocats.dto.diagnostics.RecordingDto;
+import com.example.cosmocats.exception.RecordingNotFoundException;
+import com.example.cosmocats.service.JfrRecordingService;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(AdminRecordingController.class)
+@DisplayName("Admin Recording Controller Tests")
+class AdminRecordingControllerTest {
+
+  private final RecordingDto recording =
+      RecordingDto.builder()
+          .id(7L)
+          .name("cosmocats-on-demand")
+          .state("RUNNING")
+          .startTime(Instant.parse("2025-01-01T00:00:00Z"))
+          .durationSeconds(120L)
+          .maxSizeBytes(16L * 1024 * 1024)
+          .recordedBytes(0L)
+          .build();
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private JfrRecordingService jfrRecordingService;
+
+  @Test
+  @DisplayName("Should start recording with requested limits")
+  void startRecording_ShouldReturnCreated() throws Exception {
+    when(jfrRecordingService.startRecording(Duration.ofSeconds(120), 16L * 1024 * 1024))
+        .thenReturn(recording);
+
+    mockMvc
+        .perform(
+            post("/api/v1/admin/recordings")
+                .param("durationSeconds", "120")
+                .param("maxSizeMb", "16"))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id").value(7))
+        .andExpect(jsonPath("$.state").value("RUNNING"));
+  }
+
+  @Test
+  @DisplayName("Should reject recordings longer than the maximum duration")
+  void startRecording_ShouldReturnBadRequest_WhenDurationTooLong() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/admin/recordings")
+                .param(
+                    "durationSeconds",
+                    String.valueOf(AdminRecordingController.MAX_DURATION_SECONDS + 1)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.title").value("Validation Error"));
+
+    verifyNoInteractions(jfrRecordingService);
+  }
+
+  @Test
+  @DisplayName("Should download the recording as an attachment")
+  void dumpRecording_ShouldReturnJfrAttachment() throws Exception {
+    when(jfrRecordingService.dumpRecording()).thenReturn(new byte[] {1, 2, 3});
+
+    mockMvc
+        .perform(get("/api/v1/admin/recordings/dump"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+        .andExpect(header().string("Content-Disposition", "attachment; filename=\"cosmocats.jfr\""))
+        .andExpect(content().bytes(new byte[] {1, 2, 3}));
+  }
+
+  @Test
+  @DisplayName("Should return not found when no recording was started")
+  void getRecording_ShouldReturnNotFound_WhenNoRecording() throws Exception {
+    when(jfrRecordingService.getRecording()).thenThrow(new RecordingNotFoundException());
+
+    mockMvc
+        .perform(get("/api/v1/admin/recordings"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.title").value("Recording Not Found"));
+  }
+
+  @Test
+  @DisplayName("Should stop the recording")
+  void stopRecording_ShouldReturnNoContent() throws Exception {
+    mockMvc.perform(delete("/api/v1/admin/recordings")).andExpect(status().isNoContent());
+
+    verify(jfrRecordingService).stopRecording();
+  }
+}
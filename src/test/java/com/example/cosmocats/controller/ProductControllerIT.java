@@ -1,6 +1,9 @@
 package com.example.cosmocats.controller;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -35,6 +38,30 @@ class ProductControllerIT extends AbstractIt {
         .andExpect(jsonPath("$.category").value("Electronics"));
   }
 
+  @Test
+  @DisplayName("Should not report server timing unless enabled")
+  void shouldNotReportServerTimingByDefault() throws Exception {
+    UUID productId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+    mockMvc
+        .perform(get("/api/v1/products/{id}", productId).accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist("Server-Timing"));
+  }
+
+  @Test
+  @DisplayName("Should return a problem document for unknown products")
+  void shouldReturnProblemForUnknownProduct() throws Exception {
+    UUID productId = UUID.fromString("550e8400-e29b-41d4-a716-446655449999");
+
+    mockMvc
+        .perform(get("/api/v1/products/{id}", productId).accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isNotFound())
+        .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+        .andExpect(jsonPath("$.title").value("Product Not Found"))
+        .andExpect(jsonPath("$.detail").value("Product not found with id: " + productId));
+  }
+
   @Test
   @DisplayName("Should get products by category successfully")
   void shouldGetProductsByCategory() throws Exception {
@@ -68,4 +95,59 @@ class ProductControllerIT extends AbstractIt {
         .andExpect(jsonPath("$.productId").value(productId.toString()))
         .andExpect(jsonPath("$.name").value("Quantum Phone X1"));
   }
+
+  @Test
+  @DisplayName("Should return not modified for unchanged product")
+  void shouldReturnNotModifiedForUnchangedProduct() throws Exception {
+    UUID productId = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+    String eTag =
+        mockMvc
+            .perform(get("/api/v1/products/{id}", productId).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(get("/api/v1/products/{id}", productId).header("If-None-Match", eTag))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  @DisplayName("Should serve the updated product right after a write")
+  void shouldServeUpdatedProductAfterWrite() throws Exception {
+    UUID productId = UUID.fromString("550e8400-e29b-41d4-a716-446655440004");
+    mockMvc
+        .perform(get("/api/v1/products/{id}", productId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.price").value(599.99));
+
+    mockMvc
+        .perform(
+            put("/api/v1/admin/products/{id}", productId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    """
+                    {"category":"Electronics","name":"Galaxy Tablet Pro",
+                     "description":"Professional tablet for cosmic calculations","price":549.99}
+                    """))
+        .andExpect(status().isOk());
+
+    mockMvc
+        .perform(get("/api/v1/products/{id}", productId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.price").value(549.99));
+  }
+
+  @Test
+  @DisplayName("Should return empty delta when client is up to date")
+  void shouldReturnEmptyDeltaWhenUpToDate() throws Exception {
+    mockMvc
+        .perform(get("/api/v1/products/changes").param("since", "0"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.resyncRequired").value(false))
+        .andExpect(jsonPath("$.products").isArray());
+  }
 }
@@ -1,25 +1,52 @@
 package com.example.cosmocats.controller;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.cosmocats.cache.ProductResponseCache;
+import com.example.cosmocats.domain.PriceBucket;
+import com.example.cosmocats.domain.ProductFilter;
+import com.example.cosmocats.domain.ProductSort;
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.dto.product.ProductBatchDto;
+import com.example.cosmocats.dto.product.ProductChangesDto;
 import com.example.cosmocats.dto.product.ProductDto;
 import com.example.cosmocats.dto.product.ProductListDto;
+import com.example.cosmocats.dto.product.ProductQueryResultDto;
 import com.example.cosmocats.exception.ProductNotFoundException;
+import com.example.cosmocats.format.ResponseFormat;
+import com.example.cosmocats.hotkey.HotKeyTracker;
+import com.example.cosmocats.projection.ProductProjection;
 import com.example.cosmocats.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.json.JsonCompareMode;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(ProductController.class)
+@Import(ProductResponseCache.class)
 @DisplayName("Product Controller Tests")
 class ProductControllerTest {
 
@@ -28,9 +55,23 @@ class ProductControllerTest {
   @Autowired
   private MockMvc mockMvc;
 
+  @Autowired
+  private ProductResponseCache productResponseCache;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
   @MockitoBean
   private ProductService productService;
 
+  @MockitoBean
+  private HotKeyTracker hotKeyTracker;
+
+  @BeforeEach
+  void setUp() {
+    productResponseCache.clear();
+  }
+
   @Test
   @DisplayName("Should return all products when products exist")
   void getAllProducts_ShouldReturnProducts_WhenProductsExist() throws Exception {
@@ -158,7 +199,12 @@ class ProductControllerTest {
     mockMvc
         .perform(get("/api/v1/products/{id}", productId))
         .andExpect(status().isNotFound())
-        .andExpect(jsonPath("$.title").value("Product Not Found"));
+        .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+        .andExpect(jsonPath("$.title").value("Product Not Found"))
+        .andExpect(jsonPath("$.status").value(404))
+        .andExpect(jsonPath("$.detail").value("Product not found with id: " + productId))
+        .andExpect(jsonPath("$.instance").value("/api/v1/products/" + productId))
+        .andExpect(jsonPath("$.timestamp").exists());
   }
 
   @Test
@@ -196,4 +242,607 @@ class ProductControllerTest {
         .andExpect(jsonPath("$.products[0].category").value("Electronics"))
         .andExpect(jsonPath("$.products[0].name").value("Galaxy Phone"));
   }
+
+  @Test
+  @DisplayName("Should serve cached products while catalog version is unchanged")
+  void getAllProducts_ShouldServeCachedBytes_WhenVersionUnchanged() throws Exception {
+    ProductListDto productListDto =
+        ProductListDto.builder()
+            .products(
+                List.of(
+                    ProductDto.builder()
+                        .productId(productId)
+                        .category("Electronics")
+                        .name("Galaxy Phone")
+                        .price(999.99f)
+                        .build()))
+            .build();
+
+    when(productService.getCatalogVersion()).thenReturn(7L);
+    when(productService.getAllProducts()).thenReturn(productListDto);
+
+    mockMvc.perform(get("/api/v1/products")).andExpect(status().isOk());
+    mockMvc
+        .perform(get("/api/v1/products"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.products.length()").value(1))
+        .andExpect(jsonPath("$.products[0].name").value("Galaxy Phone"));
+
+    verify(productService, times(1)).getAllProducts();
+  }
+
+  @Test
+  @DisplayName("Should reload category products when category version changes")
+  void getProductsByCategory_ShouldReload_WhenCategoryVersionChanges() throws Exception {
+    ProductListDto emptyListDto = ProductListDto.builder().products(List.of()).build();
+    ProductListDto productListDto =
+        ProductListDto.builder()
+            .products(
+                List.of(
+                    ProductDto.builder()
+                        .productId(productId)
+                        .category("Books")
+                        .name("Star Guide")
+                        .price(29.99f)
+                        .build()))
+            .build();
+
+    when(productService.getCategoryVersion("Books")).thenReturn(1L, 2L);
+    when(productService.getProductsByCategory("Books")).thenReturn(emptyListDto, productListDto);
+
+    mockMvc
+        .perform(get("/api/v1/products/category/{category}", "Books"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.products.length()").value(0));
+    mockMvc
+        .perform(get("/api/v1/products/category/{category}", "Books"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.products.length()").value(1))
+        .andExpect(jsonPath("$.products[0].name").value("Star Guide"));
+
+    verify(productService, times(2)).getProductsByCategory("Books");
+  }
+
+  @Test
+  @DisplayName("Should cache category products while the category has products")
+  void getProductsByCategory_ShouldCache_WhenCategoryExists() throws Exception {
+    when(productService.getCategoryVersion("Books")).thenReturn(1L);
+    when(productService.countProductsByCategory("Books")).thenReturn(1L);
+    when(productService.getProductsByCategory("Books"))
+        .thenReturn(ProductListDto.builder().products(List.of()).build());
+
+    mockMvc.perform(get("/api/v1/products/category/{category}", "Books")).andExpect(status().isOk());
+    mockMvc.perform(get("/api/v1/products/category/{category}", "Books")).andExpect(status().isOk());
+
+    verify(productService, times(1)).getProductsByCategory("Books");
+  }
+
+  @Test
+  @DisplayName("Should not cache products of a category that does not exist")
+  void getProductsByCategory_ShouldNotCache_WhenCategoryUnknown() throws Exception {
+    when(productService.countProductsByCategory("Nope")).thenReturn(0L);
+    when(productService.getProductsByCategory("Nope"))
+        .thenReturn(ProductListDto.builder().products(List.of()).build());
+
+    mockMvc
+        .perform(get("/api/v1/products/category/{category}", "Nope"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.products.length()").value(0));
+    mockMvc.perform(get("/api/v1/products/category/{category}", "Nope")).andExpect(status().isOk());
+
+    verify(productService, times(2)).getProductsByCategory("Nope");
+  }
+
+  @Test
+  @DisplayName("Should return catalog ETag with all products")
+  void getAllProducts_ShouldReturnETag() throws Exception {
+    when(productService.getCatalogVersion()).thenReturn(3L);
+    when(productService.getAllProducts())
+        .thenReturn(ProductListDto.builder().products(List.of()).build());
+
+    mockMvc
+        .perform(get("/api/v1/products"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", eTag("3")));
+  }
+
+  @Test
+  @DisplayName("Should return not modified when catalog ETag matches")
+  void getAllProducts_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+    when(productService.getCatalogVersion()).thenReturn(3L);
+
+    mockMvc
+        .perform(get("/api/v1/products").header("If-None-Match", eTag("3")))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", eTag("3")))
+        .andExpect(header().string("Vary", "Accept"));
+
+    verify(productService, never()).getAllProducts();
+  }
+
+  @Test
+  @DisplayName("Should return not modified when category ETag matches")
+  void getProductsByCategory_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+    when(productService.getCategoryVersion("Books")).thenReturn(2L);
+
+    mockMvc
+        .perform(
+            get("/api/v1/products/category/{category}", "Books")
+                .header("If-None-Match", eTag("2")))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("Vary", "Accept"));
+
+    verify(productService, never()).getProductsByCategory("Books");
+  }
+
+  @Test
+  @DisplayName("Should return not modified when product ETag matches")
+  void getProductById_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+    when(productService.findProductVersion(productId)).thenReturn(Optional.of(4L));
+
+    mockMvc
+        .perform(get("/api/v1/products/{id}", productId).header("If-None-Match", eTag("4")))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", eTag("4")))
+        .andExpect(header().string("Vary", "Accept"));
+
+    verify(productService, never()).getProductById(productId);
+  }
+
+  @Test
+  @DisplayName("Should return product when product ETag is stale")
+  void getProductById_ShouldReturnProduct_WhenETagIsStale() throws Exception {
+    ProductDto productDto =
+        ProductDto.builder()
+            .productId(productId)
+            .category("Electronics")
+            .name("Galaxy Phone")
+            .price(999.99f)
+            .build();
+
+    when(productService.findProductVersion(productId)).thenReturn(Optional.of(5L));
+    when(productService.getProductById(productId)).thenReturn(productDto);
+
+    mockMvc
+        .perform(get("/api/v1/products/{id}", productId).header("If-None-Match", eTag("4")))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", eTag("5")))
+        .andExpect(jsonPath("$.name").value("Galaxy Phone"));
+  }
+
+  @Test
+  @DisplayName("Should not match an ETag for the same version from an earlier boot")
+  void getProductById_ShouldReturnProduct_WhenETagIsFromAnotherBoot() throws Exception {
+    when(productService.findProductVersion(productId)).thenReturn(Optional.of(4L));
+    when(productService.getProductById(productId))
+        .thenReturn(ProductDto.builder().productId(productId).build());
+
+    mockMvc
+        .perform(get("/api/v1/products/{id}", productId).header("If-None-Match", "\"4\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", eTag("4")));
+  }
+
+  @Test
+  @DisplayName("Should reuse the serialized product until its version changes")
+  void getProductById_ShouldReuseResponse_WhenVersionUnchanged() throws Exception {
+    ProductDto productDto =
+        ProductDto.builder()
+            .productId(productId)
+            .category("Electronics")
+            .name("Galaxy Phone")
+            .price(999.99f)
+            .build();
+
+    when(productService.findProductVersion(productId)).thenReturn(Optional.of(5L));
+    when(productService.getProductById(productId)).thenReturn(productDto);
+
+    for (int i = 0; i < 3; i++) {
+      mockMvc
+          .perform(get("/api/v1/products/{id}", productId))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.name").value("Galaxy Phone"));
+    }
+
+    verify(productService, times(1)).getProductById(productId);
+  }
+
+  @Test
+  @DisplayName("Should record product and category reads as hot key candidates")
+  void reads_ShouldFeedHotKeyTracker() throws Exception {
+    UUID otherId = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    when(productService.findProductVersion(productId)).thenReturn(Optional.of(1L));
+    when(productService.getProductById(productId))
+        .thenReturn(ProductDto.builder().productId(productId).build());
+    when(productService.getProductsByIds(List.of(productId, otherId)))
+        .thenReturn(
+            ProductBatchDto.builder()
+                .products(List.of(ProductDto.builder().productId(productId).build()))
+                .missingIds(List.of(otherId))
+                .build());
+
+    when(productService.countProductsByCategory("Books")).thenReturn(3L);
+
+    mockMvc.perform(get("/api/v1/products/{id}", productId));
+    mockMvc.perform(get("/api/v1/products/batch").param("ids", productId + "," + otherId));
+    mockMvc.perform(get("/api/v1/products/category/{category}", "Books"));
+
+    verify(hotKeyTracker, times(2)).recordProduct(productId);
+    verify(hotKeyTracker, never()).recordProduct(otherId);
+    verify(hotKeyTracker).recordCategory("Books");
+  }
+
+  @Test
+  @DisplayName("Should not record reads of products that do not exist")
+  void getProductById_ShouldNotFeedHotKeyTracker_WhenProductMissing() throws Exception {
+    when(productService.getProductById(productId))
+        .thenThrow(new ProductNotFoundException(productId));
+
+    mockMvc.perform(get("/api/v1/products/{id}", productId)).andExpect(status().isNotFound());
+
+    verify(hotKeyTracker, never()).recordProduct(any());
+  }
+
+  @Test
+  @DisplayName("Should not record reads of categories that have no products")
+  void getProductsByCategory_ShouldNotFeedHotKeyTracker_WhenCategoryEmpty() throws Exception {
+    when(productService.getProductsByCategory("Nope"))
+        .thenReturn(ProductListDto.builder().products(List.of()).build());
+
+    mockMvc.perform(get("/api/v1/products/category/{category}", "Nope")).andExpect(status().isOk());
+
+    verify(hotKeyTracker, never()).recordCategory(any());
+  }
+
+  @Test
+  @DisplayName("Should return product changes since version")
+  void getProductChanges_ShouldReturnChanges() throws Exception {
+    UUID deletedId = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    ProductChangesDto changesDto =
+        ProductChangesDto.builder()
+            .version(9L)
+            .products(
+                List.of(
+                    ProductDto.builder()
+                        .productId(productId)
+                        .category("Electronics")
+                        .name("Galaxy Phone")
+                        .price(999.99f)
+                        .build()))
+            .deletedIds(List.of(deletedId))
+            .build();
+
+    when(productService.getProductChanges(5L)).thenReturn(changesDto);
+
+    mockMvc
+        .perform(get("/api/v1/products/changes").param("since", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.version").value(9))
+        .andExpect(jsonPath("$.resyncRequired").value(false))
+        .andExpect(jsonPath("$.products[0].name").value("Galaxy Phone"))
+        .andExpect(jsonPath("$.deletedIds[0]").value(deletedId.toString()));
+  }
+
+  @Test
+  @DisplayName("Should return found products and missing ids in one batch")
+  void getProductsByIds_ShouldReturnFoundAndMissing() throws Exception {
+    UUID missingId = UUID.fromString("550e8400-e29b-41d4-a716-446655440099");
+    ProductBatchDto batchDto =
+        ProductBatchDto.builder()
+            .products(
+                List.of(
+                    ProductDto.builder()
+                        .productId(productId)
+                        .category("Electronics")
+                        .name("Galaxy Phone")
+                        .price(999.99f)
+                        .build()))
+            .missingIds(List.of(missingId))
+            .build();
+
+    when(productService.getProductsByIds(List.of(productId, missingId))).thenReturn(batchDto);
+
+    mockMvc
+        .perform(get("/api/v1/products/batch").param("ids", productId + "," + missingId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.products.length()").value(1))
+        .andExpect(jsonPath("$.products[0].productId").value(productId.toString()))
+        .andExpect(jsonPath("$.missingIds[0]").value(missingId.toString()));
+  }
+
+  @Test
+  @DisplayName("Should reject batch requests above the size limit")
+  void getProductsByIds_ShouldReturnBadRequest_WhenTooManyIds() throws Exception {
+    String ids =
+        IntStream.rangeClosed(0, ProductController.MAX_BATCH_SIZE)
+            .mapToObj(i -> UUID.randomUUID().toString())
+            .collect(Collectors.joining(","));
+
+    mockMvc
+        .perform(get("/api/v1/products/batch").param("ids", ids))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.title").value("Validation Error"));
+
+    verify(productService, never()).getProductsByIds(any());
+  }
+
+  @Test
+  @DisplayName("Should return search matches with the requested limit")
+  void searchProducts_ShouldReturnMatches() throws Exception {
+    ProductListDto matches =
+        ProductListDto.builder()
+            .products(
+                List.of(
+                    ProductDto.builder()
+                        .productId(productId)
+                        .category("Electronics")
+                        .name("Galaxy Phone")
+                        .price(999.99f)
+                        .build()))
+            .build();
+    when(productService.searchProducts("quantum", 5)).thenReturn(matches);
+
+    mockMvc
+        .perform(get("/api/v1/products/search").param("q", "quantum").param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.products.length()").value(1))
+        .andExpect(jsonPath("$.products[0].name").value("Galaxy Phone"));
+  }
+
+  @Test
+  @DisplayName("Should reject search limits above the maximum")
+  void searchProducts_ShouldReturnBadRequest_WhenLimitTooLarge() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/v1/products/search")
+                .param("q", "quantum")
+                .param("limit", String.valueOf(ProductController.MAX_SEARCH_LIMIT + 1)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.title").value("Validation Error"));
+
+    verify(productService, never()).searchProducts(any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Should bind repeated query parameters into one combined filter")
+  void queryProducts_ShouldBuildFilterFromParameters() throws Exception {
+    ProductFilter expectedFilter =
+        ProductFilter.builder()
+            .category("Home")
+            .category("Office")
+            .excludedCategory("Garden")
+            .priceBucket(PriceBucket.FROM_10_TO_25)
+            .hasDescription(true)
+            .term("nebula")
+            .build();
+    ProductQueryResultDto result =
+        ProductQueryResultDto.builder()
+            .total(42)
+            .products(
+                List.of(
+                    ProductDto.builder()
+                        .productId(productId)
+                        .category("Home")
+                        .name("Nebula Lamp")
+                        .price(19.99f)
+                        .build()))
+            .build();
+    when(productService.queryProducts(expectedFilter, 5)).thenReturn(result);
+
+    mockMvc
+        .perform(
+            get("/api/v1/products/query")
+                .param("category", "Home", "Office")
+                .param("excludeCategory", "Garden")
+                .param("priceBucket", "FROM_10_TO_25")
+                .param("hasDescription", "true")
+                .param("term", "nebula")
+                .param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(42))
+        .andExpect(jsonPath("$.products[0].name").value("Nebula Lamp"));
+  }
+
+  @Test
+  @DisplayName("Should reject query terms without letters or digits")
+  void queryProducts_ShouldReturnBadRequest_WhenTermHasNoWordCharacters() throws Exception {
+    mockMvc
+        .perform(get("/api/v1/products/query").param("term", "nebula", "--"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.title").value("Validation Error"));
+
+    verify(productService, never()).queryProducts(any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Should serve sorted pages, caching each page but none past the end")
+  void getAllProducts_ShouldServeSortedPages_WhenSortGiven() throws Exception {
+    ProductListDto firstPage =
+        ProductListDto.builder()
+            .products(
+                List.of(
+                    ProductDto.builder()
+                        .productId(productId)
+                        .category("Electronics")
+                        .name("Galaxy Phone")
+                        .price(9.99f)
+                        .build()))
+            .build();
+    when(productService.getCatalogVersion()).thenReturn(3L);
+    when(productService.countProducts()).thenReturn(1L);
+    when(productService.getProductsPage(ProductSort.PRICE, 0, 1)).thenReturn(firstPage);
+    when(productService.getProductsPage(ProductSort.PRICE, 1, 1))
+        .thenReturn(ProductListDto.builder().products(List.of()).build());
+
+    for (int i = 0; i < 2; i++) {
+      mockMvc
+          .perform(get("/api/v1/products").param("sort", "price").param("size", "1"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.products[0].name").value("Galaxy Phone"));
+    }
+    for (int i = 0; i < 2; i++) {
+      mockMvc
+          .perform(
+              get("/api/v1/products").param("sort", "price").param("page", "1").param("size", "1"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.products.length()").value(0));
+    }
+
+    verify(productService, times(1)).getProductsPage(ProductSort.PRICE, 0, 1);
+    verify(productService, times(2)).getProductsPage(ProductSort.PRICE, 1, 1);
+    verify(productService, never()).getAllProducts();
+  }
+
+  @Test
+  @DisplayName("Should serve sorted category pages")
+  void getProductsByCategory_ShouldServeSortedPage_WhenSortGiven() throws Exception {
+    when(productService.getCategoryVersion("Electronics")).thenReturn(1L);
+    when(productService.getProductsByCategoryPage("Electronics", ProductSort.NAME_DESC, 2, 5))
+        .thenReturn(ProductListDto.builder().products(List.of()).build());
+
+    mockMvc
+        .perform(
+            get("/api/v1/products/category/{category}", "Electronics")
+                .param("sort", "-name")
+                .param("page", "2")
+                .param("size", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.products.length()").value(0));
+
+    verify(productService).getProductsByCategoryPage("Electronics", ProductSort.NAME_DESC, 2, 5);
+  }
+
+  @Test
+  @DisplayName("Should reject unknown sort orders, oversized pages and deep pages")
+  void getAllProducts_ShouldReturnBadRequest_WhenSortOrSizeInvalid() throws Exception {
+    mockMvc
+        .perform(get("/api/v1/products").param("sort", "rating"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.title").value("Validation Error"));
+    mockMvc
+        .perform(
+            get("/api/v1/products")
+                .param("sort", "name")
+                .param("size", String.valueOf(ProductController.MAX_PAGE_SIZE + 1)))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(
+            get("/api/v1/products")
+                .param("sort", "name")
+                .param("page", String.valueOf(ProductController.MAX_PAGE + 1)))
+        .andExpect(status().isBadRequest());
+
+    verify(productService, never()).getProductsPage(any(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Should write only the requested fields and cache each field set separately")
+  void getAllProducts_ShouldProjectFields_WhenFieldsGiven() throws Exception {
+    ProductProjection projection = ProductProjection.of("name,price");
+    Product product =
+        Product.builder()
+            .productId(productId)
+            .category("Electronics")
+            .name("Galaxy Phone")
+            .description("Advanced smartphone with cosmic design")
+            .price(999.99f)
+            .build();
+    when(productService.getCatalogVersion()).thenReturn(4L);
+    when(productService.getAllProducts(projection))
+        .thenReturn(projection.project(List.of(product)));
+
+    for (String fields : List.of("name,price", "price,name")) {
+      mockMvc
+          .perform(get("/api/v1/products").param("fields", fields))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.products[0].name").value("Galaxy Phone"))
+          .andExpect(jsonPath("$.products[0].price").value(999.99))
+          .andExpect(jsonPath("$.products[0].productId").doesNotExist())
+          .andExpect(jsonPath("$.products[0].description").doesNotExist());
+    }
+
+    verify(productService, times(1)).getAllProducts(projection);
+    verify(productService, never()).getAllProducts();
+  }
+
+  @Test
+  @DisplayName("Should project a single product")
+  void getProductById_ShouldProjectFields_WhenFieldsGiven() throws Exception {
+    ProductProjection projection = ProductProjection.of("productId");
+    when(productService.findProductVersion(productId)).thenReturn(Optional.of(1L));
+    when(productService.getProductById(productId, projection))
+        .thenReturn(projection.project(Product.builder().productId(productId).build()));
+
+    mockMvc
+        .perform(get("/api/v1/products/{id}", productId).param("fields", "productId"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("{\"productId\":\"" + productId + "\"}", JsonCompareMode.STRICT));
+  }
+
+  @Test
+  @DisplayName("Should reject unknown fields")
+  void getAllProducts_ShouldReturnBadRequest_WhenFieldUnknown() throws Exception {
+    mockMvc
+        .perform(get("/api/v1/products").param("fields", "name,rating"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.title").value("Validation Error"));
+
+    verify(productService, never()).getAllProducts(any(ProductProjection.class));
+  }
+
+  @Test
+  @DisplayName("Should serve CBOR on request and cache it apart from JSON")
+  void getAllProducts_ShouldServeCbor_WhenAccepted() throws Exception {
+    ProductListDto productListDto =
+        ProductListDto.builder()
+            .products(
+                List.of(
+                    ProductDto.builder()
+                        .productId(productId)
+                        .category("Electronics")
+                        .name("Galaxy Phone")
+                        .price(999.99f)
+                        .build()))
+            .build();
+    when(productService.getCatalogVersion()).thenReturn(6L);
+    when(productService.getAllProducts()).thenReturn(productListDto);
+
+    mockMvc
+        .perform(get("/api/v1/products"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(header().string("ETag", eTag("6")));
+    for (int i = 0; i < 2; i++) {
+      mockMvc
+          .perform(get("/api/v1/products").accept(MediaType.APPLICATION_CBOR))
+          .andExpect(status().isOk())
+          .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+          .andExpect(header().string("ETag", eTag("6:cbor")))
+          .andExpect(header().string("Vary", "Accept"))
+          .andExpect(
+              content().bytes(ResponseFormat.CBOR.write(objectMapper, productListDto)));
+    }
+
+    verify(productService, times(2)).getAllProducts();
+  }
+
+  @Test
+  @DisplayName("Should negotiate CBOR for uncached responses too")
+  void searchProducts_ShouldServeCbor_WhenAccepted() throws Exception {
+    ProductListDto matches = ProductListDto.builder().products(List.of()).build();
+    when(productService.searchProducts("quantum", 20)).thenReturn(matches);
+
+    mockMvc
+        .perform(
+            get("/api/v1/products/search")
+                .param("q", "quantum")
+                .accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andExpect(content().bytes(ResponseFormat.CBOR.write(objectMapper, matches)));
+  }
+
+  private static String eTag(String version) {
+    return "\"" + ProductController.ETAG_EPOCH + "-" + version + "\"";
+  }
 }
@@ -0,0 +1,56 @@
+package com.example.cosmocats.controller;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.cosmocats.feed.ProductChangeFeed;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@WebMvcTest(ProductFeedController.class)
+@DisplayName("Product Feed Controller Tests")
+class ProductFeedControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private ProductChangeFeed productChangeFeed;
+
+  @Test
+  @DisplayName("Should open event stream for new subscribers")
+  void streamProductChanges_ShouldStartAsyncStream() throws Exception {
+    when(productChangeFeed.subscribe(null)).thenReturn(new SseEmitter());
+
+    mockMvc
+        .perform(get("/api/v1/products/events").accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(status().isOk())
+        .andExpect(request().asyncStarted());
+
+    verify(productChangeFeed).subscribe(null);
+  }
+
+  @Test
+  @DisplayName("Should resume event stream from last event id")
+  void streamProductChanges_ShouldResumeFromLastEventId() throws Exception {
+    when(productChangeFeed.subscribe(17L)).thenReturn(new SseEmitter());
+
+    mockMvc
+        .perform(
+            get("/api/v1/products/events")
+                .header("Last-Event-ID", "17")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(request().asyncStarted());
+
+    verify(productChangeFeed).subscribe(17L);
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.cosmocats.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("Problem Response Template Tests")
+class ProblemResponseTemplateTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("Should render the same members as a ProblemDetail")
+  void write_ShouldWriteProblemDetailMembers() throws Exception {
+    ProblemResponseTemplate template =
+        ProblemResponseTemplate.of(HttpStatus.NOT_FOUND, "Product Not Found");
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    template.write(response, "Product not found with id: 42", "/api/v1/products/42");
+
+    assertThat(response.getStatus()).isEqualTo(404);
+    assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+    assertThat(body.get("type").asText()).isEqualTo("about:blank");
+    assertThat(body.get("title").asText()).isEqualTo("Product Not Found");
+    assertThat(body.get("status").asInt()).isEqualTo(404);
+    assertThat(body.get("detail").asText()).isEqualTo("Product not found with id: 42");
+    assertThat(body.get("instance").asText()).isEqualTo("/api/v1/products/42");
+    assertThat(body.get("timestamp").asText()).matches("\\d{4}-\\d{2}-\\d{2}T[\\d:.]+");
+  }
+
+  @Test
+  @DisplayName("Should escape user supplied text in the detail")
+  void render_ShouldEscapeDetail() throws Exception {
+    ProblemResponseTemplate template =
+        ProblemResponseTemplate.of(HttpStatus.CONFLICT, "Product Already Exists");
+    String detail = "Product already exists with name: \"Star\\Phone\"\né";
+
+    JsonNode body = objectMapper.readTree(template.render(detail, "/api/v1/admin/products"));
+
+    assertThat(body.get("detail").asText()).isEqualTo(detail);
+  }
+
+  @Test
+  @DisplayName("Should not capture stack traces for domain exceptions")
+  void domainExceptions_ShouldBeStackless() {
+    assertThat(new ProductNotFoundException(UUID.randomUUID()).getStackTrace()).isEmpty();
+    assertThat(new ProductAlreadyExistsException("Galaxy Phone").getStackTrace()).isEmpty();
+    assertThat(new RecordingNotFoundException().getStackTrace()).isEmpty();
+  }
+}
@@ -0,0 +1,199 @@
+package com.example.cosmocats.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.domain.event.ProductChangeType;
+import com.example.cosmocats.domain.event.ProductChangedEvent;
+import com.example.cosmocats.dto.product.ProductChangeEventDto;
+import com.example.cosmocats.service.mapper.ProductMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+@DisplayName("Product Change Feed Tests")
+class ProductChangeFeedTest {
+
+  private final UUID productId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+  private ProductChangeFeed productChangeFeed;
+
+  @BeforeEach
+  void setUp() {
+    productChangeFeed = new ProductChangeFeed(Mappers.getMapper(ProductMapper.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    productChangeFeed.shutdown();
+  }
+
+  @Test
+  @DisplayName("Should stream changes to subscribers in order")
+  void onProductChanged_ShouldStreamChangesInOrder() {
+    RecordingSink sink = new RecordingSink();
+    productChangeFeed.subscribe(sink, null);
+
+    publish(ProductChangeType.CREATED);
+    publish(ProductChangeType.UPDATED);
+    publish(ProductChangeType.DELETED);
+
+    await().until(() -> sink.events.size() == 3);
+    assertThat(sink.events)
+        .extracting(ProductChangeEventDto::getType)
+        .containsExactly(
+            ProductChangeType.CREATED, ProductChangeType.UPDATED, ProductChangeType.DELETED);
+    assertThat(sink.events).extracting(ProductChangeEventDto::getEventId).containsExactly(1L, 2L, 3L);
+    assertThat(sink.events.get(0).getProduct().getName()).isEqualTo("Galaxy Phone");
+    assertThat(sink.events.get(2).getProduct()).isNull();
+  }
+
+  @Test
+  @DisplayName("Should replay missed changes after last event id")
+  void subscribe_ShouldReplayMissedChanges_WhenResuming() {
+    publish(ProductChangeType.CREATED);
+    publish(ProductChangeType.UPDATED);
+    publish(ProductChangeType.DELETED);
+
+    RecordingSink sink = new RecordingSink();
+    productChangeFeed.subscribe(sink, 1L);
+    publish(ProductChangeType.CREATED);
+
+    await().until(() -> sink.events.size() == 3);
+    assertThat(sink.events).extracting(ProductChangeEventDto::getEventId).containsExactly(2L, 3L, 4L);
+  }
+
+  @Test
+  @DisplayName("Should request resync when last event id is no longer retained")
+  void subscribe_ShouldRequestResync_WhenLastEventIdTooOld() {
+    for (int i = 0; i < ProductChangeFeed.REPLAY_BUFFER_SIZE + 10; i++) {
+      publish(ProductChangeType.UPDATED);
+    }
+
+    RecordingSink sink = new RecordingSink();
+    productChangeFeed.subscribe(sink, 5L);
+
+    await().until(() -> sink.events.size() == 1);
+    assertThat(sink.events.get(0).getType()).isEqualTo(ProductChangeType.RESYNC);
+    assertThat(sink.events.get(0).getEventId()).isEqualTo(productChangeFeed.getLastEventId());
+  }
+
+  @Test
+  @DisplayName("Should request resync when last event id is from the future")
+  void subscribe_ShouldRequestResync_WhenLastEventIdUnknown() {
+    publish(ProductChangeType.CREATED);
+
+    RecordingSink sink = new RecordingSink();
+    productChangeFeed.subscribe(sink, 42L);
+
+    await().until(() -> sink.events.size() == 1);
+    assertThat(sink.events.get(0).getType()).isEqualTo(ProductChangeType.RESYNC);
+  }
+
+  @Test
+  @DisplayName("Should drop backlog and resync slow subscribers")
+  void onProductChanged_ShouldDropAndResync_WhenSubscriberFallsBehind() {
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingSink sink = new RecordingSink(release);
+    ProductChangeSubscriber subscriber = productChangeFeed.subscribe(sink, null);
+
+    int published = ProductChangeFeed.SUBSCRIBER_BUFFER_SIZE * 3;
+    for (int i = 0; i < published; i++) {
+      publish(ProductChangeType.UPDATED);
+    }
+    assertThat(subscriber.bufferedEvents()).isLessThanOrEqualTo(ProductChangeFeed.SUBSCRIBER_BUFFER_SIZE);
+
+    release.countDown();
+    await().until(() -> subscriber.bufferedEvents() == 0);
+    assertThat(sink.events)
+        .extracting(ProductChangeEventDto::getType)
+        .contains(ProductChangeType.RESYNC);
+    assertThat(sink.events.get(sink.events.size() - 1).getEventId()).isEqualTo(published);
+  }
+
+  @Test
+  @DisplayName("Should keep memory bounded with thousands of stalled subscribers")
+  void onProductChanged_ShouldBoundBuffers_WithThousandsOfSubscribers() {
+    CountDownLatch release = new CountDownLatch(1);
+    List<ProductChangeSubscriber> subscribers = new ArrayList<>();
+    for (int i = 0; i < 5_000; i++) {
+      subscribers.add(productChangeFeed.subscribe(new RecordingSink(release), null));
+    }
+
+    for (int i = 0; i < ProductChangeFeed.SUBSCRIBER_BUFFER_SIZE * 4; i++) {
+      publish(ProductChangeType.UPDATED);
+    }
+
+    assertThat(productChangeFeed.getSubscriberCount()).isEqualTo(5_000);
+    assertThat(subscribers)
+        .allSatisfy(
+            subscriber ->
+                assertThat(subscriber.bufferedEvents())
+                    .isLessThanOrEqualTo(ProductChangeFeed.SUBSCRIBER_BUFFER_SIZE));
+    release.countDown();
+  }
+
+  @Test
+  @DisplayName("Should remove subscribers whose connection failed")
+  void onProductChanged_ShouldRemoveSubscriber_WhenSendFails() {
+    ProductChangeSubscriber subscriber =
+        productChangeFeed.subscribe(
+            event -> {
+              throw new IOException("Broken pipe");
+            },
+            null);
+
+    publish(ProductChangeType.CREATED);
+
+    await().until(subscriber::isClosed);
+    assertThat(productChangeFeed.getSubscriberCount()).isZero();
+  }
+
+  private void publish(ProductChangeType type) {
+    Product product =
+        type == ProductChangeType.DELETED
+            ? null
+            : Product.builder()
+                .productId(productId)
+                .category("Electronics")
+                .name("Galaxy Phone")
+                .price(999.99f)
+                .build();
+    productChangeFeed.onProductChanged(
+        ProductChangedEvent.builder().type(type).productId(productId).product(product).build());
+  }
+
+  private static class RecordingSink implements ProductChangeSink {
+
+    private final List<ProductChangeEventDto> events = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release;
+
+    RecordingSink() {
+      this(new CountDownLatch(0));
+    }
+
+    RecordingSink(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public void send(ProductChangeEventDto event) throws IOException {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+      events.add(event);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.cosmocats.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HexFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CBOR Decoder Tests")
+class CborDecoderTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("Should read definite-length containers written by other encoders")
+  void decode_ShouldReadDefiniteLengthItems() throws Exception {
+    JsonNode node = decode("a26161016162820203");
+
+    assertThat(node.toString()).isEqualTo("{\"a\":1,\"b\":[2,3]}");
+  }
+
+  @Test
+  @DisplayName("Should read chunked strings, special floats, bignums and decimal fractions")
+  void decode_ShouldReadRfcVectors() throws Exception {
+    assertThat(decode("7f657374726561646d696e67ff").asText()).isEqualTo("streaming");
+    assertThat(decode("f97c00").doubleValue()).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(decode("fb3ff199999999999a").doubleValue()).isEqualTo(1.1);
+    assertThat(decode("1bffffffffffffffff").bigIntegerValue())
+        .isEqualTo(new BigInteger("18446744073709551615"));
+    assertThat(decode("3bffffffffffffffff").bigIntegerValue())
+        .isEqualTo(new BigInteger("-18446744073709551616"));
+    assertThat(decode("c249010000000000000000").bigIntegerValue())
+        .isEqualTo(new BigInteger("18446744073709551616"));
+    assertThat(decode("c48221196ab3").decimalValue()).isEqualTo(new BigDecimal("273.15"));
+    assertThat(decode("c074323031332d30332d32315432303a30343a30305a").asText())
+        .isEqualTo("2013-03-21T20:04:00Z");
+    assertThat(decode("f7").isNull()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should reject truncated, trailing and non-text-keyed input")
+  void decode_ShouldRejectMalformedInput() {
+    assertThatThrownBy(() -> decode("")).isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> decode("bf6161")).isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> decode("0000")).hasMessageContaining("Unexpected data");
+    assertThatThrownBy(() -> decode("a10102")).hasMessageContaining("not a text string");
+    assertThatThrownBy(() -> decode("ff")).hasMessageContaining("simple value");
+  }
+
+  @Test
+  @DisplayName("Should reject lengths beyond the input before allocating")
+  void decode_ShouldRejectOversizedLengths() {
+    assertThatThrownBy(() -> decode("5bffffffffffffff00"))
+        .hasMessageContaining("exceeds the remaining input");
+    assertThatThrownBy(() -> decode("9a7fffffff")).hasMessageContaining("exceeds the remaining input");
+  }
+
+  @Test
+  @DisplayName("Should cap nesting depth")
+  void decode_ShouldRejectDeepNesting() {
+    String nested = "81".repeat(CborDecoder.MAX_DEPTH + 1) + "00";
+
+    assertThatThrownBy(() -> decode(nested)).hasMessageContaining("nesting");
+    assertThatThrownBy(() -> decode("c6".repeat(CborDecoder.MAX_DEPTH + 1) + "00"))
+        .hasMessageContaining("nesting");
+  }
+
+  private JsonNode decode(String hex) throws IOException {
+    TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+    CborDecoder.decode(HexFormat.of().parseHex(hex), tokens);
+    return objectMapper.readTree(tokens.asParser(objectMapper));
+  }
+}
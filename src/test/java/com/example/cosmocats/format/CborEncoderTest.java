@@ -0,0 +1,85 @@
+package com.example.cosmocats.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.cosmocats.dto.product.ProductDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CBOR Encoder Tests")
+class CborEncoderTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("Should write integers in their shortest form")
+  void encode_ShouldMatchRfcIntegerVectors() throws Exception {
+    assertThat(hex(0)).isEqualTo("00");
+    assertThat(hex(23)).isEqualTo("17");
+    assertThat(hex(24)).isEqualTo("1818");
+    assertThat(hex(1000)).isEqualTo("1903e8");
+    assertThat(hex(1000000)).isEqualTo("1a000f4240");
+    assertThat(hex(1000000000000L)).isEqualTo("1b000000e8d4a51000");
+    assertThat(hex(new BigInteger("18446744073709551615"))).isEqualTo("1bffffffffffffffff");
+    assertThat(hex(new BigInteger("18446744073709551616"))).isEqualTo("c249010000000000000000");
+    assertThat(hex(-1)).isEqualTo("20");
+    assertThat(hex(-1000)).isEqualTo("3903e7");
+    assertThat(hex(new BigInteger("-18446744073709551617"))).isEqualTo("c349010000000000000000");
+  }
+
+  @Test
+  @DisplayName("Should write floats at the narrowest precision that keeps their value")
+  void encode_ShouldMatchRfcFloatVectors() throws Exception {
+    assertThat(hex(1.5f)).isEqualTo("f93e00");
+    assertThat(hex(100000.0)).isEqualTo("fa47c35000");
+    assertThat(hex(3.4028234663852886e+38)).isEqualTo("fa7f7fffff");
+    assertThat(hex(1.1)).isEqualTo("fb3ff199999999999a");
+    assertThat(hex(Double.NaN)).isEqualTo("f97e00");
+    assertThat(hex(new BigDecimal("273.15"))).isEqualTo("c48221196ab3");
+  }
+
+  @Test
+  @DisplayName("Should write strings, containers and simple values")
+  void encode_ShouldMatchRfcStructureVectors() throws Exception {
+    assertThat(hex("")).isEqualTo("60");
+    assertThat(hex("ü")).isEqualTo("62c3bc");
+    assertThat(hex(List.of())).isEqualTo("9fff");
+    assertThat(hex(Map.of("a", 1))).isEqualTo("bf616101ff");
+    assertThat(hex(new byte[] {1, 2})).isEqualTo("420102");
+    assertThat(hex(true)).isEqualTo("f5");
+    assertThat(hex(null)).isEqualTo("f6");
+  }
+
+  @Test
+  @DisplayName("Should round-trip a product with the JSON property names")
+  void encode_ShouldRoundTripProductDto() throws Exception {
+    ProductDto product =
+        ProductDto.builder()
+            .productId(UUID.fromString("550e8400-e29b-41d4-a716-446655440001"))
+            .category("Electronics")
+            .name("Galaxy Phone")
+            .price(999.99f)
+            .build();
+
+    byte[] cbor = ResponseFormat.CBOR.write(objectMapper, product);
+    TokenBuffer tokens = new TokenBuffer(objectMapper, false);
+    CborDecoder.decode(cbor, tokens);
+    JsonNode decoded = objectMapper.readTree(tokens.asParser(objectMapper));
+
+    assertThat(decoded).isEqualTo(objectMapper.valueToTree(product));
+    assertThat(cbor.length).isLessThan(objectMapper.writeValueAsBytes(product).length);
+  }
+
+  private String hex(Object value) throws Exception {
+    return HexFormat.of().formatHex(ResponseFormat.CBOR.write(objectMapper, value));
+  }
+}
@@ -0,0 +1,70 @@
+package com.example.cosmocats.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.cosmocats.dto.product.ProductDto;
+import com.example.cosmocats.dto.product.ProductListDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Response Format Tests")
+class ResponseFormatTest {
+
+  @Test
+  @DisplayName("Should pick CBOR only when the client asks for it")
+  void negotiate_ShouldPreferRequestedFormat() {
+    assertThat(ResponseFormat.negotiate("application/cbor")).isEqualTo(ResponseFormat.CBOR);
+    assertThat(ResponseFormat.negotiate("application/json;q=0.5, application/cbor"))
+        .isEqualTo(ResponseFormat.CBOR);
+    assertThat(ResponseFormat.negotiate("application/cbor;q=0.5, application/json"))
+        .isEqualTo(ResponseFormat.JSON);
+    assertThat(ResponseFormat.negotiate("application/*;q=0.1, application/cbor"))
+        .isEqualTo(ResponseFormat.CBOR);
+  }
+
+  @Test
+  @DisplayName("Should fall back to JSON for wildcards, missing and unusable headers")
+  void negotiate_ShouldFallBackToJson() {
+    assertThat(ResponseFormat.negotiate(null)).isEqualTo(ResponseFormat.JSON);
+    assertThat(ResponseFormat.negotiate("*/*")).isEqualTo(ResponseFormat.JSON);
+    assertThat(ResponseFormat.negotiate("text/html")).isEqualTo(ResponseFormat.JSON);
+    assertThat(ResponseFormat.negotiate("application/cbor;q=0")).isEqualTo(ResponseFormat.JSON);
+    assertThat(ResponseFormat.negotiate("not a media type")).isEqualTo(ResponseFormat.JSON);
+  }
+
+  @Test
+  @DisplayName("Should keep JSON keys unchanged and suffix other formats")
+  void key_ShouldSeparateFormats() {
+    assertThat(ResponseFormat.JSON.key("products")).isEqualTo("products");
+    assertThat(ResponseFormat.CBOR.key("products")).isEqualTo("products:cbor");
+  }
+
+  @Test
+  @DisplayName("Should write a product list as a smaller CBOR payload than JSON")
+  void write_ShouldShrinkPayload_WhenCbor() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    ProductListDto products =
+        ProductListDto.builder()
+            .products(
+                IntStream.range(0, 100)
+                    .mapToObj(
+                        i ->
+                            ProductDto.builder()
+                                .productId(UUID.randomUUID())
+                                .category("Electronics")
+                                .name("Galaxy Phone " + i)
+                                .description("Advanced smartphone with cosmic design")
+                                .price(10f + i * 0.25f)
+                                .build())
+                    .toList())
+            .build();
+
+    int json = ResponseFormat.JSON.write(objectMapper, products).length;
+    int cbor = ResponseFormat.CBOR.write(objectMapper, products).length;
+
+    assertThat(cbor).isLessThan(json);
+  }
+}
@@ -0,0 +1,39 @@
+package com.example.cosmocats.format.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.cosmocats.exception.RequestBodyTooLargeException;
+import com.example.cosmocats.format.ResponseFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+@DisplayName("CBOR HTTP Message Converter Tests")
+class CborHttpMessageConverterTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final CborHttpMessageConverter converter = new CborHttpMessageConverter(objectMapper);
+
+  @Test
+  @DisplayName("Should read a CBOR body into the requested type")
+  void read_ShouldDecodeBody() throws Exception {
+    MockHttpInputMessage message =
+        new MockHttpInputMessage(ResponseFormat.CBOR.write(objectMapper, Map.of("name", "Nova")));
+
+    assertThat(converter.read(Map.class, null, message)).isEqualTo(Map.of("name", "Nova"));
+  }
+
+  @Test
+  @DisplayName("Should refuse a body over the cap even without a Content-Length")
+  void read_ShouldRejectOversizedBody_WhenLengthUnknown() {
+    MockHttpInputMessage message =
+        new MockHttpInputMessage(new byte[CborHttpMessageConverter.MAX_BODY_BYTES + 1]);
+
+    assertThat(message.getHeaders().getContentLength()).isEqualTo(-1);
+    assertThatThrownBy(() -> converter.read(Map.class, null, message))
+        .isInstanceOf(RequestBodyTooLargeException.class);
+  }
+}
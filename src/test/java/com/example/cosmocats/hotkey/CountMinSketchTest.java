@@ -0,0 +1,62 @@
+package com.example.cosmocats.hotkey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Count-Min Sketch Tests")
+class CountMinSketchTest {
+
+  @Test
+  @DisplayName("Should never estimate below the true count")
+  void estimate_ShouldNotUndercount() {
+    CountMinSketch sketch = new CountMinSketch(4, 256);
+    long[] counts = new long[5_000];
+    SplittableRandom random = new SplittableRandom(7);
+
+    for (int i = 0; i < 100_000; i++) {
+      int key = random.nextInt(counts.length);
+      counts[key]++;
+      sketch.add(mix(key));
+    }
+
+    long errorBound = (long) Math.ceil(100_000 * Math.E / 256);
+    int withinBound = 0;
+    for (int key = 0; key < counts.length; key++) {
+      long estimate = sketch.estimate(mix(key));
+      assertThat(estimate).isGreaterThanOrEqualTo(counts[key]);
+      if (estimate - counts[key] <= errorBound) {
+        withinBound++;
+      }
+    }
+    assertThat(withinBound).isGreaterThan(counts.length * 95 / 100);
+  }
+
+  @Test
+  @DisplayName("Should halve every counter on decay")
+  void decay_ShouldHalveCounts() {
+    CountMinSketch sketch = new CountMinSketch(2, 64);
+    for (int i = 0; i < 10; i++) {
+      sketch.add(mix(1));
+    }
+
+    sketch.decay();
+
+    assertThat(sketch.estimate(mix(1))).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("Should reject widths that are not a power of two")
+  void constructor_ShouldRejectInvalidWidth() {
+    assertThatThrownBy(() -> new CountMinSketch(4, 1000))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static long mix(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return h ^ (h >>> 29);
+  }
+}
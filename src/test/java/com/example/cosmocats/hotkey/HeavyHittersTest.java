@@ -0,0 +1,95 @@
+package com.example.cosmocats.hotkey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Heavy Hitters Tests")
+class HeavyHittersTest {
+
+  private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  @DisplayName("Should report the heaviest keys of a skewed stream in fixed slots")
+  void top_ShouldFindHeavyKeys_WhenStreamIsSkewed() {
+    HeavyHitters<String> heavyHitters = new HeavyHitters<>(16, 4, 1024, WINDOW_NANOS, clock::get);
+    SplittableRandom random = new SplittableRandom(11);
+
+    for (int i = 0; i < 50_000; i++) {
+      int roll = random.nextInt(100);
+      if (roll < 20) {
+        heavyHitters.record("launch");
+      } else if (roll < 30) {
+        heavyHitters.record("bestseller");
+      } else if (roll < 35) {
+        heavyHitters.record("deal");
+      } else {
+        heavyHitters.record("long-tail-" + random.nextInt(20_000));
+      }
+    }
+
+    List<HotKey<String>> top = heavyHitters.top(3);
+    assertThat(top).extracting(HotKey::key).containsExactly("launch", "bestseller", "deal");
+    assertThat(top.get(0).count())
+        .isBetween(10_000L - 500, 10_000L + 500 + heavyHitters.getErrorBound());
+    assertThat(heavyHitters.getTotal()).isEqualTo(50_000);
+  }
+
+  @Test
+  @DisplayName("Should let a newly hot key displace keys from earlier windows")
+  void top_ShouldFollowRecentTraffic_WhenWindowsPass() {
+    HeavyHitters<String> heavyHitters = new HeavyHitters<>(4, 4, 1024, WINDOW_NANOS, clock::get);
+    record(heavyHitters, "yesterday", 1_000);
+
+    for (int window = 0; window < 6; window++) {
+      clock.addAndGet(WINDOW_NANOS);
+      record(heavyHitters, "today", 200);
+    }
+
+    List<HotKey<String>> top = heavyHitters.top(2);
+    assertThat(top.get(0).key()).isEqualTo("today");
+    assertThat(top.get(0).count()).isGreaterThan(top.get(1).count() * 10);
+  }
+
+  @Test
+  @DisplayName("Should forget keys whose count decays to zero")
+  void top_ShouldDropKeys_WhenCountDecaysAway() {
+    HeavyHitters<String> heavyHitters = new HeavyHitters<>(4, 4, 1024, WINDOW_NANOS, clock::get);
+    record(heavyHitters, "fad", 3);
+
+    clock.addAndGet(WINDOW_NANOS);
+    record(heavyHitters, "steady", 1);
+    clock.addAndGet(WINDOW_NANOS);
+    record(heavyHitters, "steady", 1);
+
+    assertThat(heavyHitters.top(10)).extracting(HotKey::key).containsExactly("steady");
+  }
+
+  @Test
+  @DisplayName("Should count every update from concurrent writers")
+  void record_ShouldNotLoseUpdates_WhenWritersRace() throws Exception {
+    HeavyHitters<String> heavyHitters = new HeavyHitters<>(8, 4, 1024, WINDOW_NANOS, clock::get);
+    try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+      for (int thread = 0; thread < 4; thread++) {
+        executor.submit(() -> record(heavyHitters, "contended", 10_000));
+      }
+    }
+
+    assertThat(heavyHitters.top(1)).containsExactly(new HotKey<>("contended", 40_000));
+  }
+
+  private static void record(HeavyHitters<String> heavyHitters, String key, int times) {
+    for (int i = 0; i < times; i++) {
+      heavyHitters.record(key);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.example.cosmocats.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.cosmocats.featuretoggle.FeatureToggleService;
+import com.example.cosmocats.featuretoggle.config.FeatureToggleProperties;
+import com.example.cosmocats.repository.ProductRepository;
+import com.example.cosmocats.validation.CosmicWordValidator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Cosmocats JFR Events Tests")
+class CosmocatsJfrEventsTest {
+
+  private final UUID productId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+  @TempDir
+  private Path tempDir;
+
+  private Recording recording;
+
+  @BeforeEach
+  void setUp() {
+    recording = new Recording();
+    recording.enable(RepositoryOperationEvent.class).withThreshold(Duration.ZERO);
+    recording.enable(CosmicWordValidationEvent.class).withThreshold(Duration.ZERO);
+    recording.enable(FeatureToggleCheckEvent.class).withThreshold(Duration.ZERO);
+    recording.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    recording.close();
+  }
+
+  @Test
+  @DisplayName("Should record repository reads with the product id")
+  void findById_ShouldEmitRepositoryEvent() throws IOException {
+    new ProductRepository().findById(productId);
+
+    RecordedEvent event = singleEvent("com.example.cosmocats.RepositoryOperation");
+    assertThat(event.getString("operation")).isEqualTo("findById");
+    assertThat(event.getString("productId")).isEqualTo(productId.toString());
+    assertThat(event.getInt("productCount")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should record cosmic word validation outcome")
+  void isValid_ShouldEmitValidationEvent() throws IOException {
+    new CosmicWordValidator().isValid("Galaxy Phone", null);
+
+    RecordedEvent event = singleEvent("com.example.cosmocats.CosmicWordValidation");
+    assertThat(event.getInt("valueLength")).isEqualTo(12);
+    assertThat(event.getLong("cosmicWords")).isEqualTo(1);
+    assertThat(event.getBoolean("valid")).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should record feature toggle checks")
+  void check_ShouldEmitToggleEvent() throws IOException {
+    FeatureToggleProperties properties = new FeatureToggleProperties();
+    properties.setToggles(Map.of("cosmoCats", true));
+
+    new FeatureToggleService(properties).check("cosmoCats");
+
+    RecordedEvent event = singleEvent("com.example.cosmocats.FeatureToggleCheck");
+    assertThat(event.getString("feature")).isEqualTo("cosmoCats");
+    assertThat(event.getBoolean("enabled")).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should skip events faster than the default threshold")
+  void findById_ShouldNotEmit_WhenBelowDefaultThreshold() throws IOException {
+    recording.close();
+    recording = new Recording();
+    recording.enable(RepositoryOperationEvent.class);
+    recording.start();
+
+    new ProductRepository().findById(productId);
+
+    assertThat(events("com.example.cosmocats.RepositoryOperation")).isEmpty();
+  }
+
+  private RecordedEvent singleEvent(String name) throws IOException {
+    List<RecordedEvent> events = events(name);
+    assertThat(events).hasSize(1);
+    return events.get(0);
+  }
+
+  private List<RecordedEvent> events(String name) throws IOException {
+    recording.stop();
+    Path file = Files.createTempFile(tempDir, "events", ".jfr");
+    recording.dump(file);
+    return RecordingFile.readAllEvents(file).stream()
+        .filter(event -> event.getEventType().getName().equals(name))
+        .toList();
+  }
+}
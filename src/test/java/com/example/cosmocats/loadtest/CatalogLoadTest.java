@@ -0,0 +1,63 @@
+package com.example.cosmocats.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@Slf4j
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "logging.level.com.example.cosmocats=WARN",
+      "application.catalog.synthetic.size=${loadtest.catalogSize:0}",
+      "application.concurrency-limit.enabled=${loadtest.concurrencyLimit:false}",
+      "application.concurrency-limit.target-latency=${loadtest.concurrencyTargetLatency:5ms}"
+    })
+@DisplayName("Catalog Load Test")
+@Tag("load-test")
+class CatalogLoadTest {
+
+  private static final String SCENARIO = "catalog";
+
+  @LocalServerPort
+  private int port;
+
+  @Test
+  @DisplayName("Should keep p99 latency within baseline and throughput at the offered rate")
+  void catalogWorkload_ShouldStayWithinBaseline() throws Exception {
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties(SCENARIO);
+    LoadTestResult result;
+    try (OpenModelLoadGenerator generator =
+        new OpenModelLoadGenerator(URI.create("http://localhost:" + port), settings)) {
+      generator.run(settings.getWarmup());
+      result = generator.run(settings.getDuration());
+    }
+
+    log.warn(
+        "Load test '{}' at {} req/s for {}\n{}",
+        SCENARIO,
+        settings.getRequestsPerSecond(),
+        settings.getDuration(),
+        result.summary());
+    result.writeReport(settings.getReportDirectory(), SCENARIO);
+
+    LoadTestBaseline baseline = LoadTestBaseline.load(settings.getBaselineFile());
+    if (settings.isUpdateBaseline()) {
+      baseline.update(SCENARIO, result);
+      return;
+    }
+    List<String> regressions =
+        new ArrayList<>(baseline.findRegressions(SCENARIO, result, settings.getTolerance()));
+    regressions.addAll(
+        result.findShortfalls(SCENARIO, settings.getTolerance(), settings.getMaxDropRatio()));
+    assertThat(regressions).as("Regressions against %s", settings.getBaselineFile()).isEmpty();
+  }
+}
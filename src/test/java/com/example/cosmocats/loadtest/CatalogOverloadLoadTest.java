@@ -0,0 +1,85 @@
+package com.example.cosmocats.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+// Offers the catalog workload at twice loadtest.capacity with the concurrency limiter on. Shed
+// requests come back as 503 and count as errors; what is gated is that the requests the server
+// does answer stay within loadtest.overloadP99Factor of the limiter's target latency, instead of
+// queueing behind the overload.
+@Slf4j
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "logging.level.com.example.cosmocats=WARN",
+      "application.catalog.synthetic.size=${loadtest.catalogSize:0}",
+      "application.concurrency-limit.enabled=true",
+      "application.concurrency-limit.target-latency=${loadtest.concurrencyTargetLatency:5ms}"
+    })
+@DisplayName("Catalog Overload Load Test")
+@Tag("load-test")
+class CatalogOverloadLoadTest {
+
+  private static final String SCENARIO = "catalog-overload";
+
+  @LocalServerPort
+  private int port;
+
+  @Value("${application.concurrency-limit.target-latency}")
+  private Duration targetLatency;
+
+  @Test
+  @DisplayName("Should keep p99 latency near the limiter target at twice capacity")
+  void overloadedWorkload_ShouldStayNearTargetLatency() throws Exception {
+    LoadTestSettings capacity = LoadTestSettings.fromSystemProperties(SCENARIO);
+    LoadTestSettings settings =
+        capacity.toBuilder().requestsPerSecond(2 * capacity.getCapacity()).build();
+    LoadTestResult result;
+    try (OpenModelLoadGenerator generator =
+        new OpenModelLoadGenerator(URI.create("http://localhost:" + port), settings)) {
+      generator.run(settings.getWarmup());
+      result = generator.run(settings.getDuration());
+    }
+
+    log.warn(
+        "Load test '{}' at {} req/s for {}\n{}",
+        SCENARIO,
+        settings.getRequestsPerSecond(),
+        settings.getDuration(),
+        result.summary());
+    result.writeReport(settings.getReportDirectory(), SCENARIO);
+
+    double allowedMillis = targetLatency.toNanos() / 1e6 * settings.getOverloadP99Factor();
+    List<String> violations = new ArrayList<>();
+    long shed = 0;
+    for (Endpoint endpoint : result.endpoints()) {
+      shed += result.errors(endpoint);
+      if (result.p99Millis(endpoint) > allowedMillis) {
+        violations.add(
+            String.format(
+                Locale.ROOT,
+                "%s.%s p99 %.2f ms exceeds %.2f ms",
+                SCENARIO,
+                endpoint.getKey(),
+                result.p99Millis(endpoint),
+                allowedMillis));
+      }
+    }
+    assertThat(shed)
+        .as("Shed at %d req/s, raise loadtest.capacity if none", settings.getRequestsPerSecond())
+        .isPositive();
+    assertThat(violations).as("Latency under overload").isEmpty();
+  }
+}
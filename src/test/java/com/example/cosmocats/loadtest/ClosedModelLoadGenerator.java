@@ -0,0 +1,129 @@
+package com.example.cosmocats.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// Closed workload model: a fixed population of clients, each sending a request, waiting for the
+// response, thinking and repeating. Every client keeps its own keep-alive connection, so this
+// measures how the server copes with many simultaneous connections rather than with an arrival
+// rate. Latency is measured from the moment a client sends, so it includes any time the request
+// queued for a server thread but not time the client was held back by a slow previous response.
+public class ClosedModelLoadGenerator implements AutoCloseable {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+  private final URI baseUri;
+  private final LoadTestSettings settings;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final HttpClient httpClient;
+  private final AtomicLong sequence = new AtomicLong();
+  private final Endpoint[] weightedEndpoints;
+
+  public ClosedModelLoadGenerator(URI baseUri, LoadTestSettings settings) {
+    this.baseUri = baseUri;
+    this.settings = settings;
+    this.httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .executor(executor)
+            .build();
+    this.weightedEndpoints =
+        settings.getMix().entrySet().stream()
+            .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+            .toArray(Endpoint[]::new);
+  }
+
+  // Clients are started evenly over the ramp-up so connection setup does not overflow the
+  // listen backlog; only requests sent after the ramp-up are recorded.
+  public LoadTestResult run(Duration rampUp, Duration duration) throws InterruptedException {
+    Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+    settings
+        .getMix()
+        .keySet()
+        .forEach(
+            endpoint -> {
+              histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+              errors.put(endpoint, new AtomicLong());
+            });
+
+    int connections = settings.getConnections();
+    long start = System.nanoTime();
+    long measureFrom = start + rampUp.toNanos();
+    long measureUntil = measureFrom + duration.toNanos();
+    long startIntervalNanos = rampUp.toNanos() / connections;
+    Thread[] clients = new Thread[connections];
+    for (int i = 0; i < connections; i++) {
+      long delay = start + i * startIntervalNanos - System.nanoTime();
+      if (delay > 0) {
+        LockSupport.parkNanos(delay);
+      }
+      SplittableRandom random = new SplittableRandom(i);
+      clients[i] =
+          Thread.ofVirtual()
+              .start(() -> runClient(random, measureFrom, measureUntil, histograms, errors));
+    }
+    for (Thread client : clients) {
+      client.join();
+    }
+    return new LoadTestResult(histograms, errors, Map.of(), Map.of(), duration);
+  }
+
+  @Override
+  public void close() {
+    httpClient.close();
+    executor.shutdownNow();
+  }
+
+  private void runClient(
+      SplittableRandom random,
+      long measureFrom,
+      long measureUntil,
+      Map<Endpoint, Histogram> histograms,
+      Map<Endpoint, AtomicLong> errors) {
+    long thinkNanos = settings.getThinkTime().toNanos();
+    long sent;
+    while ((sent = System.nanoTime()) < measureUntil) {
+      Endpoint endpoint = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+      boolean failed;
+      try {
+        HttpResponse<Void> response =
+            httpClient.send(
+                endpoint.request(baseUri, sequence.incrementAndGet()),
+                HttpResponse.BodyHandlers.discarding());
+        failed = endpoint.isError(response.statusCode());
+      } catch (IOException e) {
+        failed = true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (sent >= measureFrom) {
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent);
+        histograms.get(endpoint).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+        if (failed) {
+          errors.get(endpoint).incrementAndGet();
+        }
+      }
+      if (thinkNanos > 0) {
+        // Randomized so clients started together do not stay in lockstep.
+        LockSupport.parkNanos(thinkNanos / 2 + random.nextLong(thinkNanos));
+      }
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.example.cosmocats.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.Filter;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+
+// Holds loadtest.connections clients open against the server at once, on platform threads or, with
+// -Ploadtest.virtualThreads=true, on virtual threads. -Ploadtest.blockingMillis adds a blocking
+// sleep to every API request, standing in for the inventory and persistence calls that would make
+// a request thread wait on I/O. Results are reported per thread mode as separate scenarios.
+@Slf4j
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "logging.level.com.example.cosmocats=WARN",
+      "application.catalog.synthetic.size=${loadtest.catalogSize:0}",
+      "spring.threads.virtual.enabled=${loadtest.virtualThreads:false}",
+      "server.tomcat.max-connections=${loadtest.maxConnections:20000}",
+      "server.tomcat.accept-count=${loadtest.acceptCount:1000}",
+      "server.tomcat.keep-alive-timeout=${loadtest.keepAliveTimeout:60s}",
+      "server.tomcat.max-keep-alive-requests=-1"
+    })
+@DisplayName("Connections Load Test")
+@Tag("load-test")
+class ConnectionsLoadTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Value("${spring.threads.virtual.enabled}")
+  private boolean virtualThreads;
+
+  @Test
+  @DisplayName("Should keep p99 latency and throughput within baseline with many open connections")
+  void connectionsWorkload_ShouldStayWithinBaseline() throws Exception {
+    String scenario = "connections-" + (virtualThreads ? "virtual" : "platform");
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties(scenario);
+    LoadTestResult result;
+    try (ClosedModelLoadGenerator generator =
+        new ClosedModelLoadGenerator(URI.create("http://localhost:" + port), settings)) {
+      result = generator.run(settings.getWarmup(), settings.getDuration());
+    }
+
+    log.warn(
+        "Load test '{}' with {} connections, {} think time and {} blocking for {}\n{}",
+        scenario,
+        settings.getConnections(),
+        settings.getThinkTime(),
+        settings.getBlockingLatency(),
+        settings.getDuration(),
+        result.summary());
+    result.writeReport(settings.getReportDirectory(), scenario);
+
+    LoadTestBaseline baseline = LoadTestBaseline.load(settings.getBaselineFile());
+    if (settings.isUpdateBaseline()) {
+      baseline.update(scenario, result);
+      return;
+    }
+    List<String> regressions = baseline.findRegressions(scenario, result, settings.getTolerance());
+    assertThat(regressions).as("Regressions against %s", settings.getBaselineFile()).isEmpty();
+  }
+
+  @TestConfiguration
+  static class BlockingCallConfiguration {
+
+    @Bean
+    FilterRegistrationBean<Filter> simulatedBlockingCall() {
+      Duration latency = LoadTestSettings.fromSystemProperties("connections").getBlockingLatency();
+      FilterRegistrationBean<Filter> registration =
+          new FilterRegistrationBean<>(
+              (request, response, chain) -> {
+                if (latency.isPositive()) {
+                  try {
+                    Thread.sleep(latency);
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                }
+                chain.doFilter(request, response);
+              });
+      registration.addUrlPatterns("/api/*");
+      return registration;
+    }
+  }
+}
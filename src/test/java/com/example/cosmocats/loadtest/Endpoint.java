@@ -0,0 +1,105 @@
+package com.example.cosmocats.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public enum Endpoint {
+  PRODUCTS("products") {
+    @Override
+    HttpRequest request(URI baseUri, long sequence) {
+      return get(baseUri, "/api/v1/products");
+    }
+  },
+  PRODUCT_BY_ID("product") {
+    @Override
+    HttpRequest request(URI baseUri, long sequence) {
+      return get(baseUri, "/api/v1/products/" + pick(PRODUCT_IDS, sequence));
+    }
+  },
+  PRODUCT_MISS("productMiss") {
+    @Override
+    HttpRequest request(URI baseUri, long sequence) {
+      return get(baseUri, "/api/v1/products/" + new UUID(MISS_ID_PREFIX, sequence));
+    }
+
+    @Override
+    boolean isError(int statusCode) {
+      return statusCode != 404;
+    }
+  },
+  CATEGORY("category") {
+    @Override
+    HttpRequest request(URI baseUri, long sequence) {
+      return get(baseUri, "/api/v1/products/category/" + pick(CATEGORIES, sequence));
+    }
+  },
+  BATCH("batch") {
+    @Override
+    HttpRequest request(URI baseUri, long sequence) {
+      return get(baseUri, "/api/v1/products/batch?ids=" + String.join(",", PRODUCT_IDS));
+    }
+  },
+  ADMIN("admin") {
+    @Override
+    HttpRequest request(URI baseUri, long sequence) {
+      String body =
+          "{\"category\":\"Load\",\"name\":\"Cosmic Load Product "
+              + sequence
+              + "\",\"description\":\"Created by the load test\",\"price\":9.99}";
+      return HttpRequest.newBuilder(baseUri.resolve("/api/v1/admin/products"))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(body))
+          .build();
+    }
+  },
+  COSMO_CATS("cosmoCats") {
+    @Override
+    HttpRequest request(URI baseUri, long sequence) {
+      return get(baseUri, "/api/v1/cosmo-cats");
+    }
+  };
+
+  private static final List<String> PRODUCT_IDS =
+      List.of(
+          "550e8400-e29b-41d4-a716-446655440001",
+          "550e8400-e29b-41d4-a716-446655440002",
+          "550e8400-e29b-41d4-a716-446655440003",
+          "550e8400-e29b-41d4-a716-446655440004");
+  // Ids under this prefix are never assigned, so every request is a lookup miss.
+  private static final long MISS_ID_PREFIX = 0x0BADCA7_0000_4000L;
+  private static final List<String> CATEGORIES = List.of("Electronics", "Books", "Food");
+
+  private final String key;
+
+  Endpoint(String key) {
+    this.key = key;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  abstract HttpRequest request(URI baseUri, long sequence);
+
+  boolean isError(int statusCode) {
+    return statusCode >= 400;
+  }
+
+  static Endpoint fromKey(String key) {
+    return Arrays.stream(values())
+        .filter(endpoint -> endpoint.key.equals(key))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown load test endpoint: " + key));
+  }
+
+  private static HttpRequest get(URI baseUri, String path) {
+    return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+  }
+
+  private static String pick(List<String> values, long sequence) {
+    return values.get((int) (sequence % values.size()));
+  }
+}
@@ -0,0 +1,84 @@
+package com.example.cosmocats.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+// Baselines are stored per scenario and endpoint as "<scenario>.<endpoint>.p99Millis" and
+// "<scenario>.<endpoint>.throughput". Endpoints without a stored baseline are not gated. Open
+// model runs store no throughput: it equals the offered rate whenever the run keeps up, so
+// LoadTestResult.findShortfalls checks it against that rate instead.
+public class LoadTestBaseline {
+
+  private final Path file;
+  private final Properties values = new Properties();
+
+  private LoadTestBaseline(Path file) {
+    this.file = file;
+  }
+
+  public static LoadTestBaseline load(Path file) throws IOException {
+    LoadTestBaseline baseline = new LoadTestBaseline(file);
+    if (Files.exists(file)) {
+      try (Reader reader = Files.newBufferedReader(file)) {
+        baseline.values.load(reader);
+      }
+    }
+    return baseline;
+  }
+
+  public List<String> findRegressions(String scenario, LoadTestResult result, double tolerance) {
+    List<String> regressions = new ArrayList<>();
+    for (Endpoint endpoint : result.endpoints()) {
+      String prefix = scenario + "." + endpoint.getKey();
+      String p99 = values.getProperty(prefix + ".p99Millis");
+      if (p99 != null && result.p99Millis(endpoint) > Double.parseDouble(p99) * (1 + tolerance)) {
+        regressions.add(
+            String.format(
+                Locale.ROOT,
+                "%s p99 %.2f ms exceeds baseline %s ms",
+                prefix,
+                result.p99Millis(endpoint),
+                p99));
+      }
+      String throughput = values.getProperty(prefix + ".throughput");
+      if (throughput != null
+          && !result.hasOfferedRate()
+          && result.throughput(endpoint) < Double.parseDouble(throughput) * (1 - tolerance)) {
+        regressions.add(
+            String.format(
+                Locale.ROOT,
+                "%s throughput %.1f req/s is below baseline %s req/s",
+                prefix,
+                result.throughput(endpoint),
+                throughput));
+      }
+    }
+    return regressions;
+  }
+
+  public void update(String scenario, LoadTestResult result) throws IOException {
+    for (Endpoint endpoint : result.endpoints()) {
+      String prefix = scenario + "." + endpoint.getKey();
+      values.setProperty(
+          prefix + ".p99Millis", String.format(Locale.ROOT, "%.2f", result.p99Millis(endpoint)));
+      if (result.hasOfferedRate()) {
+        values.remove(prefix + ".throughput");
+      } else {
+        values.setProperty(
+            prefix + ".throughput",
+            String.format(Locale.ROOT, "%.1f", result.throughput(endpoint)));
+      }
+    }
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    try (Writer writer = Files.newBufferedWriter(file)) {
+      values.store(writer, "Load test baselines, regenerate with -Ploadtest.updateBaseline=true");
+    }
+  }
+}
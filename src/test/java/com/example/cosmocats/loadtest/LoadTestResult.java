@@ -0,0 +1,143 @@
+package com.example.cosmocats.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.Histogram;
+
+public class LoadTestResult {
+
+  private static final double MICROS_PER_MILLI = 1000.0;
+
+  private final Map<Endpoint, Histogram> histograms;
+  private final Map<Endpoint, AtomicLong> errors;
+  private final Map<Endpoint, AtomicLong> offered;
+  private final Map<Endpoint, AtomicLong> dropped;
+  private final Duration elapsed;
+
+  // Offered and dropped counts are empty for a closed model, which has no arrival schedule.
+  LoadTestResult(
+      Map<Endpoint, Histogram> histograms,
+      Map<Endpoint, AtomicLong> errors,
+      Map<Endpoint, AtomicLong> offered,
+      Map<Endpoint, AtomicLong> dropped,
+      Duration elapsed) {
+    this.histograms = histograms;
+    this.errors = errors;
+    this.offered = offered;
+    this.dropped = dropped;
+    this.elapsed = elapsed;
+  }
+
+  public Iterable<Endpoint> endpoints() {
+    return histograms.keySet();
+  }
+
+  public double p99Millis(Endpoint endpoint) {
+    return histograms.get(endpoint).getValueAtPercentile(99.0) / MICROS_PER_MILLI;
+  }
+
+  public double throughput(Endpoint endpoint) {
+    long successful = histograms.get(endpoint).getTotalCount() - errors.get(endpoint).get();
+    return successful / (elapsed.toNanos() / 1e9);
+  }
+
+  public long errors(Endpoint endpoint) {
+    return errors.get(endpoint).get();
+  }
+
+  public boolean hasOfferedRate() {
+    return !offered.isEmpty();
+  }
+
+  public double offeredRate(Endpoint endpoint) {
+    return count(offered, endpoint) / (elapsed.toNanos() / 1e9);
+  }
+
+  public long dropped(Endpoint endpoint) {
+    return count(dropped, endpoint);
+  }
+
+  public long dropped() {
+    return dropped.values().stream().mapToLong(AtomicLong::get).sum();
+  }
+
+  // An open model is held to the schedule it offered: dropped, failed and late requests all lower
+  // the achieved rate, and drops above maxDropRatio fail the run even when the rest keep up.
+  public List<String> findShortfalls(String scenario, double tolerance, double maxDropRatio) {
+    List<String> shortfalls = new ArrayList<>();
+    if (!hasOfferedRate()) {
+      return shortfalls;
+    }
+    for (Endpoint endpoint : endpoints()) {
+      if (throughput(endpoint) < offeredRate(endpoint) * (1 - tolerance)) {
+        shortfalls.add(
+            String.format(
+                Locale.ROOT,
+                "%s.%s throughput %.1f req/s is below the offered %.1f req/s",
+                scenario,
+                endpoint.getKey(),
+                throughput(endpoint),
+                offeredRate(endpoint)));
+      }
+    }
+    long total = offered.values().stream().mapToLong(AtomicLong::get).sum();
+    if (total > 0 && dropped() > total * maxDropRatio) {
+      shortfalls.add(
+          String.format(
+              Locale.ROOT,
+              "%s: %d of %d requests dropped at the concurrency limit, above the %.1f%% allowed",
+              scenario,
+              dropped(),
+              total,
+              maxDropRatio * 100));
+    }
+    return shortfalls;
+  }
+
+  private static long count(Map<Endpoint, AtomicLong> counts, Endpoint endpoint) {
+    AtomicLong count = counts.get(endpoint);
+    return count != null ? count.get() : 0;
+  }
+
+  public String summary() {
+    StringBuilder summary = new StringBuilder();
+    summary.append(
+        String.format(
+            "%-10s %10s %10s %10s %10s %10s %8s %8s%n",
+            "endpoint", "count", "req/s", "p50 ms", "p99 ms", "max ms", "errors", "dropped"));
+    histograms.forEach(
+        (endpoint, histogram) ->
+            summary.append(
+                String.format(
+                    "%-10s %10d %10.1f %10.2f %10.2f %10.2f %8d %8d%n",
+                    endpoint.getKey(),
+                    histogram.getTotalCount(),
+                    throughput(endpoint),
+                    histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                    histogram.getMaxValue() / MICROS_PER_MILLI,
+                    errors(endpoint),
+                    dropped(endpoint))));
+    summary.append(String.format("dropped (concurrency limit reached): %d%n", dropped()));
+    return summary.toString();
+  }
+
+  public void writeReport(Path directory, String scenario) throws IOException {
+    Files.createDirectories(directory);
+    Files.writeString(directory.resolve(scenario + "-summary.txt"), summary());
+    for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+      Path file = directory.resolve(scenario + "-" + entry.getKey().getKey() + ".hgrm");
+      try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+        entry.getValue().outputPercentileDistribution(out, MICROS_PER_MILLI);
+      }
+    }
+  }
+}
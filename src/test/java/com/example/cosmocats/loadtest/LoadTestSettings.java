@@ -0,0 +1,85 @@
+package com.example.cosmocats.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(toBuilder = true)
+public class LoadTestSettings {
+
+  private static final String PREFIX = "loadtest.";
+  private static final String DEFAULT_BASELINE_FILE =
+      "src/test/resources/loadtest/baseline.properties";
+  private static final String DEFAULT_MIX =
+      "products=40,product=30,category=15,batch=5,admin=5,cosmoCats=5";
+
+  String scenario;
+  int requestsPerSecond;
+  // Highest rate the server keeps up with on this machine; the overload scenario offers twice it.
+  int capacity;
+  Duration warmup;
+  Duration duration;
+  int maxConcurrency;
+  int connections;
+  Duration thinkTime;
+  Duration blockingLatency;
+  Map<Endpoint, Integer> mix;
+  Path baselineFile;
+  boolean updateBaseline;
+  double tolerance;
+  double maxDropRatio;
+  // Allowed p99 under overload, as a multiple of the concurrency limiter's target latency.
+  double overloadP99Factor;
+  Path reportDirectory;
+
+  public static LoadTestSettings fromSystemProperties(String scenario) {
+    return LoadTestSettings.builder()
+        .scenario(scenario)
+        .requestsPerSecond(intProperty("rate", 200))
+        .capacity(intProperty("capacity", 250))
+        .warmup(Duration.ofSeconds(intProperty("warmupSeconds", 5)))
+        .duration(Duration.ofSeconds(intProperty("durationSeconds", 20)))
+        .maxConcurrency(intProperty("maxConcurrency", 512))
+        .connections(intProperty("connections", 10_000))
+        .thinkTime(Duration.ofMillis(intProperty("thinkMillis", 0)))
+        .blockingLatency(Duration.ofMillis(intProperty("blockingMillis", 0)))
+        .mix(parseMix(property("mix", DEFAULT_MIX)))
+        .baselineFile(Path.of(property("baselineFile", DEFAULT_BASELINE_FILE)))
+        .updateBaseline(Boolean.parseBoolean(property("updateBaseline", "false")))
+        .tolerance(Double.parseDouble(property("tolerance", "0.25")))
+        .maxDropRatio(Double.parseDouble(property("maxDropRatio", "0.01")))
+        .overloadP99Factor(Double.parseDouble(property("overloadP99Factor", "4")))
+        .reportDirectory(Path.of(property("reportDirectory", "build/reports/loadtest")))
+        .build();
+  }
+
+  static Map<Endpoint, Integer> parseMix(String mix) {
+    Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.trim().split("=");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Invalid workload mix entry: " + entry);
+      }
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight > 0) {
+        weights.put(Endpoint.fromKey(parts[0].trim()), weight);
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("Workload mix must contain at least one endpoint");
+    }
+    return weights;
+  }
+
+  private static int intProperty(String name, int defaultValue) {
+    return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+  }
+
+  private static String property(String name, String defaultValue) {
+    return System.getProperty(PREFIX + name, defaultValue);
+  }
+}
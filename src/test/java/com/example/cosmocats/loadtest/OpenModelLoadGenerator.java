@@ -0,0 +1,114 @@
+package com.example.cosmocats.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// Open workload model: requests are started on a fixed arrival schedule whether or not earlier
+// ones have finished, and latency is measured from the scheduled start so that a stalled server
+// cannot hide its queueing delay (coordinated omission). Requests that would exceed the
+// concurrency cap are not sent; they are counted as dropped against their endpoint, and the
+// result compares the rate achieved with the rate offered, so dropping cannot flatter it.
+public class OpenModelLoadGenerator implements AutoCloseable {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+  private final URI baseUri;
+  private final LoadTestSettings settings;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final HttpClient httpClient;
+  private final AtomicLong sequence = new AtomicLong();
+  private final Endpoint[] weightedEndpoints;
+
+  public OpenModelLoadGenerator(URI baseUri, LoadTestSettings settings) {
+    this.baseUri = baseUri;
+    this.settings = settings;
+    this.httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executor)
+            .build();
+    this.weightedEndpoints =
+        settings.getMix().entrySet().stream()
+            .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+            .toArray(Endpoint[]::new);
+  }
+
+  public LoadTestResult run(Duration duration) throws InterruptedException {
+    Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+    Map<Endpoint, AtomicLong> offered = new EnumMap<>(Endpoint.class);
+    Map<Endpoint, AtomicLong> dropped = new EnumMap<>(Endpoint.class);
+    settings
+        .getMix()
+        .keySet()
+        .forEach(
+            endpoint -> {
+              histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+              errors.put(endpoint, new AtomicLong());
+              offered.put(endpoint, new AtomicLong());
+              dropped.put(endpoint, new AtomicLong());
+            });
+    Semaphore inFlight = new Semaphore(settings.getMaxConcurrency());
+    SplittableRandom random = new SplittableRandom(42);
+
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.getRequestsPerSecond();
+    long totalRequests = duration.toSeconds() * settings.getRequestsPerSecond();
+    long start = System.nanoTime();
+
+    for (long i = 0; i < totalRequests; i++) {
+      long intendedStart = start + i * intervalNanos;
+      long delay = intendedStart - System.nanoTime();
+      if (delay > 0) {
+        LockSupport.parkNanos(delay);
+      }
+
+      Endpoint endpoint = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+      offered.get(endpoint).incrementAndGet();
+      if (!inFlight.tryAcquire()) {
+        dropped.get(endpoint).incrementAndGet();
+        continue;
+      }
+      httpClient
+          .sendAsync(
+              endpoint.request(baseUri, sequence.incrementAndGet()),
+              HttpResponse.BodyHandlers.discarding())
+          .whenComplete(
+              (response, error) -> {
+                long latencyMicros =
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                histograms
+                    .get(endpoint)
+                    .recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                if (error != null || endpoint.isError(response.statusCode())) {
+                  errors.get(endpoint).incrementAndGet();
+                }
+                inFlight.release();
+              });
+    }
+
+    inFlight.tryAcquire(settings.getMaxConcurrency(), 30, TimeUnit.SECONDS);
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    return new LoadTestResult(histograms, errors, offered, dropped, elapsed);
+  }
+
+  @Override
+  public void close() {
+    httpClient.close();
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,110 @@
+package com.example.cosmocats.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Hot Path Log Rate Limiter Tests")
+class HotPathLogRateLimiterTest {
+
+  private static final String SERVICE_LOGGER = "com.example.cosmocats.service.ProductService";
+
+  private final AtomicLong clock = new AtomicLong(1_000_000L);
+  private final LoggerContext loggerContext = new LoggerContext();
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+  private HotPathLogRateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    rateLimiter = new HotPathLogRateLimiter(clock::get);
+    rateLimiter.setContext(loggerContext);
+    rateLimiter.addLoggerName(SERVICE_LOGGER);
+    rateLimiter.setPermitsPerSecond(3);
+    rateLimiter.start();
+    loggerContext.addTurboFilter(rateLimiter);
+
+    appender.setContext(loggerContext);
+    appender.start();
+    Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+    root.setLevel(Level.INFO);
+    root.addAppender(appender);
+  }
+
+  @Test
+  @DisplayName("Should admit only the configured number of events per template each second")
+  void decide_ShouldLimitEachTemplate_WithinOneSecond() {
+    Logger logger = loggerContext.getLogger(SERVICE_LOGGER);
+
+    for (int i = 0; i < 10; i++) {
+      logger.info("Fetching product by ID: {}", i);
+      logger.info("Fetching all products");
+    }
+
+    assertThat(appender.list).hasSize(6);
+    assertThat(rateLimiter.getSuppressedCount()).isEqualTo(14);
+  }
+
+  @Test
+  @DisplayName("Should admit events again once the next second starts")
+  void decide_ShouldResetBudget_WhenSecondElapses() {
+    Logger logger = loggerContext.getLogger(SERVICE_LOGGER);
+
+    for (int i = 0; i < 5; i++) {
+      logger.info("Fetching product by ID: {}", i);
+    }
+    clock.addAndGet(1_000L);
+    for (int i = 0; i < 5; i++) {
+      logger.info("Fetching product by ID: {}", i);
+    }
+
+    assertThat(appender.list).hasSize(6);
+  }
+
+  @Test
+  @DisplayName("Should always let warnings and errors through")
+  void decide_ShouldNeverLimitWarnings() {
+    Logger logger = loggerContext.getLogger(SERVICE_LOGGER);
+
+    for (int i = 0; i < 10; i++) {
+      logger.warn("Product not found with ID: {}", i);
+      logger.error("Product lookup failed for ID: {}", i);
+    }
+
+    assertThat(appender.list).hasSize(20);
+    assertThat(rateLimiter.getSuppressedCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should leave loggers outside the hot path untouched")
+  void decide_ShouldIgnoreOtherLoggers() {
+    Logger logger = loggerContext.getLogger("com.example.cosmocats.service.CosmoCatService");
+
+    for (int i = 0; i < 10; i++) {
+      logger.info("Fetching cosmo cat by ID: {}", i);
+    }
+
+    assertThat(appender.list).hasSize(10);
+  }
+
+  @Test
+  @DisplayName("Should not spend the budget on events below the logger level")
+  void decide_ShouldIgnoreDisabledLevels() {
+    Logger logger = loggerContext.getLogger(SERVICE_LOGGER);
+
+    for (int i = 0; i < 10; i++) {
+      logger.debug("Fetching product by ID: {}", i);
+    }
+    logger.info("Fetching product by ID: {}", 42);
+
+    assertThat(appender.list).hasSize(1);
+    assertThat(rateLimiter.getSuppressedCount()).isZero();
+  }
+}
@@ -0,0 +1,104 @@
+package com.example.cosmocats.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.example.cosmocats.featuretoggle.FeatureToggleService;
+import com.example.cosmocats.featuretoggle.FeatureToggles;
+import com.example.cosmocats.featuretoggle.annotation.FeatureToggle;
+import com.example.cosmocats.featuretoggle.aspect.FeatureToggleAspect;
+import com.example.cosmocats.featuretoggle.exception.FeatureNotAvailableException;
+import com.example.cosmocats.metrics.annotation.Monitored;
+import com.example.cosmocats.metrics.aspect.OperationMetricsAspect;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Operation Metrics Aspect Tests")
+class OperationMetricsAspectTest {
+
+  @Mock
+  private FeatureToggleService featureToggleService;
+
+  private SimpleMeterRegistry meterRegistry;
+  private TestService testServiceProxy;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+
+    AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TestService());
+    proxyFactory.addAspect(new OperationMetricsAspect(meterRegistry));
+    proxyFactory.addAspect(new FeatureToggleAspect(featureToggleService));
+    testServiceProxy = proxyFactory.getProxy();
+  }
+
+  @Test
+  @DisplayName("Should time successful operations per method")
+  void recordOperation_ShouldTimeSuccessfulCalls() {
+    testServiceProxy.findProduct();
+    testServiceProxy.findProduct();
+
+    Timer timer = timer("findProduct", "success", "none");
+    assertThat(timer.count()).isEqualTo(2);
+    assertThat(timer.getId().getTag("toggle")).isEqualTo("none");
+  }
+
+  @Test
+  @DisplayName("Should tag failed operations with the exception type")
+  void recordOperation_ShouldTagFailures() {
+    assertThatThrownBy(testServiceProxy::failProduct).isInstanceOf(IllegalStateException.class);
+
+    assertThat(timer("failProduct", "error", "IllegalStateException").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should tag guarded operations with the toggle outcome")
+  void recordOperation_ShouldTagToggleOutcome() {
+    when(featureToggleService.check("cosmoCats")).thenReturn(true, false);
+
+    testServiceProxy.getCosmoCats();
+    assertThatThrownBy(testServiceProxy::getCosmoCats)
+        .isInstanceOf(FeatureNotAvailableException.class);
+
+    Timer enabled = timer("getCosmoCats", "success", "none");
+    Timer disabled = timer("getCosmoCats", "error", "FeatureNotAvailableException");
+    assertThat(enabled.getId().getTag("toggle")).isEqualTo("enabled");
+    assertThat(disabled.getId().getTag("toggle")).isEqualTo("disabled");
+  }
+
+  private Timer timer(String method, String outcome, String exception) {
+    return meterRegistry
+        .get(OperationMetricsAspect.OPERATION_TIMER)
+        .tag("class", "TestService")
+        .tag("method", method)
+        .tag("outcome", outcome)
+        .tag("exception", exception)
+        .timer();
+  }
+
+  @Monitored
+  static class TestService {
+
+    public String findProduct() {
+      return "Quantum Phone X1";
+    }
+
+    public String failProduct() {
+      throw new IllegalStateException("Broken orbit");
+    }
+
+    @FeatureToggle(FeatureToggles.COSMO_CATS)
+    public String getCosmoCats() {
+      return "Cosmo Cat";
+    }
+  }
+}
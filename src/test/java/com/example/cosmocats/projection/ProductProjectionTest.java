@@ -0,0 +1,100 @@
+package com.example.cosmocats.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.service.mapper.ProductMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+@DisplayName("Product Projection Tests")
+class ProductProjectionTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final Product product =
+      Product.builder()
+          .productId(UUID.fromString("550e8400-e29b-41d4-a716-446655440001"))
+          .category("Electronics")
+          .name("Quantum Phone X1")
+          .description(null)
+          .price(999.99f)
+          .build();
+
+  @Test
+  @DisplayName("Should treat missing or blank fields as the full representation")
+  void of_ShouldReturnNull_WhenNoFieldsGiven() {
+    assertThat(ProductProjection.of(null)).isNull();
+    assertThat(ProductProjection.of(" ")).isNull();
+  }
+
+  @Test
+  @DisplayName("Should share one compiled projection for the same set of fields")
+  void of_ShouldReuseProjection_WhenFieldsRepeatOrReorder() {
+    ProductProjection projection = ProductProjection.of("price,name");
+
+    assertThat(ProductProjection.of("name,price")).isSameAs(projection);
+    assertThat(ProductProjection.of("name,price,name")).isSameAs(projection);
+    assertThat(projection.getKey()).isEqualTo("name,price");
+  }
+
+  @Test
+  @DisplayName("Should reject unknown fields")
+  void of_ShouldRejectUnknownField() {
+    assertThatThrownBy(() -> ProductProjection.of("name,rating"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should write only the selected fields, nulls included, in DTO order")
+  void project_ShouldWriteSelectedFields() throws Exception {
+    String json =
+        objectMapper.writeValueAsString(
+            ProductProjection.of("price,description,productId").project(product));
+
+    assertThat(json)
+        .isEqualTo(
+            "{\"productId\":\"550e8400-e29b-41d4-a716-446655440001\","
+                + "\"description\":null,\"price\":999.99}");
+  }
+
+  @Test
+  @DisplayName("Should write lists in the list and query result shapes")
+  void project_ShouldWriteListShapes() throws Exception {
+    ProductProjection projection = ProductProjection.of("name");
+
+    JsonNode list = objectMapper.valueToTree(projection.project(List.of(product, product)));
+    JsonNode result = objectMapper.valueToTree(projection.project(List.of(product), 7));
+
+    assertThat(list.has("total")).isFalse();
+    assertThat(list.get("products")).hasSize(2);
+    assertThat(list.get("products").get(0).get("name").asText()).isEqualTo("Quantum Phone X1");
+    assertThat(list.get("products").get(0).size()).isEqualTo(1);
+    assertThat(result.get("total").asLong()).isEqualTo(7);
+    assertThat(result.get("products")).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("Should write smaller list payloads than the full representation")
+  void project_ShouldShrinkListPayload() throws Exception {
+    List<Product> products = Collections.nCopies(100, product);
+
+    int full = payloadSize(Mappers.getMapper(ProductMapper.class).toProductListDto(products));
+    int summary = payloadSize(ProductProjection.of("productId,name,price").project(products));
+    int ids = payloadSize(ProductProjection.of("productId").project(products));
+
+    assertThat(summary).isLessThan(full);
+    assertThat(ids).isLessThan(summary);
+  }
+
+  private int payloadSize(Object value) throws Exception {
+    return objectMapper.writeValueAsBytes(value).length;
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.cosmocats.ratelimit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.cosmocats.AbstractIt;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@AutoConfigureMockMvc
+@TestPropertySource(
+    properties = {
+      "application.rate-limit.enabled=true",
+      "application.rate-limit.client-id-header=X-Client-Id",
+      "application.rate-limit.policies.product-reads.capacity=2",
+      "application.rate-limit.policies.product-reads.refill-per-second=1"
+    })
+@DisplayName("Rate Limit IT")
+class RateLimitIT extends AbstractIt {
+
+  private static final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("Should reject a client past its burst with 429 and Retry-After")
+  void getProduct_ShouldReturnTooManyRequests_WhenBurstSpent() throws Exception {
+    readProduct("greedy-client").andExpect(status().isOk());
+    readProduct("greedy-client").andExpect(status().isOk());
+
+    readProduct("greedy-client")
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().string("Retry-After", "1"))
+        .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+        .andExpect(jsonPath("$.title").value("Too Many Requests"));
+  }
+
+  @Test
+  @DisplayName("Should keep serving other clients while one is limited")
+  void getProduct_ShouldServeOtherClients_WhenOneIsLimited() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      readProduct("noisy-client");
+    }
+
+    readProduct("quiet-client").andExpect(status().isOk());
+  }
+
+  private ResultActions readProduct(String clientId) throws Exception {
+    return mockMvc.perform(get("/api/v1/products/{id}", PRODUCT_ID).header("X-Client-Id", clientId));
+  }
+}
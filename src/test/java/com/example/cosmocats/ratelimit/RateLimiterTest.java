@@ -0,0 +1,118 @@
+package com.example.cosmocats.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Rate Limiter Tests")
+class RateLimiterTest {
+
+  private final AtomicLong clock = new AtomicLong(5_000_000L);
+
+  @Test
+  @DisplayName("Should admit a full burst and then reject with the time to the next token")
+  void tryAcquire_ShouldRejectWhenBurstSpent() {
+    RateLimiter rateLimiter = rateLimiter(3, 2);
+
+    assertThat(rateLimiter.tryAcquire("client-a")).isZero();
+    assertThat(rateLimiter.tryAcquire("client-a")).isZero();
+    assertThat(rateLimiter.tryAcquire("client-a")).isZero();
+
+    assertThat(rateLimiter.tryAcquire("client-a")).isEqualTo(500_000L);
+  }
+
+  @Test
+  @DisplayName("Should refill tokens at the configured rate")
+  void tryAcquire_ShouldRefillOverTime() {
+    RateLimiter rateLimiter = rateLimiter(1, 4);
+    assertThat(rateLimiter.tryAcquire("client-a")).isZero();
+
+    clock.addAndGet(100_000L);
+    assertThat(rateLimiter.tryAcquire("client-a")).isBetween(150_000L, 150_001L);
+
+    clock.addAndGet(150_000L);
+    assertThat(rateLimiter.tryAcquire("client-a")).isZero();
+  }
+
+  @Test
+  @DisplayName("Should not lose partial refills across frequent checks")
+  void tryAcquire_ShouldAccumulateFractionalRefill() {
+    RateLimiter rateLimiter = rateLimiter(1, 3);
+    assertThat(rateLimiter.tryAcquire("client-a")).isZero();
+
+    int admitted = 0;
+    for (int i = 0; i < 10_100; i++) {
+      clock.addAndGet(100L);
+      if (rateLimiter.tryAcquire("client-a") == 0) {
+        admitted++;
+      }
+    }
+
+    assertThat(admitted).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should keep separate buckets per client")
+  void tryAcquire_ShouldIsolateClients() {
+    RateLimiter rateLimiter = rateLimiter(1, 1);
+
+    assertThat(rateLimiter.tryAcquire("client-a")).isZero();
+    assertThat(rateLimiter.tryAcquire("client-a")).isPositive();
+
+    assertThat(rateLimiter.tryAcquire("client-b")).isZero();
+  }
+
+  @Test
+  @DisplayName("Should evict buckets once they have refilled completely")
+  void evictIdleBuckets_ShouldDropOnlyFullBuckets() {
+    RateLimiter rateLimiter = rateLimiter(2, 1);
+    rateLimiter.tryAcquire("client-a");
+    clock.addAndGet(1_500_000L);
+    rateLimiter.tryAcquire("client-b");
+
+    rateLimiter.evictIdleBuckets();
+
+    assertThat(rateLimiter.getBucketCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should sweep idle buckets when new clients arrive")
+  void tryAcquire_ShouldSweepIdleBuckets_WhenNewClientArrives() {
+    RateLimiter rateLimiter = rateLimiter(1, 1);
+    for (int i = 0; i < 100; i++) {
+      rateLimiter.tryAcquire("client-" + i);
+    }
+
+    clock.addAndGet(2_000_000L);
+    rateLimiter.tryAcquire("client-new");
+
+    assertThat(rateLimiter.getBucketCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should share one bucket among clients beyond the client limit")
+  void tryAcquire_ShouldShareOverflowBucket_WhenTooManyClients() {
+    RateLimiter rateLimiter = new RateLimiter("reads", 1, 1, 2, clock::get);
+    rateLimiter.tryAcquire("client-a");
+    rateLimiter.tryAcquire("client-b");
+
+    assertThat(rateLimiter.tryAcquire("client-c")).isZero();
+    assertThat(rateLimiter.tryAcquire("client-d")).isPositive();
+    assertThat(rateLimiter.getBucketCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should reject capacities that do not fit in a bucket")
+  void constructor_ShouldRejectInvalidCapacity() {
+    assertThatThrownBy(() -> new RateLimiter("reads", RateLimiter.MAX_CAPACITY + 1, 1, 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("reads");
+  }
+
+  private RateLimiter rateLimiter(int capacity, int refillPerSecond) {
+    return new RateLimiter("reads", capacity, refillPerSecond, 1_000, clock::get);
+  }
+}
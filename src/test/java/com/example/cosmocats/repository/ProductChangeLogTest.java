@@ -0,0 +1,88 @@
+package com.example.cosmocats.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Product Change Log Tests")
+class ProductChangeLogTest {
+
+  private final UUID firstId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+  private final UUID secondId = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+  private ProductChangeLog changeLog;
+
+  @BeforeEach
+  void setUp() {
+    changeLog = new ProductChangeLog(4);
+  }
+
+  @Test
+  @DisplayName("Should assign increasing versions to appended changes")
+  void append_ShouldAssignIncreasingVersions() {
+    assertThat(changeLog.append(firstId)).isEqualTo(1L);
+    assertThat(changeLog.append(secondId)).isEqualTo(2L);
+    assertThat(changeLog.currentVersion()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("Should return changes after the given version in order")
+  void since_ShouldReturnChangesAfterVersion() {
+    changeLog.append(firstId);
+    changeLog.append(secondId);
+    changeLog.append(firstId);
+
+    ProductChangeLog.Window window = changeLog.since(1L).orElseThrow();
+
+    assertThat(window.version()).isEqualTo(3L);
+    assertThat(window.productIds()).containsExactly(secondId, firstId);
+  }
+
+  @Test
+  @DisplayName("Should return empty window when client is up to date")
+  void since_ShouldReturnEmptyWindow_WhenUpToDate() {
+    changeLog.append(firstId);
+
+    ProductChangeLog.Window window = changeLog.since(1L).orElseThrow();
+
+    assertThat(window.version()).isEqualTo(1L);
+    assertThat(window.productIds()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should require resync when version fell out of the log")
+  void since_ShouldRequireResync_WhenVersionTooOld() {
+    for (int i = 0; i < 6; i++) {
+      changeLog.append(firstId);
+    }
+
+    assertThat(changeLog.since(1L)).isEmpty();
+    assertThat(changeLog.since(2L)).isPresent();
+  }
+
+  @Test
+  @DisplayName("Should require resync when version was never issued")
+  void since_ShouldRequireResync_WhenVersionUnknown() {
+    changeLog.append(firstId);
+
+    assertThat(changeLog.since(5L)).isEmpty();
+    assertThat(changeLog.since(-1L)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should require resync for versions before a truncation")
+  void since_ShouldRequireResync_WhenVersionBeforeTruncation() {
+    changeLog.append(firstId);
+    long truncatedVersion = changeLog.truncate();
+    changeLog.append(secondId);
+
+    assertThat(truncatedVersion).isEqualTo(2L);
+    assertThat(changeLog.since(1L)).isEmpty();
+    ProductChangeLog.Window window = changeLog.since(truncatedVersion).orElseThrow();
+    assertThat(window.version()).isEqualTo(3L);
+    assertThat(window.productIds()).containsExactly(secondId);
+  }
+}
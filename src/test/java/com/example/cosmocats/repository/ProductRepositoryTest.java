@@ -0,0 +1,355 @@
+package com.example.cosmocats.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.cosmocats.domain.PriceBucket;
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.domain.ProductFilter;
+import com.example.cosmocats.domain.ProductFilterResult;
+import com.example.cosmocats.domain.ProductSort;
+import com.example.cosmocats.domain.event.ProductChangeType;
+import com.example.cosmocats.domain.event.ProductChangedEvent;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Product Repository Tests")
+class ProductRepositoryTest {
+
+  private static final int SEEDED_PRODUCTS = 4;
+
+  private ProductRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new ProductRepository(8);
+  }
+
+  @Test
+  @DisplayName("Should reject shard counts that are not powers of two")
+  void constructor_ShouldRejectInvalidShardCount() {
+    assertThatThrownBy(() -> new ProductRepository(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new ProductRepository(6))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should find, count and delete products whichever shard holds them")
+  void pointOperations_ShouldRouteToOwningShard() {
+    List<Product> saved = saveProducts(64, "Toys");
+
+    assertThat(repository.count()).isEqualTo(SEEDED_PRODUCTS + 64L);
+    for (Product product : saved) {
+      assertThat(repository.findById(product.getProductId())).contains(product);
+      assertThat(repository.existsById(product.getProductId())).isTrue();
+    }
+    assertThat(repository.findAllById(saved.stream().map(Product::getProductId).toList()))
+        .hasSize(64);
+
+    repository.deleteById(saved.get(0).getProductId());
+
+    assertThat(repository.findById(saved.get(0).getProductId())).isEmpty();
+    assertThat(repository.findVersionById(saved.get(0).getProductId())).isEmpty();
+    assertThat(repository.count()).isEqualTo(SEEDED_PRODUCTS + 63L);
+  }
+
+  @Test
+  @DisplayName("Should scan every shard for findAll, names and categories")
+  void scans_ShouldCoverAllShards() {
+    saveProducts(64, "Toys");
+
+    assertThat(repository.findAll()).hasSize(SEEDED_PRODUCTS + 64);
+    assertThat(repository.findAllByCategory("toys")).hasSize(64);
+    assertThat(repository.findAllByCategory("ELECTRONICS"))
+        .extracting(Product::getName)
+        .containsExactlyInAnyOrder("Quantum Phone X1", "Galaxy Tablet Pro");
+    assertThat(repository.existsByName("toy 63")).isTrue();
+    assertThat(repository.existsByName("Toy 64")).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should ignore the excluded product when checking names")
+  void existsByNameExcludingId_ShouldSkipExcludedProduct() {
+    Product toy = saveProducts(1, "Toys").get(0);
+
+    assertThat(repository.existsByNameExcludingId("Toy 0", toy.getProductId())).isFalse();
+    assertThat(repository.existsByNameExcludingId("Toy 0", UUID.randomUUID())).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should scan in parallel past the threshold and still see every product")
+  void scans_ShouldMatchSequentialResults_WhenCatalogIsLarge() {
+    int size = ProductRepository.PARALLEL_SCAN_THRESHOLD;
+    List<Product> products = new ArrayList<>(size);
+    IntStream.range(0, size)
+        .forEach(i -> products.add(product("Bulk " + i, i % 2 == 0 ? "Even" : "Odd")));
+
+    repository.saveAll(products);
+
+    assertThat(repository.findAll()).hasSize(SEEDED_PRODUCTS + size);
+    assertThat(repository.findAllByCategory("even")).hasSize(size / 2);
+    assertThat(repository.existsByName("bulk 9999")).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should return the first matches in order from every shard")
+  void search_ShouldReturnOrderedTopMatches() {
+    saveProducts(64, "Toys");
+
+    List<Product> matches =
+        repository.search(
+            product -> product.getName().startsWith("Toy 1"),
+            Comparator.comparing(Product::getName),
+            5);
+
+    assertThat(matches)
+        .extracting(Product::getName)
+        .containsExactly("Toy 1", "Toy 10", "Toy 11", "Toy 12", "Toy 13");
+  }
+
+  @Test
+  @DisplayName("Should resolve a combined filter across shards with exclusions")
+  void findAllByFilter_ShouldCombineAttributes() {
+    repository.save(product("Wireless Nebula Lamp", "Home", 19.99f, "Soft light"));
+    repository.save(product("Wireless Nebula Lamp Pro", "Home", 49.99f, "Brighter"));
+    repository.save(product("Wired Nebula Lamp", "Home", 15f, "Cheaper"));
+    repository.save(product("Wireless Nebula Lamp Mini", "Office", 12f, null));
+    repository.save(product("Wireless Comet Lamp", "Garden", 22f, "Outdoor"));
+
+    ProductFilterResult result =
+        repository.findAllByFilter(
+            ProductFilter.builder()
+                .category("home")
+                .category("OFFICE")
+                .priceBucket(PriceBucket.FROM_10_TO_25)
+                .term("wireless nebula")
+                .build(),
+            10);
+
+    assertThat(result.getTotal()).isEqualTo(2);
+    assertThat(result.getProducts())
+        .extracting(Product::getName)
+        .containsExactlyInAnyOrder("Wireless Nebula Lamp", "Wireless Nebula Lamp Mini");
+
+    ProductFilterResult described =
+        repository.findAllByFilter(
+            ProductFilter.builder()
+                .term("lamp")
+                .hasDescription(true)
+                .excludedCategory("Garden")
+                .build(),
+            1);
+
+    assertThat(described.getTotal()).isEqualTo(3);
+    assertThat(described.getProducts()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("Should match nothing for a term without letters or digits")
+  void findAllByFilter_ShouldMatchNothing_WhenTermHasNoWordCharacters() {
+    repository.save(product("Nebula Lamp", "Home", 19.99f, "Soft light"));
+
+    ProductFilterResult result =
+        repository.findAllByFilter(ProductFilter.builder().term("--").build(), 10);
+
+    assertThat(result.getTotal()).isZero();
+    assertThat(result.getProducts()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should keep the bitmap index in step with updates and deletes")
+  void findAllByFilter_ShouldReflectWrites() {
+    Product lamp = repository.save(product("Nebula Lamp", "Home", 19.99f, "Soft light"));
+    ProductFilter cheapHome =
+        ProductFilter.builder().category("Home").priceBucket(PriceBucket.FROM_10_TO_25).build();
+
+    assertThat(repository.findAllByFilter(cheapHome, 10).getProducts()).containsExactly(lamp);
+
+    Product repriced = repository.save(lamp.toBuilder().price(99f).name("Comet Lamp").build());
+
+    assertThat(repository.findAllByFilter(cheapHome, 10).getTotal()).isZero();
+    assertThat(
+            repository
+                .findAllByFilter(ProductFilter.builder().term("comet").build(), 10)
+                .getProducts())
+        .containsExactly(repriced);
+    assertThat(
+            repository.findAllByFilter(ProductFilter.builder().term("nebula").build(), 10).getTotal())
+        .isZero();
+
+    repository.deleteById(lamp.getProductId());
+    Product replacement = repository.save(product("Nebula Lamp", "Home", 11f, "Again"));
+
+    assertThat(repository.findAllByFilter(cheapHome, 10).getProducts())
+        .containsExactly(replacement);
+    assertThat(repository.findAllByFilter(ProductFilter.builder().build(), 100).getTotal())
+        .isEqualTo(SEEDED_PRODUCTS + 1L);
+  }
+
+  @Test
+  @DisplayName("Should page through every shard in price order without gaps or overlaps")
+  void findAllSorted_ShouldPageInPriceOrder() {
+    for (int i = 0; i < 50; i++) {
+      repository.save(product("Toy " + i, "Toys", (i * 37) % 50 + 0.5f, "Generated"));
+    }
+    List<Product> expected =
+        repository.findAll().stream().sorted(ProductSort.PRICE.comparator()).toList();
+
+    List<Product> pages = new ArrayList<>();
+    for (int page = 0; page * 10 < expected.size(); page++) {
+      pages.addAll(repository.findAllSorted(ProductSort.PRICE, page * 10L, 10));
+    }
+
+    assertThat(pages).containsExactlyElementsOf(expected);
+    assertThat(repository.findAllSorted(ProductSort.PRICE_DESC, 0, 3))
+        .containsExactlyElementsOf(expected.reversed().subList(0, 3));
+  }
+
+  @Test
+  @DisplayName("Should order names ignoring case and move products whose sort key changes")
+  void findAllSorted_ShouldFollowWrites() {
+    Product beta = repository.save(product("beta lamp", "Home", 5f, "Generated"));
+    repository.save(product("Alpha Lamp", "Home", 6f, "Generated"));
+    repository.save(product("Gamma Lamp", "Garden", 7f, "Generated"));
+
+    assertThat(repository.findAllByCategorySorted("home", ProductSort.NAME, 0, 10))
+        .extracting(Product::getName)
+        .containsExactly("Alpha Lamp", "beta lamp");
+
+    Product renamed = repository.save(beta.toBuilder().name("Zeta Lamp").price(1f).build());
+
+    assertThat(repository.findAllByCategorySorted("Home", ProductSort.NAME_DESC, 0, 10))
+        .extracting(Product::getName)
+        .containsExactly("Zeta Lamp", "Alpha Lamp");
+    assertThat(repository.findAllSorted(ProductSort.PRICE, 0, 1)).containsExactly(renamed);
+
+    repository.deleteById(renamed.getProductId());
+
+    assertThat(repository.findAllByCategorySorted("Home", ProductSort.NAME, 0, 10))
+        .extracting(Product::getName)
+        .containsExactly("Alpha Lamp");
+    assertThat(repository.findAllSorted(ProductSort.NAME, 0, 100))
+        .hasSize(SEEDED_PRODUCTS + 2);
+  }
+
+  @Test
+  @DisplayName("Should page a category from its own views and follow products that move")
+  void findAllByCategorySorted_ShouldFollowCategoryChanges() {
+    List<Product> toys = saveProducts(30, "Toys");
+    Product moved = repository.save(toys.get(0).toBuilder().category("Games").build());
+    List<Product> expected =
+        repository.findAllByCategory("Toys").stream()
+            .sorted(ProductSort.PRICE.comparator())
+            .toList();
+
+    List<Product> pages = new ArrayList<>();
+    for (int page = 0; page < 3; page++) {
+      pages.addAll(repository.findAllByCategorySorted("toys", ProductSort.PRICE, page * 10L, 10));
+    }
+
+    assertThat(pages).hasSize(29).containsExactlyElementsOf(expected);
+    assertThat(repository.findAllByCategorySorted("Games", ProductSort.NAME, 0, 10))
+        .containsExactly(moved);
+
+    repository.deleteById(moved.getProductId());
+
+    assertThat(repository.findAllByCategorySorted("Games", ProductSort.NAME, 0, 10)).isEmpty();
+    assertThat(repository.findAllByCategorySorted("Nope", ProductSort.NAME, 0, 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should move product and category versions forward on writes in any shard")
+  void save_ShouldAdvanceVersions() {
+    long catalogVersion = repository.getVersion();
+    long categoryVersion = repository.getCategoryVersion("Toys");
+
+    List<Product> saved = saveProducts(16, "Toys");
+    long afterCreate = repository.getCategoryVersion("toys");
+    Product updated = saved.get(5).toBuilder().price(1.5f).build();
+    long productVersion = repository.findVersionById(updated.getProductId()).orElseThrow();
+    repository.save(updated);
+
+    assertThat(repository.getVersion()).isEqualTo(catalogVersion + 17);
+    assertThat(afterCreate).isGreaterThan(categoryVersion);
+    assertThat(repository.getCategoryVersion("Toys")).isGreaterThan(afterCreate);
+    assertThat(repository.findVersionById(updated.getProductId()).orElseThrow())
+        .isGreaterThan(productVersion);
+    assertThat(repository.findChangesSince(catalogVersion).getProducts()).hasSize(16);
+  }
+
+  @Test
+  @DisplayName("Should publish each write in storage order with its change log version")
+  void writes_ShouldPublishEventsWithChangeLogVersion() {
+    List<ProductChangedEvent> events = new ArrayList<>();
+    repository = new ProductRepository(8, event -> events.add((ProductChangedEvent) event));
+    Product toy = product("Toy", "Toys");
+    long catalogVersion = repository.getVersion();
+
+    repository.save(toy);
+    repository.save(toy.toBuilder().price(2.5f).build());
+    repository.deleteById(toy.getProductId());
+
+    assertThat(events)
+        .extracting(ProductChangedEvent::getType)
+        .containsExactly(
+            ProductChangeType.CREATED, ProductChangeType.UPDATED, ProductChangeType.DELETED);
+    assertThat(events)
+        .extracting(ProductChangedEvent::getVersion)
+        .containsExactly(catalogVersion + 1, catalogVersion + 2, catalogVersion + 3);
+    assertThat(events.get(1).getProduct().getPrice()).isEqualTo(2.5f);
+    assertThat(events.get(2).getProduct()).isNull();
+  }
+
+  @Test
+  @DisplayName("Should bump the versions of both categories when a product moves")
+  void save_ShouldBumpPreviousCategory_WhenCategoryChanges() {
+    Product toy = saveProducts(1, "Toys").get(0);
+    long toysVersion = repository.getCategoryVersion("Toys");
+    long gamesVersion = repository.getCategoryVersion("Games");
+
+    repository.save(toy.toBuilder().category("Games").build());
+
+    assertThat(repository.getCategoryVersion("Toys")).isGreaterThan(toysVersion);
+    assertThat(repository.getCategoryVersion("Games")).isGreaterThan(gamesVersion);
+  }
+
+  @Test
+  @DisplayName("Should count a category's products across shards, ignoring case")
+  void countByCategory_ShouldCountAcrossShards() {
+    List<Product> saved = saveProducts(16, "Toys");
+    repository.deleteById(saved.get(0).getProductId());
+
+    assertThat(repository.countByCategory("toys")).isEqualTo(15);
+    assertThat(repository.countByCategory("Electronics")).isEqualTo(2);
+    assertThat(repository.countByCategory("Nope")).isZero();
+  }
+
+  private List<Product> saveProducts(int count, String category) {
+    List<Product> saved = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      saved.add(repository.save(product("Toy " + i, category)));
+    }
+    return saved;
+  }
+
+  private static Product product(String name, String category) {
+    return product(name, category, 9.99f, "Generated product");
+  }
+
+  private static Product product(String name, String category, float price, String description) {
+    return Product.builder()
+        .productId(UUID.randomUUID())
+        .category(category)
+        .name(name)
+        .description(description)
+        .price(price)
+        .build();
+  }
+}
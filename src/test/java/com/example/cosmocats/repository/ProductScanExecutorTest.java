@@ -0,0 +1,115 @@
+package com.example.cosmocats.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.cosmocats.domain.Product;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Product Scan Executor Tests")
+class ProductScanExecutorTest {
+
+  private static final Comparator<Product> BY_PRICE =
+      Comparator.comparing(Product::getPrice).thenComparing(Product::getProductId);
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Should return the same top matches in parallel as sequentially")
+  void execute_ShouldMatchSequentialResults_WhenRunInParallel() {
+    List<Collection<Product>> segments = segments(4, 20_000);
+    Predicate<Product> filter = product -> product.getDescription().contains("7");
+
+    List<Product> sequential =
+        new ProductScanExecutor(pool, Long.MAX_VALUE).execute(segments, filter, BY_PRICE, 50);
+    List<Product> parallel =
+        new ProductScanExecutor(pool, 0).execute(segments, filter, BY_PRICE, 50);
+
+    assertThat(parallel).hasSize(50).isSortedAccordingTo(BY_PRICE).isEqualTo(sequential);
+    assertThat(parallel).allMatch(filter);
+  }
+
+  @Test
+  @DisplayName("Should fork leaf tasks only above the parallel threshold")
+  void execute_ShouldStayOnCallingThread_BelowThreshold() {
+    List<Collection<Product>> segments = segments(4, 4 * ProductScanExecutor.LEAF_SIZE);
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    Predicate<Product> recordThread =
+        product -> {
+          threads.add(Thread.currentThread());
+          return true;
+        };
+
+    new ProductScanExecutor(pool, Long.MAX_VALUE).execute(segments, recordThread, BY_PRICE, 1);
+
+    assertThat(threads).containsExactly(Thread.currentThread());
+    assertThat(pool.getPoolSize()).isZero();
+
+    new ProductScanExecutor(pool, 0).execute(segments, recordThread, BY_PRICE, 1);
+
+    assertThat(pool.getPoolSize()).isPositive();
+  }
+
+  @Test
+  @DisplayName("Should return every match in order when the limit exceeds the matches")
+  void execute_ShouldReturnAllMatches_WhenLimitIsLarge() {
+    List<Collection<Product>> segments = segments(2, 10_000);
+
+    List<Product> all =
+        new ProductScanExecutor(pool, 0)
+            .execute(segments, product -> true, BY_PRICE, Integer.MAX_VALUE);
+
+    assertThat(all).hasSize(10_000).isSortedAccordingTo(BY_PRICE);
+  }
+
+  @Test
+  @DisplayName("Should merge sorted lists and stop at the limit")
+  void merge_ShouldInterleaveAndTruncate() {
+    Product a = product(1);
+    Product b = product(2);
+    Product c = product(3);
+    Product d = product(4);
+
+    Comparator<Product> byName = Comparator.comparing(Product::getName);
+
+    assertThat(ProductScanExecutor.merge(List.of(a, c), List.of(b, d), byName, 3))
+        .containsExactly(a, b, c);
+  }
+
+  private static List<Collection<Product>> segments(int count, int size) {
+    List<ConcurrentHashMap<UUID, Product>> maps = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      maps.add(new ConcurrentHashMap<>());
+    }
+    for (int i = 0; i < size; i++) {
+      Product product = product(i);
+      maps.get(i % count).put(product.getProductId(), product);
+    }
+    return maps.stream().map(ConcurrentHashMap::values).toList();
+  }
+
+  private static Product product(int i) {
+    return Product.builder()
+        .productId(UUID.randomUUID())
+        .category("Generated")
+        .name("Product " + i)
+        .description("Product number " + i)
+        .price((i * 7919) % 10_007 / 10f)
+        .build();
+  }
+}
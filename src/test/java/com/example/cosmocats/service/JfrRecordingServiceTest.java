@@ -0,0 +1,83 @@
+package com.example.cosmocats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.cosmocats.dto.diagnostics.RecordingDto;
+import com.example.cosmocats.exception.RecordingNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("JFR Recording Service Tests")
+class JfrRecordingServiceTest {
+
+  private final JfrRecordingService jfrRecordingService = new JfrRecordingService();
+
+  @TempDir
+  private Path tempDir;
+
+  @AfterEach
+  void tearDown() {
+    jfrRecordingService.stopRecording();
+  }
+
+  @Test
+  @DisplayName("Should start a bounded recording")
+  void startRecording_ShouldApplyLimits() {
+    RecordingDto recording = jfrRecordingService.startRecording(Duration.ofSeconds(30), 1_048_576);
+
+    assertThat(recording.getName()).isEqualTo(JfrRecordingService.RECORDING_NAME);
+    assertThat(recording.getState()).isEqualTo("RUNNING");
+    assertThat(recording.getDurationSeconds()).isEqualTo(30);
+    assertThat(recording.getMaxSizeBytes()).isEqualTo(1_048_576);
+  }
+
+  @Test
+  @DisplayName("Should dump a readable recording while it is running")
+  void dumpRecording_ShouldReturnJfrFile() throws IOException {
+    jfrRecordingService.startRecording(Duration.ofSeconds(30), 1_048_576);
+
+    byte[] dump = jfrRecordingService.dumpRecording();
+
+    Path file = Files.write(tempDir.resolve("dump.jfr"), dump);
+    try (RecordingFile recordingFile = new RecordingFile(file)) {
+      assertThat(recordingFile.hasMoreEvents()).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("Should replace the previous recording when started again")
+  void startRecording_ShouldReplacePreviousRecording() {
+    RecordingDto first = jfrRecordingService.startRecording(Duration.ofSeconds(30), 1_048_576);
+
+    RecordingDto second = jfrRecordingService.startRecording(Duration.ofSeconds(30), 1_048_576);
+
+    assertThat(second.getId()).isNotEqualTo(first.getId());
+    assertThat(jfrRecordingService.getRecording().getId()).isEqualTo(second.getId());
+  }
+
+  @Test
+  @DisplayName("Should fail when no recording was started")
+  void dumpRecording_ShouldThrow_WhenNoRecording() {
+    assertThatThrownBy(jfrRecordingService::dumpRecording)
+        .isInstanceOf(RecordingNotFoundException.class);
+  }
+
+  @Test
+  @DisplayName("Should forget the recording once stopped")
+  void stopRecording_ShouldCloseRecording() {
+    jfrRecordingService.startRecording(Duration.ofSeconds(30), 1_048_576);
+
+    jfrRecordingService.stopRecording();
+
+    assertThatThrownBy(jfrRecordingService::getRecording)
+        .isInstanceOf(RecordingNotFoundException.class);
+  }
+}
@@ -7,18 +7,29 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.domain.ProductChangeSet;
+import com.example.cosmocats.domain.ProductFilter;
+import com.example.cosmocats.domain.ProductFilterResult;
+import com.example.cosmocats.domain.ProductSort;
+import com.example.cosmocats.dto.product.ProductBatchDto;
+import com.example.cosmocats.dto.product.ProductChangesDto;
 import com.example.cosmocats.dto.product.ProductDto;
 import com.example.cosmocats.dto.product.ProductListDto;
+import com.example.cosmocats.dto.product.ProductQueryResultDto;
 import com.example.cosmocats.dto.product.ProductUpdateDto;
 import com.example.cosmocats.exception.ProductAlreadyExistsException;
 import com.example.cosmocats.exception.ProductNotFoundException;
+import com.example.cosmocats.projection.ProductProjection;
+import com.example.cosmocats.projection.ProjectedProductList;
 import com.example.cosmocats.repository.ProductRepository;
 import com.example.cosmocats.service.mapper.ProductMapper;
 import java.util.*;
+import java.util.function.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -351,22 +362,12 @@ class ProductServiceTest {
   @Test
   @DisplayName("Should return filtered products by category")
   void getProductsByCategory_ShouldReturnFilteredProducts_WhenCategoryExists() {
-    Product product2 =
-        Product.builder()
-            .productId(UUID.fromString("550e8400-e29b-41d4-a716-446655440002"))
-            .category("Books")
-            .name("Space Book")
-            .description("Book about space exploration")
-            .price(29.99f)
-            .build();
-
-    List<Product> allProducts = Arrays.asList(product, product2);
     List<Product> electronicsProducts = List.of(product);
 
     ProductListDto electronicsProductListDto =
         ProductListDto.builder().products(List.of(productDto)).build();
 
-    when(productRepository.findAll()).thenReturn(allProducts);
+    when(productRepository.findAllByCategory("Electronics")).thenReturn(electronicsProducts);
     when(productMapper.toProductListDto(electronicsProducts)).thenReturn(electronicsProductListDto);
 
     ProductListDto result = productService.getProductsByCategory("Electronics");
@@ -377,19 +378,19 @@ class ProductServiceTest {
     assertThat(result.getProducts().get(0).getName()).isEqualTo("Quantum Phone X1");
     assertThat(result.getProducts().get(0).getPrice()).isEqualTo(999.99f);
 
-    verify(productRepository).findAll();
+    verify(productRepository).findAllByCategory("Electronics");
+    verify(productRepository, never()).findAll();
     verify(productMapper).toProductListDto(electronicsProducts);
   }
 
   @Test
   @DisplayName("Should return empty list when no products in category")
   void getProductsByCategory_ShouldReturnEmptyList_WhenNoProductsInCategory() {
-    List<Product> allProducts = Collections.singletonList(product);
     List<Product> emptyProducts = List.of();
 
     ProductListDto emptyProductListDto = ProductListDto.builder().products(List.of()).build();
 
-    when(productRepository.findAll()).thenReturn(allProducts);
+    when(productRepository.findAllByCategory("NonExistentCategory")).thenReturn(emptyProducts);
     when(productMapper.toProductListDto(emptyProducts)).thenReturn(emptyProductListDto);
 
     ProductListDto result = productService.getProductsByCategory("NonExistentCategory");
@@ -397,20 +398,19 @@ class ProductServiceTest {
     assertThat(result).isNotNull();
     assertThat(result.getProducts()).isEmpty();
 
-    verify(productRepository).findAll();
+    verify(productRepository).findAllByCategory("NonExistentCategory");
     verify(productMapper).toProductListDto(emptyProducts);
   }
 
   @Test
   @DisplayName("Should handle case insensitive category filtering")
   void getProductsByCategory_ShouldBeCaseInsensitive() {
-    List<Product> allProducts = Collections.singletonList(product);
     List<Product> electronicsProducts = List.of(product);
 
     ProductListDto electronicsProductListDto =
         ProductListDto.builder().products(List.of(productDto)).build();
 
-    when(productRepository.findAll()).thenReturn(allProducts);
+    when(productRepository.findAllByCategory("electronics")).thenReturn(electronicsProducts);
     when(productMapper.toProductListDto(electronicsProducts)).thenReturn(electronicsProductListDto);
 
     ProductListDto result = productService.getProductsByCategory("electronics");
@@ -420,7 +420,187 @@ class ProductServiceTest {
     assertThat(result.getProducts().get(0).getCategory()).isEqualTo("Electronics");
     assertThat(result.getProducts().get(0).getName()).isEqualTo("Quantum Phone X1");
 
-    verify(productRepository).findAll();
+    verify(productRepository).findAllByCategory("electronics");
     verify(productMapper).toProductListDto(electronicsProducts);
   }
+
+  @Test
+  @DisplayName("Should search names and descriptions ignoring case")
+  @SuppressWarnings("unchecked")
+  void searchProducts_ShouldMatchNameOrDescriptionIgnoringCase() {
+    ProductListDto matches = ProductListDto.builder().products(List.of(productDto)).build();
+    when(productRepository.search(any(), any(), eq(10))).thenReturn(List.of(product));
+    when(productMapper.toProductListDto(List.of(product))).thenReturn(matches);
+
+    ProductListDto result = productService.searchProducts("QUANTUM", 10);
+
+    assertThat(result).isSameAs(matches);
+    ArgumentCaptor<Predicate<Product>> filter = ArgumentCaptor.forClass(Predicate.class);
+    verify(productRepository).search(filter.capture(), any(), eq(10));
+    Product describedOnly =
+        product.toBuilder().name("Phone").description("Runs on a quantum core").build();
+    Product unrelated = product.toBuilder().name("Star Map").description(null).build();
+    assertThat(filter.getValue().test(product)).isTrue();
+    assertThat(filter.getValue().test(describedOnly)).isTrue();
+    assertThat(filter.getValue().test(unrelated)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should project products without mapping them to DTOs")
+  void getAllProducts_ShouldProjectWithoutMapping_WhenProjectionGiven() {
+    ProductProjection projection = ProductProjection.of("name");
+    when(productRepository.findAll()).thenReturn(List.of(product));
+
+    ProjectedProductList result = productService.getAllProducts(projection);
+
+    assertThat(result).isNotNull();
+    verify(productRepository).findAll();
+    verifyNoInteractions(productMapper);
+  }
+
+  @Test
+  @DisplayName("Should return the filter total together with the mapped page")
+  void queryProducts_ShouldMapRepositoryResult() {
+    ProductFilter filter = ProductFilter.builder().category("Electronics").term("quantum").build();
+    ProductFilterResult filterResult =
+        ProductFilterResult.builder().total(7).products(List.of(product)).build();
+    ProductQueryResultDto resultDto =
+        ProductQueryResultDto.builder().total(7).products(List.of(productDto)).build();
+    when(productRepository.findAllByFilter(filter, 1)).thenReturn(filterResult);
+    when(productMapper.toProductQueryResultDto(filterResult)).thenReturn(resultDto);
+
+    ProductQueryResultDto result = productService.queryProducts(filter, 1);
+
+    assertThat(result.getTotal()).isEqualTo(7);
+    assertThat(result.getProducts()).containsExactly(productDto);
+    verify(productRepository).findAllByFilter(filter, 1);
+  }
+
+  @Test
+  @DisplayName("Should read sorted pages from the repository at the page offset")
+  void getProductsPage_ShouldRequestPageOffset() {
+    ProductListDto pageDto = ProductListDto.builder().products(List.of(productDto)).build();
+    when(productRepository.count()).thenReturn(100L);
+    when(productRepository.countByCategory("Electronics")).thenReturn(30L);
+    when(productRepository.findAllSorted(ProductSort.PRICE_DESC, 40L, 20))
+        .thenReturn(List.of(product));
+    when(productRepository.findAllByCategorySorted("Electronics", ProductSort.NAME, 20L, 10))
+        .thenReturn(List.of(product));
+    when(productMapper.toProductListDto(List.of(product))).thenReturn(pageDto);
+
+    assertThat(productService.getProductsPage(ProductSort.PRICE_DESC, 2, 20)).isSameAs(pageDto);
+    assertThat(productService.getProductsByCategoryPage("Electronics", ProductSort.NAME, 2, 10))
+        .isSameAs(pageDto);
+
+    verify(productRepository, never()).findAll();
+    verify(productRepository, never()).findAllByCategory(any());
+  }
+
+  @Test
+  @DisplayName("Should not read pages past the end of the list")
+  void getProductsByCategoryPage_ShouldSkipRepository_WhenPastTheEnd() {
+    when(productRepository.countByCategory("Electronics")).thenReturn(20L);
+    when(productRepository.count()).thenReturn(40L);
+    when(productMapper.toProductListDto(List.of()))
+        .thenReturn(ProductListDto.builder().products(List.of()).build());
+
+    assertThat(
+            productService
+                .getProductsByCategoryPage("Electronics", ProductSort.NAME, 2, 10)
+                .getProducts())
+        .isEmpty();
+    assertThat(
+            productService
+                .getProductsByCategoryPage("Made Up", ProductSort.PRICE, 0, 10)
+                .getProducts())
+        .isEmpty();
+    assertThat(productService.getProductsPage(ProductSort.PRICE, 4, 10).getProducts()).isEmpty();
+
+    verify(productRepository, never()).findAllByCategorySorted(any(), any(), anyLong(), anyInt());
+    verify(productRepository, never()).findAllSorted(any(), anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Should expose repository catalog and category versions")
+  void versions_ShouldDelegateToRepository() {
+    when(productRepository.getVersion()).thenReturn(5L);
+    when(productRepository.getCategoryVersion("Electronics")).thenReturn(3L);
+
+    assertThat(productService.getCatalogVersion()).isEqualTo(5L);
+    assertThat(productService.getCategoryVersion("Electronics")).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("Should expose repository product version")
+  void findProductVersion_ShouldDelegateToRepository() {
+    when(productRepository.findVersionById(productId)).thenReturn(Optional.of(2L));
+
+    assertThat(productService.findProductVersion(productId)).contains(2L);
+  }
+
+  @Test
+  @DisplayName("Should return product changes since version")
+  void getProductChanges_ShouldReturnChanges() {
+    UUID deletedId = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    ProductChangeSet changeSet =
+        ProductChangeSet.builder()
+            .version(4L)
+            .products(List.of(product))
+            .deletedIds(List.of(deletedId))
+            .build();
+    ProductChangesDto changesDto =
+        ProductChangesDto.builder()
+            .version(4L)
+            .products(List.of(productDto))
+            .deletedIds(List.of(deletedId))
+            .build();
+
+    when(productRepository.findChangesSince(2L)).thenReturn(changeSet);
+    when(productMapper.toProductChangesDto(changeSet)).thenReturn(changesDto);
+
+    ProductChangesDto result = productService.getProductChanges(2L);
+
+    assertThat(result.getVersion()).isEqualTo(4L);
+    assertThat(result.getProducts()).containsExactly(productDto);
+    assertThat(result.getDeletedIds()).containsExactly(deletedId);
+  }
+
+  @Test
+  @DisplayName("Should tell client to resync when version is too old")
+  void getProductChanges_ShouldRequireResync_WhenVersionTooOld() {
+    ProductChangeSet changeSet =
+        ProductChangeSet.builder()
+            .version(20_000L)
+            .resyncRequired(true)
+            .products(List.of())
+            .deletedIds(List.of())
+            .build();
+    ProductChangesDto changesDto =
+        ProductChangesDto.builder().version(20_000L).resyncRequired(true).build();
+
+    when(productRepository.findChangesSince(1L)).thenReturn(changeSet);
+    when(productMapper.toProductChangesDto(changeSet)).thenReturn(changesDto);
+
+    ProductChangesDto result = productService.getProductChanges(1L);
+
+    assertThat(result.isResyncRequired()).isTrue();
+    assertThat(result.getVersion()).isEqualTo(20_000L);
+  }
+
+  @Test
+  @DisplayName("Should return found products and missing ids for batch lookup")
+  void getProductsByIds_ShouldReturnFoundAndMissing() {
+    UUID missingId = UUID.fromString("550e8400-e29b-41d4-a716-446655440099");
+    List<UUID> ids = List.of(productId, missingId, productId);
+
+    when(productRepository.findAllById(ids)).thenReturn(Map.of(productId, product));
+    when(productMapper.toProductDtoList(List.of(product))).thenReturn(List.of(productDto));
+
+    ProductBatchDto result = productService.getProductsByIds(ids);
+
+    assertThat(result.getProducts()).containsExactly(productDto);
+    assertThat(result.getMissingIds()).containsExactly(missingId);
+    verify(productRepository).findAllById(ids);
+    verify(productRepository, never()).findById(any());
+  }
 }
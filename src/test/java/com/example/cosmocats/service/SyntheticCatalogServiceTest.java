@@ -0,0 +1,98 @@
+package com.example.cosmocats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.example.cosmocats.config.SyntheticCatalogProperties;
+import com.example.cosmocats.domain.ProductChangeSet;
+import com.example.cosmocats.domain.event.ProductChangeType;
+import com.example.cosmocats.domain.event.ProductChangedEvent;
+import com.example.cosmocats.dto.product.SyntheticCatalogDto;
+import com.example.cosmocats.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Synthetic Catalog Service Tests")
+class SyntheticCatalogServiceTest {
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private ProductRepository productRepository;
+  private SyntheticCatalogProperties syntheticCatalogProperties;
+  private SyntheticCatalogService syntheticCatalogService;
+
+  @BeforeEach
+  void setUp() {
+    productRepository = new ProductRepository();
+    syntheticCatalogProperties = new SyntheticCatalogProperties();
+    syntheticCatalogService =
+        new SyntheticCatalogService(productRepository, eventPublisher, syntheticCatalogProperties);
+  }
+
+  @Test
+  @DisplayName("Should add generated products to the catalog under one version")
+  void loadCatalog_ShouldAddProductsUnderOneVersion() {
+    long initialCount = productRepository.count();
+
+    SyntheticCatalogDto catalog = syntheticCatalogService.loadCatalog(5_000, 7L);
+
+    assertThat(catalog.getGeneratedProducts()).isEqualTo(5_000);
+    assertThat(catalog.getSeed()).isEqualTo(7L);
+    assertThat(catalog.getTotalProducts()).isEqualTo(initialCount + 5_000);
+    assertThat(catalog.getCatalogVersion()).isEqualTo(1L);
+    assertThat(productRepository.getVersion()).isEqualTo(1L);
+    assertThat(productRepository.getCategoryVersion("Electronics")).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("Should overwrite the same products when reloading with the same seed")
+  void loadCatalog_ShouldBeIdempotent_ForSameSeed() {
+    syntheticCatalogService.loadCatalog(1_000, 7L);
+
+    SyntheticCatalogDto catalog = syntheticCatalogService.loadCatalog(1_000, 7L);
+
+    assertThat(catalog.getTotalProducts()).isEqualTo(1_004L);
+  }
+
+  @Test
+  @DisplayName("Should fall back to the configured seed and ask change clients to resync")
+  void loadCatalog_ShouldUseConfiguredSeedAndRequestResync() {
+    syntheticCatalogProperties.setSeed(99L);
+
+    SyntheticCatalogDto catalog = syntheticCatalogService.loadCatalog(10, null);
+
+    assertThat(catalog.getSeed()).isEqualTo(99L);
+    ProductChangeSet changeSet = productRepository.findChangesSince(0L);
+    assertThat(changeSet.isResyncRequired()).isTrue();
+    ArgumentCaptor<ProductChangedEvent> event = ArgumentCaptor.forClass(ProductChangedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertThat(event.getValue().getType()).isEqualTo(ProductChangeType.RESYNC);
+  }
+
+  @Test
+  @DisplayName("Should load the configured catalog at startup, refusing traffic, only when set")
+  void run_ShouldLoadConfiguredCatalog_WhenSizeSet() {
+    syntheticCatalogService.run(null);
+    assertThat(productRepository.count()).isEqualTo(4L);
+    verifyNoInteractions(eventPublisher);
+
+    syntheticCatalogProperties.setSize(100);
+    syntheticCatalogService.run(null);
+    assertThat(productRepository.count()).isEqualTo(104L);
+    ArgumentCaptor<ApplicationEvent> event = ArgumentCaptor.forClass(ApplicationEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertThat(((AvailabilityChangeEvent<?>) event.getValue()).getState())
+        .isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+  }
+}
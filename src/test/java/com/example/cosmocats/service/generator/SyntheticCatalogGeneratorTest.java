@@ -0,0 +1,109 @@
+package com.example.cosmocats.service.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.cosmocats.domain.Product;
+import com.example.cosmocats.validation.CosmicWordValidator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Synthetic Catalog Generator Tests")
+class SyntheticCatalogGeneratorTest {
+
+  private static final int CATALOG_SIZE = 20_000;
+
+  private final List<Product> catalog = new SyntheticCatalogGenerator(42L).generateCatalog(CATALOG_SIZE);
+
+  @Test
+  @DisplayName("Should generate the same catalog for the same seed")
+  void generate_ShouldBeDeterministic_ForSameSeed() {
+    SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(42L);
+
+    assertThat(generator.generateCatalog(CATALOG_SIZE)).isEqualTo(catalog);
+    assertThat(generator.generateProduct(1234L)).isEqualTo(catalog.get(1234));
+  }
+
+  @Test
+  @DisplayName("Should generate a different catalog for a different seed")
+  void generate_ShouldDiffer_ForDifferentSeed() {
+    Product other = new SyntheticCatalogGenerator(43L).generateProduct(0L);
+
+    assertThat(other.getProductId()).isNotEqualTo(catalog.get(0).getProductId());
+  }
+
+  @Test
+  @DisplayName("Should generate unique ids and names")
+  void generate_ShouldProduceUniqueIdsAndNames() {
+    assertThat(catalog).extracting(Product::getProductId).doesNotHaveDuplicates();
+    assertThat(catalog).extracting(Product::getName).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @DisplayName("Should generate names that do not collide with another seed's catalog")
+  void generate_ShouldProduceDistinctNames_ForDifferentSeeds() {
+    Set<String> names = catalog.stream().map(Product::getName).collect(Collectors.toSet());
+
+    assertThat(new SyntheticCatalogGenerator(43L).generateCatalog(CATALOG_SIZE))
+        .extracting(Product::getName)
+        .noneMatch(names::contains);
+    assertThat(new SyntheticCatalogGenerator(-1L).generateProduct(0L).getName())
+        .hasSizeLessThanOrEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("Should generate names that pass the cosmic word check")
+  void generate_ShouldProduceCosmicNames() {
+    CosmicWordValidator validator = new CosmicWordValidator();
+
+    assertThat(catalog.subList(0, 1000))
+        .allSatisfy(
+            product -> {
+              assertThat(validator.isValid(product.getName(), null)).isTrue();
+              assertThat(product.getName()).hasSizeLessThanOrEqualTo(100);
+            });
+  }
+
+  @Test
+  @DisplayName("Should skew products towards the most popular categories")
+  void generate_ShouldSkewCategoryDistribution() {
+    Map<String, Long> perCategory =
+        catalog.stream()
+            .collect(Collectors.groupingBy(Product::getCategory, Collectors.counting()));
+
+    long first = perCategory.get(SyntheticCatalogGenerator.CATEGORIES.get(0));
+    long last = perCategory.get(SyntheticCatalogGenerator.CATEGORIES.getLast());
+    assertThat(perCategory).hasSize(SyntheticCatalogGenerator.CATEGORIES.size());
+    assertThat(first).isGreaterThan(CATALOG_SIZE / 5);
+    assertThat(first).isGreaterThan(last * 10);
+  }
+
+  @Test
+  @DisplayName("Should generate long-tail prices within bounds")
+  void generate_ShouldProduceLongTailPrices() {
+    List<Float> prices = catalog.stream().map(Product::getPrice).sorted().toList();
+
+    float median = prices.get(prices.size() / 2);
+    float p99 = prices.get(prices.size() * 99 / 100);
+    assertThat(prices.getFirst()).isGreaterThanOrEqualTo(SyntheticCatalogGenerator.MIN_PRICE);
+    assertThat(prices.getLast()).isLessThanOrEqualTo(SyntheticCatalogGenerator.MAX_PRICE);
+    assertThat(median).isBetween(15f, 40f);
+    assertThat(p99).isGreaterThan(median * 10);
+  }
+
+  @Test
+  @DisplayName("Should spread products over every category term")
+  void generate_ShouldUseManyCosmicTerms() {
+    Map<String, Product> byTerm =
+        catalog.stream()
+            .collect(
+                Collectors.toMap(
+                    product -> product.getName().split(" ")[1], Function.identity(), (a, b) -> a));
+
+    assertThat(byTerm.size()).isGreaterThan(10);
+  }
+}
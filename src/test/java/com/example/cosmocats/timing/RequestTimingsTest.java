@@ -0,0 +1,64 @@
+package com.example.cosmocats.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Request Timings Tests")
+class RequestTimingsTest {
+
+  @AfterEach
+  void tearDown() {
+    RequestTimings current = RequestTimings.current();
+    if (current != null) {
+      current.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Should run actions untimed when no request is being recorded")
+  void time_ShouldJustRun_WhenNotRecording() {
+    String result = RequestTimings.time(ServerTimingPhase.MAPPER, () -> "Galaxy Phone");
+
+    assertThat(result).isEqualTo("Galaxy Phone");
+    assertThat(RequestTimings.current()).isNull();
+  }
+
+  @Test
+  @DisplayName("Should report only the phases that ran plus the total")
+  void toHeaderValue_ShouldListRecordedPhases() {
+    RequestTimings timings = RequestTimings.open();
+
+    RequestTimings.time(ServerTimingPhase.REPOSITORY, () -> "Quantum Phone X1");
+    RequestTimings.time(ServerTimingPhase.SERIALIZATION, () -> "{}");
+
+    assertThat(timings.toHeaderValue())
+        .matches("repository;dur=\\d+\\.\\d{3}, serialization;dur=\\d+\\.\\d{3}, total;dur=.*");
+  }
+
+  @Test
+  @DisplayName("Should count nested calls of the same phase once")
+  void begin_ShouldCountNestedPhaseOnce() throws InterruptedException {
+    RequestTimings timings = RequestTimings.open();
+
+    timings.begin(ServerTimingPhase.MAPPER);
+    timings.begin(ServerTimingPhase.MAPPER);
+    Thread.sleep(5);
+    timings.end(ServerTimingPhase.MAPPER);
+    long afterInner = timings.getDurationNanos(ServerTimingPhase.MAPPER);
+    timings.end(ServerTimingPhase.MAPPER);
+
+    assertThat(afterInner).isZero();
+    assertThat(timings.getDurationNanos(ServerTimingPhase.MAPPER)).isGreaterThan(5_000_000L);
+  }
+
+  @Test
+  @DisplayName("Should stop recording once closed")
+  void close_ShouldDetachFromThread() {
+    RequestTimings.open().close();
+
+    assertThat(RequestTimings.current()).isNull();
+  }
+}
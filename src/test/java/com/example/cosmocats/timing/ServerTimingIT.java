@@ -0,0 +1,80 @@
+package com.example.cosmocats.timing;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.cosmocats.AbstractIt;
+import com.example.cosmocats.timing.web.ServerTimingFilter;
+import java.util.Collections;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "application.server-timing.enabled=true")
+@DisplayName("Server Timing IT")
+class ServerTimingIT extends AbstractIt {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("Should break a product read into repository, mapper and serialization")
+  void getProduct_ShouldReportReadPhases() throws Exception {
+    UUID productId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+    mockMvc
+        .perform(get("/api/v1/products/{id}", productId).accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.name").value("Quantum Phone X1"))
+        .andExpect(
+            header()
+                .string(
+                    ServerTimingFilter.SERVER_TIMING_HEADER,
+                    allOf(
+                        containsString("repository;dur="),
+                        containsString("mapper;dur="),
+                        containsString("serialization;dur="),
+                        containsString("total;dur="))));
+  }
+
+  @Test
+  @DisplayName("Should report parse and validation for rejected product writes")
+  void createProduct_ShouldReportParseAndValidation() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/admin/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    """
+                    {"category": "Toys", "name": "Plain Teddy Bear", "price": 9.99}
+                    """))
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            header()
+                .string(
+                    ServerTimingFilter.SERVER_TIMING_HEADER,
+                    allOf(containsString("parse;dur="), containsString("validation;dur="))));
+  }
+
+  @Test
+  @DisplayName("Should keep method parameter validation working")
+  void getProductsByIds_ShouldStillRejectOversizedBatch() throws Exception {
+    String ids = String.join(",", Collections.nCopies(101, UUID.randomUUID().toString()));
+
+    mockMvc
+        .perform(get("/api/v1/products/batch").param("ids", ids))
+        .andExpect(status().isBadRequest())
+        .andExpect(header().exists(ServerTimingFilter.SERVER_TIMING_HEADER));
+  }
+}
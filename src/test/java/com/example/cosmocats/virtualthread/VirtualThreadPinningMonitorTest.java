@@ -0,0 +1,88 @@
+package com.example.cosmocats.virtualthread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Virtual Thread Pinning Monitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private VirtualThreadPinningMonitor monitor;
+
+  @BeforeEach
+  void setUp() {
+    monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10), 8, meterRegistry);
+    monitor.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    monitor.close();
+  }
+
+  @Test
+  @DisplayName("Should report a virtual thread that blocks inside a monitor")
+  void onPinned_ShouldRecordPinning_WhenBlockingInsideSynchronized() throws Exception {
+    Object monitorLock = new Object();
+
+    Thread.ofVirtual()
+        .start(
+            () -> {
+              synchronized (monitorLock) {
+                sleep(Duration.ofMillis(50));
+              }
+            })
+        .join();
+
+    await().atMost(Duration.ofSeconds(15)).until(() -> monitor.getPinnedCount() > 0);
+    assertThat(meterRegistry.get("cosmocats.virtual-threads.pinned").timer().count())
+        .isEqualTo(monitor.getPinnedCount());
+  }
+
+  @Test
+  @DisplayName("Should not report a virtual thread that blocks while holding a ReentrantLock")
+  void onPinned_ShouldNotRecord_WhenBlockingInsideReentrantLock() throws Exception {
+    ReentrantLock lock = new ReentrantLock();
+    Object monitorLock = new Object();
+
+    Thread.ofVirtual()
+        .start(
+            () -> {
+              lock.lock();
+              try {
+                sleep(Duration.ofMillis(50));
+              } finally {
+                lock.unlock();
+              }
+            })
+        .join();
+    // A pinned marker afterwards shows the stream has caught up past the unpinned section.
+    Thread.ofVirtual()
+        .start(
+            () -> {
+              synchronized (monitorLock) {
+                sleep(Duration.ofMillis(50));
+              }
+            })
+        .join();
+
+    await().atMost(Duration.ofSeconds(15)).until(() -> monitor.getPinnedCount() > 0);
+    assertThat(monitor.getPinnedCount()).isEqualTo(1);
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}